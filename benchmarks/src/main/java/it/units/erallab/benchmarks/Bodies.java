@@ -0,0 +1,37 @@
+package it.units.erallab.benchmarks;
+
+import it.units.erallab.Material;
+import it.units.erallab.Utils;
+import it.units.erallab.hmsrobots.core.objects.ControllableVoxel;
+import it.units.erallab.hmsrobots.util.Grid;
+import org.apache.commons.lang3.SerializationUtils;
+
+// named bodies used as benchmark parameters
+public class Bodies {
+
+    private Bodies() {}
+
+    public static Grid<ControllableVoxel> build(String name) {
+        if (name.startsWith("box-")) {
+            int side = Integer.parseInt(name.replace("box-", ""));
+            return Grid.create(side, side, (x, y) -> SerializationUtils.clone(Material.softMaterial));
+        }
+        if (name.startsWith("opt-")) {
+            int index = Integer.parseInt(name.replace("opt-", ""));
+            Grid<ControllableVoxel> body = Utils.safelyDeserialize(Utils.optimizedBodies.get(index), Grid.class);
+            return Grid.create(body.getW(), body.getH(), (x, y) -> body.get(x, y) != null ? SerializationUtils.clone(Material.softMaterial) : null);
+        }
+        switch (name) {
+            case "box":
+                return Grid.create(5, 4, (x, y) -> new ControllableVoxel());
+            case "worm":
+                return Grid.create(10, 2, (x, y) -> new ControllableVoxel());
+            case "biped":
+                return Grid.create(6, 4, (x, y) -> (y > 1) || (x < 2 || x > 3) ? new ControllableVoxel() : null);
+            case "reversedT":
+                return Grid.create(6, 6, (x, y) -> (y < 2) || (x > 1 && x < 4) ? new ControllableVoxel() : null);
+            default:
+                throw new IllegalArgumentException(String.format("Unknown body name: %s", name));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package it.units.erallab.benchmarks;
+
+import it.units.erallab.AvalancheTermination;
+import it.units.erallab.BodyOptimization;
+import it.units.erallab.CriticalityEvaluator;
+import it.units.erallab.PulseSweep;
+import it.units.erallab.hmsrobots.core.objects.ControllableVoxel;
+import it.units.erallab.hmsrobots.util.Grid;
+import org.dyn4j.dynamics.Settings;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// the full body fitness of BodyOptimization, i.e., one pulse simulation per voxel plus the statistics
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 20)
+@Fork(1)
+public class BodyFitnessBenchmark {
+
+    @Param({
+            "box-2", "box-4", "box-6",
+            "opt-0", "opt-1", "opt-2", "opt-3", "opt-4", "opt-5", "opt-6", "opt-7", "opt-8", "opt-9"
+    })
+    public String bodyName;
+
+    private PulseSweep pulseSweep;
+    private Grid<ControllableVoxel> body;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        CriticalityEvaluator criticalityEvaluator = new CriticalityEvaluator(
+                30,
+                new Settings(),
+                AvalancheTermination.strict(),
+                CriticalityEvaluator.maxAvalancheDuration(100, 5)
+        );
+        pulseSweep = new PulseSweep(criticalityEvaluator, 0.4, 5, 100);
+        body = Bodies.build(bodyName);
+    }
+
+    @Benchmark
+    public double fitness() {
+        return BodyOptimization.criticalityFitness(body, pulseSweep);
+    }
+}
@@ -0,0 +1,64 @@
+package it.units.erallab.benchmarks;
+
+import it.units.erallab.CriticalityEvaluator;
+import it.units.erallab.PulseSweep;
+import it.units.erallab.WorldPool;
+import it.units.erallab.hmsrobots.core.objects.ControllableVoxel;
+import it.units.erallab.hmsrobots.core.objects.Robot;
+import it.units.erallab.hmsrobots.util.Grid;
+import org.apache.commons.lang3.SerializationUtils;
+import org.dyn4j.dynamics.Settings;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+// a single pulse simulation, i.e., one CriticalityEvaluator.apply
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class CriticalityEvaluatorBenchmark {
+
+    @Param({
+            "box-2", "box-4", "box-6", "box-8", "box-10",
+            "opt-0", "opt-1", "opt-2", "opt-3", "opt-4", "opt-5", "opt-6", "opt-7", "opt-8", "opt-9"
+    })
+    public String bodyName;
+
+    private final double finalT = 30;
+    private final double pulseDuration = 0.4;
+
+    private Settings settings;
+    private CriticalityEvaluator criticalityEvaluator;
+    private Grid<ControllableVoxel> body;
+    private Grid.Entry<ControllableVoxel> pulsedVoxel;
+    private Robot<?> robot;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        settings = new Settings();
+        criticalityEvaluator = new CriticalityEvaluator(finalT, settings);
+        body = Bodies.build(bodyName);
+        pulsedVoxel = body.stream().filter(e -> Objects.nonNull(e.getValue())).findFirst().orElseThrow();
+    }
+
+    @Setup(Level.Invocation)
+    public void buildRobot() {
+        robot = new Robot<>(
+                PulseSweep.pulseController(body.getW(), body.getH(), pulsedVoxel.getX(), pulsedVoxel.getY(), pulseDuration),
+                SerializationUtils.clone(body)
+        );
+    }
+
+    @Benchmark
+    public List<Double> apply(Steps steps) {
+        long before = WorldPool.steps();
+        List<Double> metrics = criticalityEvaluator.apply(robot);
+        steps.steps += WorldPool.steps() - before;
+        return metrics;
+    }
+}
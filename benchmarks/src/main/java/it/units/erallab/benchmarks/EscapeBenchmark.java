@@ -0,0 +1,63 @@
+package it.units.erallab.benchmarks;
+
+import com.google.common.collect.Lists;
+import it.units.erallab.Escape;
+import it.units.erallab.WorldPool;
+import it.units.erallab.hmsrobots.core.controllers.TimeFunctions;
+import it.units.erallab.hmsrobots.core.objects.ControllableVoxel;
+import it.units.erallab.hmsrobots.core.objects.Robot;
+import it.units.erallab.hmsrobots.tasks.Locomotion;
+import it.units.erallab.hmsrobots.util.Grid;
+import org.apache.commons.lang3.SerializationUtils;
+import org.dyn4j.dynamics.Settings;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Escape.apply with a phase controller
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class EscapeBenchmark {
+
+    @Param({"box", "worm", "biped", "reversedT"})
+    public String bodyName;
+
+    private final double finalT = 40;
+
+    private Settings settings;
+    private Escape escape;
+    private Grid<ControllableVoxel> body;
+    private TimeFunctions controller;
+    private Robot<?> robot;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        settings = new Settings();
+        escape = new Escape(
+                finalT,
+                Lists.newArrayList(Locomotion.Metric.TRAVEL_X_VELOCITY, Locomotion.Metric.CONTROL_POWER),
+                settings
+        );
+        body = Bodies.build(bodyName);
+        controller = JumpBenchmark.phaseController(body, new Random(0));
+    }
+
+    @Setup(Level.Invocation)
+    public void buildRobot() {
+        robot = new Robot<>(controller, SerializationUtils.clone(body));
+    }
+
+    @Benchmark
+    public List<Double> apply(Steps steps) {
+        long before = WorldPool.steps();
+        List<Double> results = escape.apply(robot);
+        steps.steps += WorldPool.steps() - before;
+        return results;
+    }
+}
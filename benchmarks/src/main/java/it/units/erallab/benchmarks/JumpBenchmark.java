@@ -0,0 +1,69 @@
+package it.units.erallab.benchmarks;
+
+import com.google.common.collect.Lists;
+import it.units.erallab.Jump;
+import it.units.erallab.WorldPool;
+import it.units.erallab.hmsrobots.core.controllers.TimeFunctions;
+import it.units.erallab.hmsrobots.core.objects.ControllableVoxel;
+import it.units.erallab.hmsrobots.core.objects.Robot;
+import it.units.erallab.hmsrobots.util.Grid;
+import org.apache.commons.lang3.SerializationUtils;
+import org.dyn4j.dynamics.Settings;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Jump.apply on the bowl terrain with a phase controller
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class JumpBenchmark {
+
+    @Param({"box", "worm", "biped", "reversedT"})
+    public String bodyName;
+
+    private final double finalT = 20;
+
+    private Settings settings;
+    private Jump jump;
+    private Grid<ControllableVoxel> body;
+    private TimeFunctions controller;
+    private Robot<?> robot;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        settings = new Settings();
+        jump = new Jump(
+                finalT,
+                Jump.createTerrain("bowl"),
+                1.0,
+                Lists.newArrayList(Jump.Metric.CENTER_JUMP, Jump.Metric.CONTROL_POWER),
+                settings
+        );
+        body = Bodies.build(bodyName);
+        controller = phaseController(body, new Random(0));
+    }
+
+    @Setup(Level.Invocation)
+    public void buildRobot() {
+        robot = new Robot<>(controller, SerializationUtils.clone(body));
+    }
+
+    @Benchmark
+    public List<Double> apply(Steps steps) {
+        long before = WorldPool.steps();
+        List<Double> results = jump.apply(robot);
+        steps.steps += WorldPool.steps() - before;
+        return results;
+    }
+
+    static TimeFunctions phaseController(Grid<?> body, Random random) {
+        double[] phases = random.doubles(body.getW() * body.getH()).toArray();
+        return new TimeFunctions(Grid.create(body.getW(), body.getH(), (x, y) -> (Double t) -> Math.sin(-2 * Math.PI * t + Math.PI * phases[x + y * body.getW()])));
+    }
+}
@@ -0,0 +1,92 @@
+package it.units.erallab.benchmarks;
+
+import it.units.erallab.BodyOptimization;
+import it.units.erallab.LinearRegression;
+import it.units.erallab.LogLogStatistics;
+import it.units.erallab.hmsrobots.util.Point2;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+// log-log transformation, linear regression and KS statistics of an avalanche size histogram
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class StatisticsBenchmark {
+
+    private static final int POPULATION = 1000;
+
+    @Param({"20", "100", "400"})
+    public int bins;
+
+    private double[] histogram;
+    private List<Point2> logLogDistribution;
+    private LinearRegression linearRegression;
+    // histograms of a population, bin-major
+    private double[] histograms;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(0);
+        histogram = new double[bins + 1];
+        for (int i = 1; i < histogram.length; i++) {
+            histogram[i] = random.nextDouble() < 0.2 ? 0 : Math.floor(100d / i * random.nextDouble());
+        }
+        logLogDistribution = logLog(histogram);
+        linearRegression = new LinearRegression(logLogDistribution);
+        histograms = new double[histogram.length * POPULATION];
+        for (int i = 1; i < histogram.length; i++) {
+            for (int b = 0; b < POPULATION; b++) {
+                histograms[i * POPULATION + b] = random.nextDouble() < 0.2 ? 0 : Math.floor(100d / i * random.nextDouble());
+            }
+        }
+    }
+
+    private static List<Point2> logLog(double[] histogram) {
+        return IntStream.range(1, histogram.length)
+                .mapToObj(i -> Point2.build(Math.log10(i), histogram[i] > 0.0 ? Math.log10(histogram[i]) : 0))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Point2> logLogDistribution() {
+        return logLog(histogram);
+    }
+
+    @Benchmark
+    public LinearRegression linearRegression() {
+        return new LinearRegression(logLogDistribution);
+    }
+
+    @Benchmark
+    public double ksStatistics() {
+        return BodyOptimization.computeKSStatistics(logLogDistribution, linearRegression);
+    }
+
+    @Benchmark
+    public double score() {
+        List<Point2> points = logLog(histogram);
+        LinearRegression lr = new LinearRegression(points);
+        double ks = BodyOptimization.computeKSStatistics(points, lr);
+        return (Double.isNaN(lr.R2()) ? 0 : lr.R2()) + Math.pow(Math.exp(-ks), 2d);
+    }
+
+    @Benchmark
+    public double fusedScore() {
+        LogLogStatistics.Fit fit = LogLogStatistics.fit(histogram, 1);
+        return (Double.isNaN(fit.getR2()) ? 0 : fit.getR2()) + Math.pow(Math.exp(-fit.getKs()), 2d);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POPULATION)
+    public LogLogStatistics.Fit[] batchedScore() {
+        return LogLogStatistics.fit(histograms, POPULATION, 1);
+    }
+}
@@ -0,0 +1,19 @@
+package it.units.erallab.benchmarks;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// counts the physics steps actually simulated, so that JMH reports steps/s next to ops/s
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.OPERATIONS)
+public class Steps {
+    public long steps;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        steps = 0;
+    }
+}
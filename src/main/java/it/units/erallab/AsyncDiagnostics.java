@@ -0,0 +1,105 @@
+package it.units.erallab;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+// computes the diagnostics of solutions on a single background thread and writes them to a file, one row per solution
+// rows are written in the order solutions are submitted; when too many are waiting, submit() blocks
+// a resumed run continues the file from a given row: rows from that one on, if any, are dropped, as they were written
+// after the checkpoint the run resumes from, and rows before it are kept (some may miss, if they were still waiting
+// when the previous run was killed)
+public class AsyncDiagnostics<T> implements Closeable {
+
+    private static final Logger L = Logger.getLogger(AsyncDiagnostics.class.getName());
+
+    private final Function<T, String> diagnostics;
+    private final BufferedWriter writer;
+    private final ExecutorService executor;
+    private int rows = 0;
+
+    public AsyncDiagnostics(Path path, String header, Function<T, String> diagnostics, int capacity) throws IOException {
+        this(path, header, diagnostics, capacity, 0);
+    }
+
+    public AsyncDiagnostics(Path path, String header, Function<T, String> diagnostics, int capacity, int firstRow) throws IOException {
+        this.diagnostics = diagnostics;
+        rows = firstRow;
+        if (firstRow > 0 && Files.exists(path)) {
+            List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+            byte[] content = Files.readAllBytes(path);
+            // a partial last line, written when the run was killed, is dropped
+            if (content.length > 0 && content[content.length - 1] != '\n') {
+                lines.remove(lines.size() - 1);
+            }
+            List<String> kept = new ArrayList<>();
+            for (int i = 0; i < lines.size(); i++) {
+                int tab = lines.get(i).indexOf('\t');
+                if (i == 0 || (tab > 0 && Integer.parseInt(lines.get(i).substring(0, tab)) < firstRow)) {
+                    kept.add(lines.get(i));
+                }
+            }
+            Files.write(path, kept, StandardCharsets.UTF_8);
+            writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        } else {
+            writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+            writer.write("row\t" + header);
+            writer.newLine();
+            writer.flush();
+        }
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(capacity), (runnable, e) -> {
+            try {
+                e.getQueue().put(runnable);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException(ex);
+            }
+        });
+    }
+
+    // returns the index of the row of the solution
+    public synchronized int submit(T solution) {
+        int row = rows++;
+        executor.execute(() -> {
+            try {
+                writer.write(row + "\t" + diagnostics.apply(solution));
+                writer.newLine();
+                writer.flush();
+            } catch (IOException | RuntimeException e) {
+                L.log(Level.WARNING, String.format("Cannot write diagnostics due to %s", e), e);
+            }
+        });
+        return row;
+    }
+
+    // the index of the next row
+    public synchronized int getRows() {
+        return rows;
+    }
+
+    // waits for the pending diagnostics
+    @Override
+    public void close() throws IOException {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writer.close();
+    }
+}
@@ -0,0 +1,68 @@
+package it.units.erallab;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// decides when an avalanche is over, given the voxels activity at each step
+public interface AvalancheTermination {
+
+    // keeps the state of a single simulation, hence it is not shared among threads
+    interface Monitor {
+        boolean isOver(int activeVoxels, double areaRatioChange);
+    }
+
+    Monitor monitor();
+
+    // stops at the first step without active voxels
+    static AvalancheTermination strict() {
+        return () -> (activeVoxels, areaRatioChange) -> activeVoxels == 0;
+    }
+
+    // stops after a number of consecutive steps without active voxels
+    static AvalancheTermination quiet(int steps) {
+        return () -> new Monitor() {
+            private int quietSteps = 0;
+
+            @Override
+            public boolean isOver(int activeVoxels, double areaRatioChange) {
+                quietSteps = activeVoxels == 0 ? quietSteps + 1 : 0;
+                return quietSteps >= steps;
+            }
+        };
+    }
+
+    // stops after a number of consecutive steps in which the overall area ratio change is below a fraction of its peak
+    static AvalancheTermination energyDecay(double ratio, int steps) {
+        return () -> new Monitor() {
+            private double peak = 0d;
+            private int decayedSteps = 0;
+
+            @Override
+            public boolean isOver(int activeVoxels, double areaRatioChange) {
+                peak = Math.max(peak, areaRatioChange);
+                decayedSteps = areaRatioChange <= ratio * peak ? decayedSteps + 1 : 0;
+                return decayedSteps >= steps;
+            }
+        };
+    }
+
+    static AvalancheTermination build(String name) {
+        String strict = "strict";
+        String quiet = "quiet-(?<k>[0-9]+)";
+        String decay = "decay-(?<r>[0-9]+(\\.[0-9]+)?)-(?<k>[0-9]+)";
+        if (name.matches(strict)) {
+            return strict();
+        }
+        if (name.matches(quiet)) {
+            Matcher matcher = Pattern.compile(quiet).matcher(name);
+            matcher.matches();
+            return quiet(Integer.parseInt(matcher.group("k")));
+        }
+        if (name.matches(decay)) {
+            Matcher matcher = Pattern.compile(decay).matcher(name);
+            matcher.matches();
+            return energyDecay(Double.parseDouble(matcher.group("r")), Integer.parseInt(matcher.group("k")));
+        }
+        throw new IllegalArgumentException(String.format("Unknown avalanche termination: %s", name));
+    }
+}
@@ -0,0 +1,73 @@
+package it.units.erallab;
+
+import it.units.erallab.hmsrobots.core.objects.Voxel;
+
+// spatial and temporal extension of the avalanche of a single robot, updated at each simulation step
+public class AvalancheTracker {
+
+    private final Voxel[] voxels;
+    private final double threshold;
+    private final int maxAvalancheDuration;
+    private final AvalancheTermination.Monitor monitor;
+    // two area buffers used alternately as previous and current step
+    private final double[][] voxelsArea;
+    private final boolean[] avalanchedVoxels;
+    private int spatialExtension = 0;
+    private int temporalExtension = 0;
+    private int step = 0;
+    private boolean over = false;
+
+    // voxels are the non-null voxels of the robot
+    public AvalancheTracker(Voxel[] voxels, double threshold, AvalancheTermination termination, int maxAvalancheDuration) {
+        this.voxels = voxels;
+        this.threshold = threshold;
+        this.maxAvalancheDuration = maxAvalancheDuration;
+        monitor = termination.monitor();
+        voxelsArea = new double[2][voxels.length];
+        avalanchedVoxels = new boolean[voxels.length];
+    }
+
+    // to be called after each step; returns true when the avalanche is over
+    public boolean update() {
+        double[] voxelsCurrentArea = voxelsArea[step % 2];
+        double[] voxelsPreviousArea = voxelsArea[(step + 1) % 2];
+        for (int i = 0; i < voxels.length; i++) {
+            voxelsCurrentArea[i] = voxels[i].getAreaRatio();
+        }
+        if (step > 0) {
+            int activeVoxels = 0;
+            double areaRatioChange = 0d;
+            for (int i = 0; i < voxels.length; i++) {
+                double delta = Math.abs(voxelsPreviousArea[i] - voxelsCurrentArea[i]);
+                areaRatioChange += delta;
+                if (delta > threshold) {
+                    activeVoxels += 1;
+                    // avalanche spatial extension
+                    if (!avalanchedVoxels[i]) {
+                        avalanchedVoxels[i] = true;
+                        spatialExtension += 1;
+                    }
+                }
+            }
+            if (activeVoxels > 0) {
+                temporalExtension += 1;
+            }
+            // longer avalanches would not fit the temporal histogram
+            over = monitor.isOver(activeVoxels, areaRatioChange) || temporalExtension >= maxAvalancheDuration;
+        }
+        step += 1;
+        return over;
+    }
+
+    public boolean isOver() {
+        return over;
+    }
+
+    public int getSpatialExtension() {
+        return spatialExtension;
+    }
+
+    public int getTemporalExtension() {
+        return temporalExtension;
+    }
+}
@@ -1,7 +1,5 @@
 package it.units.erallab;
 
-import it.units.erallab.hmsrobots.core.controllers.Controller;
-import it.units.erallab.hmsrobots.core.controllers.TimeFunctions;
 import it.units.erallab.hmsrobots.core.objects.ControllableVoxel;
 import it.units.erallab.hmsrobots.core.objects.Robot;
 import it.units.erallab.hmsrobots.util.Grid;
@@ -10,8 +8,6 @@ import it.units.erallab.hmsrobots.util.Utils;
 import it.units.malelab.jgea.Worker;
 import it.units.malelab.jgea.core.Individual;
 import it.units.malelab.jgea.core.Problem;
-import it.units.malelab.jgea.core.evolver.Evolver;
-import it.units.malelab.jgea.core.evolver.StandardEvolver;
 import it.units.malelab.jgea.core.evolver.stopcondition.Iterations;
 import it.units.malelab.jgea.core.listener.Listener;
 import it.units.malelab.jgea.core.listener.MultiFileListenerFactory;
@@ -24,19 +20,25 @@ import it.units.malelab.jgea.representation.sequence.FixedLengthListFactory;
 import it.units.malelab.jgea.representation.sequence.UniformCrossover;
 import it.units.malelab.jgea.representation.sequence.numeric.GaussianMutation;
 import it.units.malelab.jgea.representation.sequence.numeric.UniformDoubleFactory;
-import org.apache.commons.lang3.SerializationUtils;
 import org.dyn4j.dynamics.Settings;
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.*;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 import static it.units.erallab.Utils.bodyToString;
 import static it.units.malelab.jgea.core.util.Args.i;
 
 public class BodyOptimization extends Worker {
 
+    private static final double FINAL_T = 30;
+    private static final double PULSE_DURATION = 0.4;
+
     public BodyOptimization(String[] args) {
         super(args);
     }
@@ -45,6 +47,61 @@ public class BodyOptimization extends Worker {
         new BodyOptimization(args);
     }
 
+    // fitness of the bodies being evolved, also built by the workers of an evaluation farm
+    public static Function<Grid<ControllableVoxel>, Double> criticalityFitness(int binSize, AvalancheTermination termination, boolean symmetry, int pulseBatch) {
+        CriticalityEvaluator criticalityEvaluator = new CriticalityEvaluator(
+                FINAL_T, // task duration
+                new Settings(), // default settings for the physics engine
+                termination,
+                CriticalityEvaluator.maxAvalancheDuration(100, binSize) // avalanches are bounded by the temporal histogram
+        );
+        Function<Robot<?>, List<Double>> task = Misc.cached(criticalityEvaluator, 10000);
+        // the per-voxel simulations of a body run in parallel
+        // with pulseBatch > 1, that many pulses are simulated in the same world
+        PulseSweep pulseSweep = pulseBatch > 1
+                ? PulseSweep.batched(criticalityEvaluator, PULSE_DURATION, binSize, 100, symmetry, pulseBatch).withMaterial(Material::softMaterial)
+                : new PulseSweep(task, PULSE_DURATION, binSize, 100, symmetry).withMaterial(Material::softMaterial);
+        return body -> criticalityFitness(body, pulseSweep);
+    }
+
+    // in-memory fitness cache keyed by the canonical shape: without gravity, rotated and reflected bodies have the same fitness
+    public static Function<Grid<ControllableVoxel>, Double> shapeCached(Function<Grid<ControllableVoxel>, Double> fitnessFunction, int size) {
+        return shapeCached(fitnessFunction, shapeCache(size));
+    }
+
+    // LRU map from canonical shapes to fitness, to be shared by shapeCached() and lookups
+    public static Map<BodyShape, Double> shapeCache(int size) {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<BodyShape, Double> eldest) {
+                return size() > size;
+            }
+        });
+    }
+
+    public static Function<Grid<ControllableVoxel>, Double> shapeCached(Function<Grid<ControllableVoxel>, Double> fitnessFunction, Map<BodyShape, Double> cache) {
+        return body -> {
+            BodyShape shape = BodyShape.of(body).canonical();
+            Double fitness = cache.get(shape);
+            if (fitness == null) {
+                fitness = fitnessFunction.apply(body);
+                cache.put(shape, fitness);
+            }
+            return fitness;
+        };
+    }
+
+    // fitness of bodies encoded with Codec, for the workers of an evaluation farm
+    public static Function<byte[], Double> farmTask(Map<String, String> parameters) {
+        Function<Grid<ControllableVoxel>, Double> fitness = criticalityFitness(
+                Integer.parseInt(parameters.get("binSize")),
+                AvalancheTermination.build(parameters.get("termination")),
+                Boolean.parseBoolean(parameters.get("symmetry")),
+                Integer.parseInt(parameters.get("pulseBatch"))
+        );
+        return encoding -> fitness.apply(Codec.decodeBody(encoding));
+    }
+
     public static double computeKSStatistics(List<Point2> empiricalDistribution, LinearRegression linearRegression) {
         double theoreticalCumSum = 0.0;
         double empiricalCumSum = 0.0;
@@ -62,45 +119,97 @@ public class BodyOptimization extends Worker {
         return maxDistance;
     }
 
+    // body of the cells whose gene is above the highest threshold, among the gene values, for which the largest
+    // connected component has at least robotVoxels voxels; the cells are added in descending gene order to a
+    // union-find, instead of rebuilding the grid for each threshold, and the body is built only once
+    public static Grid<ControllableVoxel> directMapping(List<Double> g, int gridSide, int robotVoxels) {
+        int n = gridSide * gridSide;
+        // cell i is at x = i / gridSide, y = i % gridSide
+        Integer[] cells = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            cells[i] = i;
+        }
+        Arrays.sort(cells, (i, j) -> Double.compare(g.get(j), g.get(i)));
+        UnionFind components = new UnionFind(n);
+        int from = 0;
+        while (from < n && components.largest() < robotVoxels) {
+            int to = from;
+            while (to < n && g.get(cells[to]).equals(g.get(cells[from]))) {
+                to = to + 1;
+            }
+            // the cells with the lowest gene are never above the threshold
+            if (to == n) {
+                break;
+            }
+            for (int k = from; k < to; k++) {
+                int i = cells[k];
+                components.add(i);
+                int x = i / gridSide;
+                int y = i % gridSide;
+                if (x > 0 && components.contains(i - gridSide)) {
+                    components.union(i, i - gridSide);
+                }
+                if (x < gridSide - 1 && components.contains(i + gridSide)) {
+                    components.union(i, i + gridSide);
+                }
+                if (y > 0 && components.contains(i - 1)) {
+                    components.union(i, i - 1);
+                }
+                if (y < gridSide - 1 && components.contains(i + 1)) {
+                    components.union(i, i + 1);
+                }
+            }
+            from = to;
+        }
+        // ties among the largest components are broken as before
+        Grid<Boolean> occupancy = Grid.create(gridSide, gridSide, (x, y) -> components.contains(gridSide * x + y) ? true : null);
+        occupancy = Utils.cropGrid(Utils.gridLargestConnected(occupancy, Objects::nonNull), Objects::nonNull);
+        Grid<Boolean> finalOccupancy = occupancy;
+        return Grid.create(occupancy.getW(), occupancy.getH(), (x, y) -> finalOccupancy.get(x, y) != null ? Material.softMaterial() : null);
+    }
+
+    public static double criticalityFitness(Grid<ControllableVoxel> body, PulseSweep pulseSweep) {
+        int bodySize = (int) body.values().stream().filter(Objects::nonNull).count();
+        if (bodySize < 2) {
+            return 0.0;
+        }
+        // a pulse controller is applied on each voxel
+        PulseSweep.Distributions distributions = pulseSweep.apply(body);
+        double[] avalanchesSpatialExtension = distributions.getSpatial();
+        double[] avalanchesTemporalExtension = distributions.getTemporal();
+        // exit condition
+        int spatialSizeNumber = (int) Arrays.stream(avalanchesSpatialExtension).filter(frequency -> frequency > 0).count();
+        int temporalSizeNumber = (int) Arrays.stream(avalanchesTemporalExtension).filter(frequency -> frequency > 0).count();
+        if (spatialSizeNumber < 2 || temporalSizeNumber < 2) {
+            return 0.0;
+        }
+        // linear regression and KS statistics of the log-log distribution
+        LogLogStatistics.Fit spatialFit = LogLogStatistics.fit(avalanchesSpatialExtension, 1);
+        /*
+        LogLogStatistics.Fit temporalFit = LogLogStatistics.fit(avalanchesTemporalExtension, 1);
+         */
+        double RSquared = 0;
+        if (!Double.isNaN(spatialFit.getR2())) {
+            RSquared = spatialFit.getR2(); //(spatialFit.getR2() + temporalFit.getR2())/2;
+        }
+        // 3. KS statistics
+        double ks1 = spatialFit.getKs();
+        /*
+        double ks2 = temporalFit.getKs();
+         */
+        double DSquared = Math.pow(Math.exp(-(0.9 * Math.min(ks1, ks1) + 0.1 * (ks1 + ks1)/2)), 2d); //Math.pow(Math.exp(-(0.9 * Math.min(ks1, ks2) + 0.1 * (ks1 + ks2)/2)), 2d);
+        return RSquared + DSquared;
+    }
+
     private String printDistribution(double[] distribution) {
         return Arrays.stream(distribution)
                 .mapToObj(value -> ""+value)
                 .collect(Collectors.joining(" "));
     }
 
-    private String testBest(Grid<ControllableVoxel> best, double pulseDuration, CriticalityEvaluator task, int binSize) {
-
-        int bodySize = (int) best.values().stream().filter(Objects::nonNull).count();
-
-        double[] avalanchesSpatialExtension = new double[bodySize + 1];
-        double[] avalanchesTemporalExtension = new double[1000];
-        // a pulse controller is applied on each voxel
-        best.stream()
-                .filter(Objects::nonNull)
-                .forEach(voxel -> {
-                    Controller<ControllableVoxel> pulseController = new TimeFunctions(Grid.create(best.getW(), best.getH(), (x, y) -> (Double t) -> {
-                        if (x == voxel.getX() && y == voxel.getY()) {
-                            if (t < pulseDuration/2) {
-                                return 1.0;
-                            } else if (t < pulseDuration) {
-                                return -1.0;
-                            }
-                        }
-                        return 0.0;
-                    }));
-                    List<Double> metrics = task.apply(new Robot<>(pulseController, SerializationUtils.clone(best)));
-
-                    if (metrics.get(0).intValue() > 0) {
-                        avalanchesSpatialExtension[metrics.get(0).intValue()] += 1;
-                    }
-                    if (metrics.get(1).intValue() > 0) {
-                        avalanchesTemporalExtension[(metrics.get(1).intValue()) / binSize] += 1;
-                    }
-                });
-        String distributions = "";
-        distributions += printDistribution(avalanchesSpatialExtension);
-        distributions += ":"+printDistribution(avalanchesTemporalExtension);
-        return distributions;
+    private String testBest(Grid<ControllableVoxel> best, PulseSweep pulseSweep) {
+        PulseSweep.Distributions distributions = pulseSweep.apply(best);
+        return printDistribution(distributions.getSpatial()) + ":" + printDistribution(distributions.getTemporal());
     }
 
     @Override
@@ -111,114 +220,112 @@ public class BodyOptimization extends Worker {
         int cacheSize = 10000;
         // problem-related parameters
         int gridSide = i(a("gridSize", "5"));
-        double finalT = 30;
-        double pulseDuration = 0.4;
+        double finalT = FINAL_T;
+        double pulseDuration = PULSE_DURATION;
         int binSize = i(a("binSize", "5"));
         int robotVoxels = i(a("robotVoxels", "20"));
+        String terminationName = a("termination", "strict");
+        AvalancheTermination termination = AvalancheTermination.build(terminationName);
+        String fitnessStorePath = a("fitnessStore", null);
+        boolean symmetry = Boolean.parseBoolean(a("symmetry", "false"));
+        int pulseBatch = i(a("pulseBatch", "1"));
+        // after the warm-up, bodies predicted to be poor by a model of their shape are not simulated, but some audits
+        boolean surrogate = Boolean.parseBoolean(a("surrogate", "false"));
+        int surrogateWarmUp = i(a("surrogateWarmUp", "500"));
+        double surrogateAudit = Double.parseDouble(a("surrogateAudit", "0.05"));
         // evolutionary parameters
         int popSize = i(a("popSize", "500"));
         int iterations = i(a("iterations", "100"));
         double mutationProb = 0.01;
         int tournamentSize = 10;
+        // the checkpoint is written to the resume file too, unless another one is given
+        String resumePath = a("resume", null);
+        String checkpointPath = a("checkpoint", resumePath);
+        int checkpointInterval = i(a("checkpointInterval", "1"));
+        CheckpointedEvolver.Checkpoint checkpoint = CheckpointedEvolver.Checkpoint.readIfExists(resumePath);
 
         MultiFileListenerFactory<Object, Grid<ControllableVoxel>, Double> statsListenerFactory = new MultiFileListenerFactory<>(
                 a("dir", "."),
                 a("statsFile", null)
         );
         // task
-        CriticalityEvaluator criticalityEvaluator = new CriticalityEvaluator(
-                finalT, // task duration
-                new Settings() // default settings for the physics engine
+        CriticalityEvaluator testCriticalityEvaluator = new CriticalityEvaluator(
+                finalT,
+                new Settings(),
+                termination,
+                CriticalityEvaluator.maxAvalancheDuration(1000, binSize)
         );
-        Function<Robot<?>, List<Double>> task = Misc.cached(criticalityEvaluator, 10000);
+        PulseSweep testPulseSweep = new PulseSweep(testCriticalityEvaluator, pulseDuration, binSize, 1000).withMaterial(Material::softMaterial);
 
         // problem
-        Problem<Grid<ControllableVoxel>, Double> problem = () -> body -> {
+        Problem<Grid<ControllableVoxel>, Double> problem = () -> criticalityFitness(binSize, termination, symmetry, pulseBatch);
 
-            int bodySize = (int) body.values().stream().filter(Objects::nonNull).count();
-            if (bodySize < 2) {
-                return 0.0;
+        // with farmPort, fitness is computed by the workers connected to that port, possibly started here
+        Function<Grid<ControllableVoxel>, Double> fitnessFunction = problem.getFitnessFunction();
+        EvaluationFarm farm = null;
+        ExecutorService evaluationExecutor = executorService;
+        String farmPort = a("farmPort", null);
+        if (farmPort != null) {
+            try {
+                farm = new EvaluationFarm(i(farmPort), "criticality", Map.of(
+                        "binSize", Integer.toString(binSize),
+                        "termination", terminationName,
+                        "symmetry", Boolean.toString(symmetry),
+                        "pulseBatch", Integer.toString(pulseBatch)
+                ), TimeUnit.SECONDS.toMillis(i(a("farmTimeout", "600"))));
+                farm.startLocalWorkers(i(a("farmLocalWorkers", "0")), i(a("farmLocalThreads", "1")));
+                fitnessFunction = farm.fitness(body -> Codec.bytes(Codec.BodySpec.of(body, "soft")));
+                // evaluations only wait for the workers, hence there are as many as the tasks they can take
+                evaluationExecutor = Executors.newFixedThreadPool(i(a("farmThreads", "256")));
+            } catch (IOException e) {
+                e.printStackTrace();
             }
-            double[] avalanchesSpatialExtension = new double[bodySize + 1];
-            double[] avalanchesTemporalExtension = new double[100];
+        }
 
-            // a pulse controller is applied on each voxel
-            body.stream()
-                .filter(Objects::nonNull)
-                .forEach(voxel -> {
-                    Controller<ControllableVoxel> pulseController = new TimeFunctions(Grid.create(body.getW(), body.getH(), (x, y) -> (Double t) -> {
-                    if (x == voxel.getX() && y == voxel.getY()) {
-                        if (t < pulseDuration/2) {
-                            return 1.0;
-                        } else if (t < pulseDuration) {
-                            return -1.0;
-                        }
-                    }
-                    return 0.0;
-                }));
-                List<Double> metrics = task.apply(new Robot<>(pulseController, SerializationUtils.clone(body)));
-                if (metrics.get(0).intValue() > 0) {
-                    avalanchesSpatialExtension[metrics.get(0).intValue()] += 1;
-                }
-                if (metrics.get(1).intValue() > 0) {
-                    avalanchesTemporalExtension[(metrics.get(1).intValue()) / binSize] += 1;
-                }
-            });
-            // exit condition
-            int spatialSizeNumber = (int) Arrays.stream(avalanchesSpatialExtension).filter(frequency -> frequency > 0).count();
-            int temporalSizeNumber = (int) Arrays.stream(avalanchesTemporalExtension).filter(frequency -> frequency > 0).count();
-            if (spatialSizeNumber < 2 || temporalSizeNumber < 2) {
-                return 0.0;
+        // persistent fitness cache, shared among runs with the same evaluator parameters
+        FitnessStore fitnessStore = null;
+        long storeNamespace = FitnessStore.namespace(
+                "criticality", finalT, "dynamic", pulseDuration, binSize, terminationName, 100, symmetry, pulseBatch
+        );
+        if (fitnessStorePath != null) {
+            try {
+                fitnessStore = new FitnessStore(Paths.get(fitnessStorePath), i(a("fitnessStoreSlots", "1048576")));
+                // without gravity, rotated and reflected bodies have the same fitness
+                fitnessFunction = fitnessStore.cached(fitnessFunction, body -> BodyShape.of(body).canonical(), storeNamespace);
+            } catch (IOException e) {
+                e.printStackTrace();
             }
-            // compute the log-log of the 2 distributions
-            List<Point2> logLogSpatialDistribution = IntStream.range(1, avalanchesSpatialExtension.length)
-                    .mapToObj(i -> Point2.build(Math.log10(i), avalanchesSpatialExtension[i] > 0.0 ? Math.log10(avalanchesSpatialExtension[i]) : 0))
-                    .collect(Collectors.toList());
-            /*
-            List<Point2> logLogTemporalDistribution = IntStream.range(1, avalanchesTemporalExtension.length)
-                    .mapToObj(i -> Point2.build(Math.log10((i+1) * binSize), avalanchesTemporalExtension[i] > 0.0 ? Math.log10(avalanchesTemporalExtension[i]) : 0))
-                    .collect(Collectors.toList());
-             */
+        }
 
-            // linear regression of the log-log distribution
-            LinearRegression spatialLinearRegression = new LinearRegression(logLogSpatialDistribution);
-            /*
-            LinearRegression temporalLinearRegression = new LinearRegression(logLogTemporalDistribution);
-             */
-            double RSquared = 0;
-            if (!Double.isNaN(spatialLinearRegression.R2())) {
-                RSquared = spatialLinearRegression.R2(); //(spatialLinearRegression.R2() + temporalLinearRegression.R2())/2;
-            }
-            // 3. KS statistics
-            double ks1 = computeKSStatistics(logLogSpatialDistribution, spatialLinearRegression);
-            /*
-            double ks2 = computeKSStatistics(logLogTemporalDistribution, temporalLinearRegression);
-             */
-            double DSquared = Math.pow(Math.exp(-(0.9 * Math.min(ks1, ks1) + 0.1 * (ks1 + ks1)/2)), 2d); //Math.pow(Math.exp(-(0.9 * Math.min(ks1, ks2) + 0.1 * (ks1 + ks2)/2)), 2d);
-            return RSquared + DSquared;
-        };
+        // in-memory cache of the real (possibly remote or stored) fitness
+        Map<BodyShape, Double> shapeCache = shapeCache(cacheSize);
+        fitnessFunction = shapeCached(fitnessFunction, shapeCache);
 
-        // direct mapper
-        Function<List<Double>, Grid<ControllableVoxel>> directMapper = g -> {
-            Grid<ControllableVoxel> body = null;
-            // ordered grid
-            List<Double> thresholds = g.stream().distinct().sorted().collect(Collectors.toList());
-            Collections.reverse(thresholds);
-            for (double directThreshold : thresholds) {
-                // build grid with fixed number of voxels and dynamic threshold
-                body = Utils.gridLargestConnected(Grid.create(gridSide, gridSide, (x, y) -> g.get(gridSide * x + y) > directThreshold ? SerializationUtils.clone(Material.softMaterial) : null), Objects::nonNull);
-                // find largest connected and crop
-                body = Utils.gridLargestConnected(body, Objects::nonNull);
-                body = Utils.cropGrid(body, Objects::nonNull);
-                if (body.values().stream().filter(Objects::nonNull).count() >= robotVoxels) {
-                    break;
+        // surrogate on top of the caches, hence predictions are never cached, and looking in the caches first, hence
+        // bodies whose real fitness is known are never predicted
+        Surrogate<Grid<ControllableVoxel>> fitnessSurrogate = null;
+        if (surrogate) {
+            fitnessSurrogate = new Surrogate<>(
+                    body -> BodyShape.of(body).features(), BodyShape.N_OF_FEATURES, body -> BodyShape.of(body).canonical(),
+                    surrogateWarmUp, surrogateAudit, 2d, 0.75, randomSeed
+            );
+            FitnessStore finalFitnessStore = fitnessStore;
+            fitnessFunction = fitnessSurrogate.wrap(fitnessFunction, body -> {
+                BodyShape shape = BodyShape.of(body).canonical();
+                Double fitness = shapeCache.get(shape);
+                if (fitness != null) {
+                    return OptionalDouble.of(fitness);
                 }
-            }
-            return body;
-        };
+                return finalFitnessStore == null ? OptionalDouble.empty() : finalFitnessStore.get(storeNamespace, shape);
+            });
+        }
+        Surrogate<Grid<ControllableVoxel>> finalSurrogate = fitnessSurrogate;
+
+        // direct mapper
+        Function<List<Double>, Grid<ControllableVoxel>> directMapper = g -> directMapping(g, gridSide, robotVoxels);
 
         // standard evolver
-        Evolver<List<Double>, Grid<ControllableVoxel>, Double> directEvolver = new StandardEvolver<>(
+        CheckpointedEvolver<List<Double>, Grid<ControllableVoxel>> directEvolver = new CheckpointedEvolver<>(
                 directMapper,
                 new FixedLengthListFactory<>(gridSide * gridSide, new UniformDoubleFactory(0, 1)),
                 PartialComparator.from(Double.class).reversed().comparing(Individual::getFitness), // fitness comparator
@@ -230,37 +337,107 @@ public class BodyOptimization extends Worker {
                 new Tournament(tournamentSize), // depends on pop size
                 new Worst(), // worst individual dies
                 popSize,
-                true
-        );
+                true,
+                DoubleGenotype::toArray,
+                DoubleGenotype::toList,
+                directMapper,
+                checkpointPath == null ? null : Paths.get(checkpointPath),
+                checkpointInterval,
+                checkpoint
+        ).withFitnessState(fitnessSurrogate);
+
+        // distributions of the best bodies are computed and written on a background thread, in a separate file
+        // the best body seldom changes between iterations, hence they are cached by shape (valid without gravity)
+        // a resumed run appends to the file, from the row after the last one listened to before the checkpoint
+        Map<BodyShape, String> testedBodies = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<BodyShape, String> eldest) {
+                return size() > 100;
+            }
+        };
+        AsyncDiagnostics<Grid<ControllableVoxel>> diagnostics = null;
+        try {
+            diagnostics = new AsyncDiagnostics<>(
+                    Paths.get(a("dir", "."), a("distributionsFile", "distributions.txt")),
+                    "serialized.grid\tdistributions",
+                    body -> Codec.encode(Codec.BodySpec.of(body, "soft")) + "\t" + testedBodies.computeIfAbsent(BodyShape.of(body).canonical(), shape -> testBest(body, testPulseSweep)),
+                    16,
+                    checkpoint == null ? 0 : (int) checkpoint.getCounter("distributions.rows")
+            );
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        AsyncDiagnostics<Grid<ControllableVoxel>> finalDiagnostics = diagnostics;
+        if (diagnostics != null) {
+            directEvolver.withCounter("distributions.rows", diagnostics::getRows);
+        }
 
         List<DataCollector<?, ? super Grid<ControllableVoxel>, ? super Double>> collectors = List.of(
                 new Basic(),
                 new Population(),
                 new Diversity(),
                 new BestInfo("%6.4f"),
-                new FunctionOfOneBest<>(i -> List.of(
-                        new Item("serialized.grid", it.units.erallab.Utils.safelySerialize(i.getSolution()), "%s"),
-                        new Item("distributions", testBest(i.getSolution(), pulseDuration, criticalityEvaluator, binSize), "%s"),
-                        new Item("body", bodyToString(i.getSolution()), "%s")
-                ))
+                new FunctionOfOneBest<>(i -> {
+                    List<Item> items = new ArrayList<>(List.of(
+                            new Item("serialized.grid", Codec.encode(Codec.BodySpec.of(i.getSolution(), "soft")), "%s"),
+                            new Item("distributions.row", finalDiagnostics == null ? -1 : finalDiagnostics.submit(i.getSolution()), "%d"),
+                            new Item("body", bodyToString(i.getSolution()), "%s")
+                    ));
+                    if (finalSurrogate != null) {
+                        items.addAll(List.of(
+                                new Item("surrogate.rmse", finalSurrogate.getRmse(), "%6.4f"),
+                                new Item("surrogate.real", finalSurrogate.getRealEvaluations(), "%6d"),
+                                new Item("surrogate.predicted", finalSurrogate.getPredictions(), "%6d")
+                        ));
+                    }
+                    return items;
+                })
         );
 
-        Listener<? super Object, ? super Grid<ControllableVoxel>, ? super Double> listener;
+        Listener<? super Object, ? super Grid<ControllableVoxel>, ? super Double> statsListener;
         if (statsListenerFactory.getBaseFileName() == null) {
-            listener = listener(collectors.toArray(DataCollector[]::new));
+            statsListener = listener(collectors.toArray(DataCollector[]::new));
         } else {
-            listener = statsListenerFactory.build(collectors.toArray(DataCollector[]::new));
+            statsListener = statsListenerFactory.build(collectors.toArray(DataCollector[]::new));
         }
+        // the listener is called between generations, hence there the surrogate is updated
+        Listener<List<Double>, Grid<ControllableVoxel>, Double> listener = finalSurrogate == null ? statsListener::listen : event -> {
+            finalSurrogate.nextGeneration(event.getOrderedPopulation().all().stream().map(Individual::getSolution).collect(Collectors.toList()));
+            statsListener.listen(event);
+        };
         try {
             directEvolver.solve(
-                    Misc.cached(problem.getFitnessFunction(), cacheSize),
+                    fitnessFunction,
                     new Iterations(iterations),
-                    new Random(randomSeed),
-                    executorService,
-                    listener
+                    checkpoint == null ? new Random(randomSeed) : checkpoint.getRandom(),
+                    evaluationExecutor,
+                    directEvolver.skippingRestored(listener)
             );
         } catch (InterruptedException | ExecutionException e) {
             e.printStackTrace();
         }
+        directEvolver.close();
+        if (farm != null) {
+            evaluationExecutor.shutdown();
+            try {
+                farm.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+        if (diagnostics != null) {
+            try {
+                diagnostics.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+        if (fitnessStore != null) {
+            try {
+                fitnessStore.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
     }
 }
\ No newline at end of file
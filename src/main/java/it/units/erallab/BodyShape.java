@@ -0,0 +1,235 @@
+package it.units.erallab;
+
+import it.units.erallab.hmsrobots.util.Grid;
+import java.util.Arrays;
+
+// occupancy of a body, cropped to its bounding box
+public class BodyShape {
+
+    public static final int N_OF_FEATURES = 8;
+
+    private final int w;
+    private final int h;
+    private final long[] bits;
+
+    private BodyShape(int w, int h, long[] bits) {
+        this.w = w;
+        this.h = h;
+        this.bits = bits;
+    }
+
+    public static BodyShape of(Grid<?> body) {
+        int minX = Integer.MAX_VALUE;
+        int minY = Integer.MAX_VALUE;
+        int maxX = -1;
+        int maxY = -1;
+        for (int x = 0; x < body.getW(); x++) {
+            for (int y = 0; y < body.getH(); y++) {
+                if (body.get(x, y) != null) {
+                    minX = Math.min(minX, x);
+                    minY = Math.min(minY, y);
+                    maxX = Math.max(maxX, x);
+                    maxY = Math.max(maxY, y);
+                }
+            }
+        }
+        if (maxX < 0) {
+            return new BodyShape(0, 0, new long[0]);
+        }
+        int w = maxX - minX + 1;
+        int h = maxY - minY + 1;
+        long[] bits = new long[(w * h + 63) / 64];
+        for (int x = 0; x < w; x++) {
+            for (int y = 0; y < h; y++) {
+                if (body.get(minX + x, minY + y) != null) {
+                    int i = y * w + x;
+                    bits[i / 64] |= 1L << (i % 64);
+                }
+            }
+        }
+        return new BodyShape(w, h, bits);
+    }
+
+    public int getW() {
+        return w;
+    }
+
+    public int getH() {
+        return h;
+    }
+
+    public boolean get(int x, int y) {
+        int i = y * w + x;
+        return (bits[i / 64] & (1L << (i % 64))) != 0;
+    }
+
+    public int size() {
+        return Arrays.stream(bits).mapToInt(Long::bitCount).sum();
+    }
+
+    // t in [0, 8) is one of the dihedral transformations: bit 0 flips x, bit 1 flips y, bit 2 transposes
+    public BodyShape transform(int t) {
+        int tw = (t & 4) == 0 ? w : h;
+        int th = (t & 4) == 0 ? h : w;
+        long[] tBits = new long[bits.length];
+        for (int x = 0; x < w; x++) {
+            for (int y = 0; y < h; y++) {
+                if (get(x, y)) {
+                    int i = transformedIndex(t, x, y);
+                    tBits[i / 64] |= 1L << (i % 64);
+                }
+            }
+        }
+        return new BodyShape(tw, th, tBits);
+    }
+
+    private int transformedIndex(int t, int x, int y) {
+        int tx = (t & 1) == 0 ? x : w - 1 - x;
+        int ty = (t & 2) == 0 ? y : h - 1 - y;
+        if ((t & 4) == 0) {
+            return ty * w + tx;
+        }
+        return tx * h + ty;
+    }
+
+    // the smallest shape among the rotations and reflections of this one
+    public BodyShape canonical() {
+        BodyShape canonical = this;
+        for (int t = 1; t < 8; t++) {
+            BodyShape transformed = transform(t);
+            if (transformed.compareTo(canonical) < 0) {
+                canonical = transformed;
+            }
+        }
+        return canonical;
+    }
+
+    // for each cell (index y * w + x), the smallest index of the cells it is mapped to by the symmetries of the shape, or -1 if empty
+    public int[] orbits() {
+        int[] orbits = new int[w * h];
+        Arrays.fill(orbits, -1);
+        for (int x = 0; x < w; x++) {
+            for (int y = 0; y < h; y++) {
+                if (get(x, y)) {
+                    orbits[y * w + x] = y * w + x;
+                }
+            }
+        }
+        for (int t = 1; t < 8; t++) {
+            if (!transform(t).equals(this)) {
+                continue;
+            }
+            for (int x = 0; x < w; x++) {
+                for (int y = 0; y < h; y++) {
+                    if (get(x, y)) {
+                        orbits[y * w + x] = Math.min(orbits[y * w + x], transformedIndex(t, x, y));
+                    }
+                }
+            }
+        }
+        return orbits;
+    }
+
+    // simple descriptors of the shape: size, width, height, filled fraction of the bounding box, perimeter (sides of
+    // voxels not touching other voxels), holes (empty regions not touching the bounding box border), voxels with one
+    // neighbour (ends) and with at least three neighbours (branches)
+    public double[] features() {
+        int size = size();
+        int perimeter = 0;
+        int ends = 0;
+        int branches = 0;
+        for (int x = 0; x < w; x++) {
+            for (int y = 0; y < h; y++) {
+                if (get(x, y)) {
+                    int neighbours = (x > 0 && get(x - 1, y) ? 1 : 0) + (x < w - 1 && get(x + 1, y) ? 1 : 0)
+                            + (y > 0 && get(x, y - 1) ? 1 : 0) + (y < h - 1 && get(x, y + 1) ? 1 : 0);
+                    perimeter = perimeter + 4 - neighbours;
+                    ends = ends + (neighbours == 1 ? 1 : 0);
+                    branches = branches + (neighbours >= 3 ? 1 : 0);
+                }
+            }
+        }
+        return new double[]{size, w, h, w * h == 0 ? 0 : (double) size / (w * h), perimeter, holes(), ends, branches};
+    }
+
+    private int holes() {
+        boolean[] visited = new boolean[w * h];
+        int[] stack = new int[w * h];
+        int holes = 0;
+        for (int start = 0; start < w * h; start++) {
+            if (visited[start] || get(start % w, start / w)) {
+                continue;
+            }
+            boolean border = false;
+            int top = 0;
+            stack[top++] = start;
+            visited[start] = true;
+            while (top > 0) {
+                int i = stack[--top];
+                int x = i % w;
+                int y = i / w;
+                border = border || x == 0 || y == 0 || x == w - 1 || y == h - 1;
+                int[] neighbours = {x > 0 ? i - 1 : -1, x < w - 1 ? i + 1 : -1, y > 0 ? i - w : -1, y < h - 1 ? i + w : -1};
+                for (int j : neighbours) {
+                    if (j >= 0 && !visited[j] && !get(j % w, j / w)) {
+                        visited[j] = true;
+                        stack[top++] = j;
+                    }
+                }
+            }
+            holes = holes + (border ? 0 : 1);
+        }
+        return holes;
+    }
+
+    private int compareTo(BodyShape other) {
+        if (w != other.w) {
+            return Integer.compare(w, other.w);
+        }
+        if (h != other.h) {
+            return Integer.compare(h, other.h);
+        }
+        return Arrays.compare(bits, other.bits);
+    }
+
+    // 64 bits hash, with different seeds giving independent hashes
+    public long hash(long seed) {
+        long hash = mix(seed ^ ((long) w << 32 | h));
+        for (long word : bits) {
+            hash = mix(hash ^ word);
+        }
+        return hash;
+    }
+
+    // finalizer of splitmix64
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BodyShape that = (BodyShape) o;
+        return w == that.w && h == that.h && Arrays.equals(bits, that.bits);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(hash(0L));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int y = 0; y < h; y++) {
+            for (int x = 0; x < w; x++) {
+                sb.append(get(x, y) ? "X" : "0");
+            }
+            sb.append(y == h - 1 ? "" : "/");
+        }
+        return sb.toString();
+    }
+}
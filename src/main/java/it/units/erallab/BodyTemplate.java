@@ -0,0 +1,97 @@
+package it.units.erallab;
+
+import it.units.erallab.hmsrobots.core.controllers.Controller;
+import it.units.erallab.hmsrobots.core.objects.ControllableVoxel;
+import it.units.erallab.hmsrobots.core.objects.Robot;
+import it.units.erallab.hmsrobots.core.objects.SensingVoxel;
+import it.units.erallab.hmsrobots.core.objects.Voxel;
+import it.units.erallab.hmsrobots.util.Grid;
+import org.apache.commons.lang3.SerializationUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+// occupancy of a body and a voxel factory, used to build new, never simulated, copies of the body
+// faster than serialization clones, which go through reflection; equivalent as long as the voxels of the body are not yet simulated
+public class BodyTemplate<V extends Voxel> {
+
+    private final int w;
+    private final int h;
+    private final boolean[] occupied;
+    private final Supplier<? extends V> voxelFactory;
+
+    private BodyTemplate(int w, int h, boolean[] occupied, Supplier<? extends V> voxelFactory) {
+        this.w = w;
+        this.h = h;
+        this.occupied = occupied;
+        this.voxelFactory = voxelFactory;
+    }
+
+    // the material of the body is the one built by the factory, regardless of the voxels in the body
+    public static <V extends Voxel> BodyTemplate<V> of(Grid<?> body, Supplier<? extends V> voxelFactory) {
+        boolean[] occupied = new boolean[body.getW() * body.getH()];
+        for (int x = 0; x < body.getW(); x++) {
+            for (int y = 0; y < body.getH(); y++) {
+                occupied[y * body.getW() + x] = body.get(x, y) != null;
+            }
+        }
+        return new BodyTemplate<>(body.getW(), body.getH(), occupied, voxelFactory);
+    }
+
+    public Grid<V> create() {
+        return Grid.create(w, h, (x, y) -> occupied[y * w + x] ? voxelFactory.get() : null);
+    }
+
+    public Robot<V> robot(Controller<V> controller) {
+        return new Robot<>(controller, create());
+    }
+
+    // differences between two bodies: in occupancy, in the material parameters of each voxel, in serialized bytes
+    public static List<String> differences(Grid<? extends Voxel> body1, Grid<? extends Voxel> body2) {
+        List<String> differences = new ArrayList<>();
+        if (body1.getW() != body2.getW() || body1.getH() != body2.getH()) {
+            differences.add(String.format("size %dx%d vs. %dx%d", body1.getW(), body1.getH(), body2.getW(), body2.getH()));
+            return differences;
+        }
+        for (int x = 0; x < body1.getW(); x++) {
+            for (int y = 0; y < body1.getH(); y++) {
+                Voxel voxel1 = body1.get(x, y);
+                Voxel voxel2 = body2.get(x, y);
+                if ((voxel1 == null) != (voxel2 == null)) {
+                    differences.add(String.format("occupancy at (%d,%d)", x, y));
+                } else if (voxel1 != null && !Material.parameters(voxel1).equals(Material.parameters(voxel2))) {
+                    differences.add(String.format("material at (%d,%d): %s vs. %s", x, y, Material.parameters(voxel1), Material.parameters(voxel2)));
+                }
+            }
+        }
+        if (!Arrays.equals(SerializationUtils.serialize(body1), SerializationUtils.serialize(body2))) {
+            differences.add("serialized bytes");
+        }
+        return differences;
+    }
+
+    // checks that the bodies built by templates are the same as serialization clones, exiting with a non-zero status
+    // otherwise
+    public static void main(String[] args) {
+        Random random = new Random(1);
+        int failures = 0;
+        for (int i = 0; i < 10; i++) {
+            Grid<ControllableVoxel> body = Utils.generateRandomBody(20, 5, random, Material.softMaterial);
+            List<String> softDifferences = differences(SerializationUtils.clone(body), of(body, Material::softMaterial).create());
+            Grid<SensingVoxel> sensingBody = of(body, Material::sensingVoxel).create();
+            List<String> sensingDifferences = differences(SerializationUtils.clone(sensingBody), of(sensingBody, Material::sensingVoxel).create());
+            System.out.printf("%s\tsoft: %s\tsensing: %s%n", BodyShape.of(body),
+                    softDifferences.isEmpty() ? "same" : softDifferences,
+                    sensingDifferences.isEmpty() ? "same" : sensingDifferences
+            );
+            failures = failures + (softDifferences.isEmpty() ? 0 : 1) + (sensingDifferences.isEmpty() ? 0 : 1);
+        }
+        if (failures > 0) {
+            System.err.printf("%d bodies built by templates differ from serialization clones%n", failures);
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package it.units.erallab;
+
+import it.units.erallab.hmsrobots.core.controllers.Controller;
+import it.units.erallab.hmsrobots.core.objects.SensingVoxel;
+import it.units.erallab.hmsrobots.util.Grid;
+
+// centralized controller with a tanh multi-layer perceptron, equivalent to CentralizedSensing with a
+// MultiLayerPerceptron (inputs go through the activation too) but with all the weights in one array, in the layout of
+// MultiLayerPerceptron.getParams() (for each layer and neuron, the bias and then the weights of the inputs), and with
+// the activations of each layer in buffers allocated once
+// the weights are not copied, hence the array must not be changed while the controller is in use
+public class CentralizedPerceptron implements Controller<SensingVoxel> {
+
+    private final int[] layers;
+    private final double[] weights;
+    private final double[][] activations;
+
+    // layers are the sizes of input, hidden and output layers
+    public CentralizedPerceptron(int[] layers, double[] weights) {
+        if (weights.length != nOfWeights(layers)) {
+            throw new IllegalArgumentException(String.format("Wrong number of weights: %d instead of %d", weights.length, nOfWeights(layers)));
+        }
+        this.layers = layers;
+        this.weights = weights;
+        activations = new double[layers.length][];
+        for (int i = 0; i < layers.length; i++) {
+            activations[i] = new double[layers[i]];
+        }
+    }
+
+    public static int nOfWeights(int[] layers) {
+        int n = 0;
+        for (int i = 1; i < layers.length; i++) {
+            n = n + layers[i] * (layers[i - 1] + 1);
+        }
+        return n;
+    }
+
+    @Override
+    public void control(double t, Grid<? extends SensingVoxel> voxels) {
+        // readings are gathered straight into the input layer
+        double[] input = activations[0];
+        int c = 0;
+        for (SensingVoxel voxel : voxels.values()) {
+            if (voxel != null) {
+                double[] readings = voxel.getSensorReadings();
+                for (double reading : readings) {
+                    input[c] = Math.tanh(reading);
+                    c = c + 1;
+                }
+            }
+        }
+        // the weights of a neuron are contiguous, hence they are read in order
+        int w = 0;
+        for (int i = 1; i < layers.length; i++) {
+            double[] in = activations[i - 1];
+            double[] out = activations[i];
+            for (int j = 0; j < out.length; j++) {
+                double sum = weights[w];
+                w = w + 1;
+                for (int k = 0; k < in.length; k++) {
+                    sum = sum + in[k] * weights[w + k];
+                }
+                w = w + in.length;
+                out[j] = Math.tanh(sum);
+            }
+        }
+        double[] output = activations[layers.length - 1];
+        c = 0;
+        for (SensingVoxel voxel : voxels.values()) {
+            if (voxel != null) {
+                voxel.applyForce(output[c]);
+                c = c + 1;
+            }
+        }
+    }
+
+    public int[] getLayers() {
+        return layers;
+    }
+
+    public double[] getWeights() {
+        return weights;
+    }
+}
@@ -0,0 +1,331 @@
+package it.units.erallab;
+
+import it.units.malelab.jgea.core.Factory;
+import it.units.malelab.jgea.core.Individual;
+import it.units.malelab.jgea.core.evolver.StandardEvolver;
+import it.units.malelab.jgea.core.evolver.State;
+import it.units.malelab.jgea.core.listener.Listener;
+import it.units.malelab.jgea.core.operator.GeneticOperator;
+import it.units.malelab.jgea.core.order.PartialComparator;
+import it.units.malelab.jgea.core.order.PartiallyOrderedCollection;
+import it.units.malelab.jgea.core.selector.Selector;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+// standard evolver that periodically saves its population, its random generator and its counters to a file and can
+// start from such a file, continuing the evolution from the saved population
+// the resumed run is the same as an uninterrupted one only if the fitness is a deterministic function of the solution,
+// with no state of its own outside the checkpoint (e.g., it is not the case with racing); this is not checked
+// the state of a fitness function that has one (e.g., a surrogate) can be saved with the checkpoint, together with
+// which individuals have an estimated, rather than real, fitness
+// named counters of the run (e.g., the rows written to a diagnostics file) can be saved too, to continue from them
+// genotypes are real vectors of fixed length (e.g., lists of doubles or DoubleGenotype), saved as arrays
+// the checkpoint is taken right before a new population is built, copied on the evolver thread and written on a
+// background thread: first to a temporary file, then moved over the previous checkpoint
+public class CheckpointedEvolver<G, S> extends StandardEvolver<G, S, Double> implements Closeable {
+
+    private static final Logger L = Logger.getLogger(CheckpointedEvolver.class.getName());
+
+    private static final int MAGIC = 0x434b5054; // CKPT
+    private static final int VERSION = 3;
+
+    // state of a fitness function to be saved with the checkpoint, possibly estimating the fitness of some solutions
+    public interface FitnessState<S> {
+        byte[] save();
+
+        void restore(byte[] state);
+
+        boolean isEstimated(S solution);
+
+        void markEstimated(S solution);
+    }
+
+    public static class Checkpoint {
+        private final int iterations;
+        private final int births;
+        private final int fitnessEvaluations;
+        private final byte[] random;
+        private final double[][] genotypes;
+        private final double[] fitnesses;
+        private final int[] birthIterations;
+        private final boolean[] estimated;
+        private final byte[] fitnessState;
+        private final Map<String, Long> counters;
+
+        private Checkpoint(int iterations, int births, int fitnessEvaluations, byte[] random, double[][] genotypes, double[] fitnesses, int[] birthIterations, boolean[] estimated, byte[] fitnessState, Map<String, Long> counters) {
+            this.iterations = iterations;
+            this.births = births;
+            this.fitnessEvaluations = fitnessEvaluations;
+            this.random = random;
+            this.genotypes = genotypes;
+            this.fitnesses = fitnesses;
+            this.birthIterations = birthIterations;
+            this.estimated = estimated;
+            this.fitnessState = fitnessState;
+            this.counters = counters;
+        }
+
+        // with a null fitnessState, all the fitness values are real
+        private static <G, S> Checkpoint of(Collection<Individual<G, S, Double>> population, Function<? super G, double[]> toGenes, Random random, State state, FitnessState<? super S> fitnessState, Map<String, LongSupplier> counters) {
+            List<Individual<G, S, Double>> individuals = new ArrayList<>(population);
+            double[][] genotypes = new double[individuals.size()][];
+            double[] fitnesses = new double[individuals.size()];
+            int[] birthIterations = new int[individuals.size()];
+            boolean[] estimated = new boolean[individuals.size()];
+            for (int i = 0; i < individuals.size(); i++) {
+                genotypes[i] = toGenes.apply(individuals.get(i).getGenotype());
+                fitnesses[i] = individuals.get(i).getFitness();
+                birthIterations[i] = individuals.get(i).getBirthIteration();
+                estimated[i] = fitnessState != null && fitnessState.isEstimated(individuals.get(i).getSolution());
+            }
+            return new Checkpoint(
+                    state.getIterations(), state.getBirths(), state.getFitnessEvaluations(), serialize(random), genotypes, fitnesses, birthIterations,
+                    estimated, fitnessState == null ? new byte[0] : fitnessState.save(),
+                    counters.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().getAsLong()))
+            );
+        }
+
+        private static byte[] serialize(Random random) {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+                oos.writeObject(random);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return baos.toByteArray();
+        }
+
+        public int getIterations() {
+            return iterations;
+        }
+
+        // the value of a counter when the checkpoint was taken, 0 if it was not saved
+        public long getCounter(String name) {
+            return counters.getOrDefault(name, 0L);
+        }
+
+        // the random generator in the state it had when the checkpoint was taken: it has to be the one given to solve()
+        public Random getRandom() {
+            try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(random))) {
+                return (Random) ois.readObject();
+            } catch (IOException | ClassNotFoundException e) {
+                throw new IllegalStateException("Cannot restore the random generator", e);
+            }
+        }
+
+        public static Checkpoint read(Path path) throws IOException {
+            try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+                if (input.readInt() != MAGIC) {
+                    throw new IOException(String.format("%s is not a checkpoint", path));
+                }
+                // version 1 checkpoints have real fitness values only, and versions before 3 have no counters
+                int version = input.readInt();
+                if (version < 1 || version > VERSION) {
+                    throw new IOException(String.format("%s is not a checkpoint", path));
+                }
+                int iterations = input.readInt();
+                int births = input.readInt();
+                int fitnessEvaluations = input.readInt();
+                byte[] random = new byte[input.readInt()];
+                input.readFully(random);
+                int size = input.readInt();
+                int length = input.readInt();
+                double[][] genotypes = new double[size][length];
+                double[] fitnesses = new double[size];
+                int[] birthIterations = new int[size];
+                boolean[] estimated = new boolean[size];
+                for (int i = 0; i < size; i++) {
+                    birthIterations[i] = input.readInt();
+                    fitnesses[i] = input.readDouble();
+                    estimated[i] = version > 1 && input.readBoolean();
+                    for (int j = 0; j < length; j++) {
+                        genotypes[i][j] = input.readDouble();
+                    }
+                }
+                byte[] fitnessState = new byte[version > 1 ? input.readInt() : 0];
+                input.readFully(fitnessState);
+                Map<String, Long> counters = new HashMap<>();
+                int nOfCounters = version > 2 ? input.readInt() : 0;
+                for (int i = 0; i < nOfCounters; i++) {
+                    counters.put(input.readUTF(), input.readLong());
+                }
+                return new Checkpoint(iterations, births, fitnessEvaluations, random, genotypes, fitnesses, birthIterations, estimated, fitnessState, counters);
+            }
+        }
+
+        // null if there is no checkpoint yet, so that a killed job can be submitted again with the same arguments
+        public static Checkpoint readIfExists(String path) {
+            if (path == null || !Files.exists(Path.of(path))) {
+                return null;
+            }
+            try {
+                return read(Path.of(path));
+            } catch (IOException e) {
+                L.log(Level.SEVERE, String.format("Cannot read checkpoint due to %s", e), e);
+                return null;
+            }
+        }
+
+        public void write(Path path) throws IOException {
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                output.writeInt(MAGIC);
+                output.writeInt(VERSION);
+                output.writeInt(iterations);
+                output.writeInt(births);
+                output.writeInt(fitnessEvaluations);
+                output.writeInt(random.length);
+                output.write(random);
+                output.writeInt(genotypes.length);
+                output.writeInt(genotypes.length == 0 ? 0 : genotypes[0].length);
+                for (int i = 0; i < genotypes.length; i++) {
+                    output.writeInt(birthIterations[i]);
+                    output.writeDouble(fitnesses[i]);
+                    output.writeBoolean(estimated[i]);
+                    for (double gene : genotypes[i]) {
+                        output.writeDouble(gene);
+                    }
+                }
+                output.writeInt(fitnessState.length);
+                output.write(fitnessState);
+                output.writeInt(counters.size());
+                for (Map.Entry<String, Long> counter : counters.entrySet()) {
+                    output.writeUTF(counter.getKey());
+                    output.writeLong(counter.getValue());
+                }
+            }
+            // a killed run leaves either the previous or the new checkpoint, never a partial one
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    private final Function<? super G, ? extends S> restoredSolutionMapper;
+    private final Function<? super G, double[]> toGenes;
+    private final Function<double[], ? extends G> fromGenes;
+    private final Path checkpointPath;
+    private final int checkpointInterval;
+    private Checkpoint resumeFrom;
+    private FitnessState<? super S> fitnessState;
+    private final Map<String, LongSupplier> counters = new LinkedHashMap<>();
+    private final ExecutorService writer;
+
+    // with a null checkpointPath, no checkpoint is written; with a null resumeFrom, the evolution starts from scratch
+    // restored genotypes are not evaluated, hence they are mapped with restoredSolutionMapper, which must not have side
+    // effects meant for evaluation (e.g., remembering the encoding of the solution for an evaluation farm)
+    public CheckpointedEvolver(
+            Function<? super G, ? extends S> solutionMapper,
+            Factory<? extends G> genotypeFactory,
+            PartialComparator<? super Individual<G, S, Double>> individualComparator,
+            int populationSize,
+            Map<GeneticOperator<G>, Double> operators,
+            Selector<? super Individual<? super G, ? super S, ? super Double>> parentSelector,
+            Selector<? super Individual<? super G, ? super S, ? super Double>> unsurvivalSelector,
+            int offspringNumber,
+            boolean overlapping,
+            Function<? super G, double[]> toGenes,
+            Function<double[], ? extends G> fromGenes,
+            Function<? super G, ? extends S> restoredSolutionMapper,
+            Path checkpointPath,
+            int checkpointInterval,
+            Checkpoint resumeFrom) {
+        super(solutionMapper, genotypeFactory, individualComparator, populationSize, operators, parentSelector, unsurvivalSelector, offspringNumber, overlapping);
+        this.restoredSolutionMapper = restoredSolutionMapper;
+        this.toGenes = toGenes;
+        this.fromGenes = fromGenes;
+        this.checkpointPath = checkpointPath;
+        this.checkpointInterval = checkpointInterval;
+        this.resumeFrom = resumeFrom;
+        // a checkpoint still waiting to be written is replaced by a newer one
+        writer = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1), runnable -> {
+            Thread thread = new Thread(runnable, "checkpoint-writer");
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.DiscardOldestPolicy());
+    }
+
+    // the state of the fitness function given to solve() is saved with the checkpoint and restored when resuming
+    public CheckpointedEvolver<G, S> withFitnessState(FitnessState<? super S> fitnessState) {
+        this.fitnessState = fitnessState;
+        return this;
+    }
+
+    // the counter is read when the checkpoint is taken, on the evolver thread
+    public CheckpointedEvolver<G, S> withCounter(String name, LongSupplier counter) {
+        counters.put(name, counter);
+        return this;
+    }
+
+    // the restored population is listened to again, for the iteration it was checkpointed at, which was already listened
+    // to before the checkpoint: the returned listener skips that iteration, hence it has to be built before solve()
+    // a killed run may have listened to some iterations after the last checkpoint it wrote, which are listened to again
+    public Listener<G, S, Double> skippingRestored(Listener<? super G, ? super S, ? super Double> listener) {
+        int restoredIterations = resumeFrom == null ? -1 : resumeFrom.iterations;
+        return event -> {
+            if (event.getState().getIterations() > restoredIterations) {
+                listener.listen(event);
+            }
+        };
+    }
+
+    @Override
+    protected Collection<Individual<G, S, Double>> initPopulation(Function<S, Double> fitnessFunction, Random random, ExecutorService executor, State state) throws ExecutionException, InterruptedException {
+        if (resumeFrom == null) {
+            return super.initPopulation(fitnessFunction, random, executor, state);
+        }
+        L.info(String.format("Resuming from iteration %d", resumeFrom.iterations));
+        state.incIterations(resumeFrom.iterations);
+        state.incBirths(resumeFrom.births);
+        state.incFitnessEvaluations(resumeFrom.fitnessEvaluations);
+        if (fitnessState != null && resumeFrom.fitnessState.length > 0) {
+            fitnessState.restore(resumeFrom.fitnessState);
+        }
+        // fitness is not evaluated again, and estimated values stay so
+        List<Individual<G, S, Double>> population = new ArrayList<>(resumeFrom.genotypes.length);
+        for (int i = 0; i < resumeFrom.genotypes.length; i++) {
+            G genotype = fromGenes.apply(resumeFrom.genotypes[i]);
+            S solution = restoredSolutionMapper.apply(genotype);
+            if (fitnessState != null && resumeFrom.estimated[i]) {
+                fitnessState.markEstimated(solution);
+            }
+            population.add(new Individual<>(genotype, solution, resumeFrom.fitnesses[i], resumeFrom.birthIterations[i]));
+        }
+        resumeFrom = null;
+        return population;
+    }
+
+    @Override
+    protected Collection<Individual<G, S, Double>> updatePopulation(PartiallyOrderedCollection<Individual<G, S, Double>> orderedPopulation, Function<S, Double> fitnessFunction, Random random, ExecutorService executor, State state) throws ExecutionException, InterruptedException {
+        if (checkpointPath != null && state.getIterations() % checkpointInterval == 0) {
+            Checkpoint checkpoint = Checkpoint.of(orderedPopulation.all(), toGenes, random, state, fitnessState, counters);
+            writer.execute(() -> {
+                try {
+                    checkpoint.write(checkpointPath);
+                } catch (IOException e) {
+                    L.log(Level.WARNING, String.format("Cannot write checkpoint due to %s", e), e);
+                }
+            });
+        }
+        return super.updatePopulation(orderedPopulation, fitnessFunction, random, executor, state);
+    }
+
+    // waits for the pending checkpoint
+    @Override
+    public void close() {
+        writer.shutdown();
+        try {
+            writer.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,377 @@
+package it.units.erallab;
+
+import it.units.erallab.hmsrobots.core.controllers.TimeFunctions;
+import it.units.erallab.hmsrobots.core.objects.ControllableVoxel;
+import it.units.erallab.hmsrobots.core.objects.Robot;
+import it.units.erallab.hmsrobots.core.objects.SensingVoxel;
+import it.units.erallab.hmsrobots.core.objects.Voxel;
+import it.units.erallab.hmsrobots.util.Grid;
+
+import java.io.*;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// compact, versioned binary format of bodies and robots, in place of gzipped java serialization
+// a body is its occupancy bitmask and a table of material names (see Material.byName), each occupied cell referring to one of them
+// a robot is its body, the type of its controller, the layer sizes of the controller and its parameters
+// strings in the legacy format (base64 of gzipped java serialization, starting with H4sI) are still decoded
+public class Codec {
+
+    private static final int MAGIC = 0x5352; // SR
+    private static final int VERSION = 1;
+    private static final int BODY = 1;
+    private static final int ROBOT = 2;
+    private static final String LEGACY_PREFIX = "H4sI";
+    private static final List<String> MATERIALS = List.of("soft", "default", "sensing");
+
+    public static class BodySpec {
+        private final int w;
+        private final int h;
+        // for each cell (index y * w + x), the index in materials or -1 if empty
+        private final int[] cells;
+        private final List<String> materials;
+
+        public BodySpec(int w, int h, int[] cells, List<String> materials) {
+            this.w = w;
+            this.h = h;
+            this.cells = cells;
+            this.materials = materials;
+        }
+
+        // all the voxels of the body are made of the given material
+        public static BodySpec of(Grid<?> body, String material) {
+            int[] cells = new int[body.getW() * body.getH()];
+            for (int x = 0; x < body.getW(); x++) {
+                for (int y = 0; y < body.getH(); y++) {
+                    cells[y * body.getW() + x] = body.get(x, y) == null ? -1 : 0;
+                }
+            }
+            return new BodySpec(body.getW(), body.getH(), cells, List.of(material));
+        }
+
+        public int getW() {
+            return w;
+        }
+
+        public int getH() {
+            return h;
+        }
+
+        public boolean isOccupied(int x, int y) {
+            return cells[y * w + x] >= 0;
+        }
+
+        public Grid<? extends Voxel> toGrid() {
+            return Grid.create(w, h, (x, y) -> isOccupied(x, y) ? Material.byName(materials.get(cells[y * w + x])).get() : null);
+        }
+
+        private void writeTo(DataOutput output) throws IOException {
+            output.writeShort(w);
+            output.writeShort(h);
+            byte[] occupancy = new byte[(w * h + 7) / 8];
+            for (int i = 0; i < cells.length; i++) {
+                if (cells[i] >= 0) {
+                    occupancy[i / 8] |= 1 << (i % 8);
+                }
+            }
+            output.write(occupancy);
+            output.writeByte(materials.size());
+            for (String material : materials) {
+                output.writeUTF(material);
+            }
+            // with a single material, the occupancy is enough
+            if (materials.size() > 1) {
+                for (int cell : cells) {
+                    if (cell >= 0) {
+                        output.writeByte(cell);
+                    }
+                }
+            }
+        }
+
+        private static BodySpec readFrom(DataInput input) throws IOException {
+            int w = input.readUnsignedShort();
+            int h = input.readUnsignedShort();
+            byte[] occupancy = new byte[(w * h + 7) / 8];
+            input.readFully(occupancy);
+            String[] materials = new String[input.readUnsignedByte()];
+            for (int i = 0; i < materials.length; i++) {
+                materials[i] = input.readUTF();
+            }
+            int[] cells = new int[w * h];
+            for (int i = 0; i < cells.length; i++) {
+                if ((occupancy[i / 8] & (1 << (i % 8))) == 0) {
+                    cells[i] = -1;
+                } else {
+                    cells[i] = materials.length > 1 ? input.readUnsignedByte() : 0;
+                }
+            }
+            return new BodySpec(w, h, cells, List.of(materials));
+        }
+    }
+
+    public enum ControllerType {
+        // sinusoidal phase controller, with one phase per cell
+        PHASE,
+        // centralized sensing controller with a tanh multi layer perceptron
+        CENTRALIZED
+    }
+
+    public static class RobotSpec {
+        private final BodySpec body;
+        private final ControllerType controllerType;
+        private final int[] layers;
+        private final double[] params;
+
+        // for the centralized controller, layers are the sizes of input, hidden and output layers; otherwise they are empty
+        public RobotSpec(BodySpec body, ControllerType controllerType, int[] layers, double[] params) {
+            this.body = body;
+            this.controllerType = controllerType;
+            this.layers = layers;
+            this.params = params;
+        }
+
+        public BodySpec getBody() {
+            return body;
+        }
+
+        public ControllerType getControllerType() {
+            return controllerType;
+        }
+
+        public int[] getLayers() {
+            return layers;
+        }
+
+        public double[] getParams() {
+            return params;
+        }
+
+        @SuppressWarnings("unchecked")
+        public Robot<? extends Voxel> toRobot() {
+            int w = body.getW();
+            if (controllerType == ControllerType.PHASE) {
+                TimeFunctions brain = new TimeFunctions(Grid.create(w, body.getH(), (x, y) -> (Double t) -> Math.sin(-2 * Math.PI * t + Math.PI * params[x + y * w])));
+                return new Robot<>(brain, (Grid<ControllableVoxel>) body.toGrid());
+            }
+            return new Robot<>(new CentralizedPerceptron(layers, params), (Grid<SensingVoxel>) body.toGrid());
+        }
+
+        private void writeTo(DataOutput output, boolean singlePrecision) throws IOException {
+            body.writeTo(output);
+            output.writeByte(controllerType.ordinal());
+            output.writeByte(layers.length);
+            for (int layer : layers) {
+                output.writeInt(layer);
+            }
+            output.writeBoolean(singlePrecision);
+            output.writeInt(params.length);
+            for (double param : params) {
+                if (singlePrecision) {
+                    output.writeFloat((float) param);
+                } else {
+                    output.writeDouble(param);
+                }
+            }
+        }
+
+        private static RobotSpec readFrom(DataInput input) throws IOException {
+            BodySpec body = BodySpec.readFrom(input);
+            ControllerType controllerType = ControllerType.values()[input.readUnsignedByte()];
+            int[] layers = new int[input.readUnsignedByte()];
+            for (int i = 0; i < layers.length; i++) {
+                layers[i] = input.readInt();
+            }
+            boolean singlePrecision = input.readBoolean();
+            double[] params = new double[input.readInt()];
+            for (int i = 0; i < params.length; i++) {
+                params[i] = singlePrecision ? input.readFloat() : input.readDouble();
+            }
+            return new RobotSpec(body, controllerType, layers, params);
+        }
+    }
+
+    private Codec() {
+    }
+
+    private static void writeHeader(DataOutput output, int kind) throws IOException {
+        output.writeShort(MAGIC);
+        output.writeByte(VERSION);
+        output.writeByte(kind);
+    }
+
+    private static void readHeader(DataInput input, int kind) throws IOException {
+        if (input.readUnsignedShort() != MAGIC) {
+            throw new IOException("Not an encoded body or robot");
+        }
+        int version = input.readUnsignedByte();
+        if (version > VERSION) {
+            throw new IOException(String.format("Unsupported version %d", version));
+        }
+        if (input.readUnsignedByte() != kind) {
+            throw new IOException(String.format("Not an encoded %s", kind == BODY ? "body" : "robot"));
+        }
+    }
+
+    public static void write(BodySpec body, DataOutput output) throws IOException {
+        writeHeader(output, BODY);
+        body.writeTo(output);
+    }
+
+    public static BodySpec readBody(DataInput input) throws IOException {
+        readHeader(input, BODY);
+        return BodySpec.readFrom(input);
+    }
+
+    // with singlePrecision, params are stored as floats
+    public static void write(RobotSpec robot, DataOutput output, boolean singlePrecision) throws IOException {
+        writeHeader(output, ROBOT);
+        robot.writeTo(output, singlePrecision);
+    }
+
+    public static RobotSpec readRobot(DataInput input) throws IOException {
+        readHeader(input, ROBOT);
+        return RobotSpec.readFrom(input);
+    }
+
+    public static byte[] bytes(BodySpec body) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(baos)) {
+            write(body, output);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return baos.toByteArray();
+    }
+
+    public static byte[] bytes(RobotSpec robot) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(baos)) {
+            write(robot, output, false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return baos.toByteArray();
+    }
+
+    public static String encode(BodySpec body) {
+        return Base64.getEncoder().encodeToString(bytes(body));
+    }
+
+    public static String encode(RobotSpec robot) {
+        return Base64.getEncoder().encodeToString(bytes(robot));
+    }
+
+    public static boolean isLegacy(String string) {
+        return string.startsWith(LEGACY_PREFIX);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <V extends Voxel> Grid<V> decodeBody(byte[] bytes) {
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            return (Grid<V>) readBody(input).toGrid();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static Robot<? extends Voxel> decodeRobot(byte[] bytes) {
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            return readRobot(input).toRobot();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <V extends Voxel> Grid<V> decodeBody(String string) {
+        if (isLegacy(string)) {
+            return Utils.safelyDeserialize(string, Grid.class);
+        }
+        return decodeBody(Base64.getDecoder().decode(string));
+    }
+
+    public static Robot<? extends Voxel> decodeRobot(String string) {
+        if (isLegacy(string)) {
+            return Utils.safelyDeserialize(string, Robot.class);
+        }
+        return decodeRobot(Base64.getDecoder().decode(string));
+    }
+
+    // converts a legacy serialized body to the compact format, given the material of its voxels
+    public static String convertBody(String legacy, String material) {
+        return encode(BodySpec.of(Utils.safelyDeserialize(legacy, Grid.class), material));
+    }
+
+    // the name of the material of all the voxels of the body (see Material.byName)
+    private static String materialName(Grid<? extends Voxel> body) {
+        List<List<Object>> parameters = body.values().stream()
+                .filter(Objects::nonNull)
+                .map(Material::parameters)
+                .distinct()
+                .collect(Collectors.toList());
+        if (parameters.size() != 1) {
+            throw new IllegalArgumentException(String.format("Not a body made of one material: %d materials", parameters.size()));
+        }
+        return MATERIALS.stream()
+                .filter(name -> Material.parameters(Material.byName(name).get()).equals(parameters.get(0)))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Not a body made of a known material"));
+    }
+
+    private static Object field(Object object, String name) {
+        try {
+            Field field = object.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            return field.get(object);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException(String.format("Cannot read %s of %s", name, object.getClass().getSimpleName()), e);
+        }
+    }
+
+    // converts a legacy serialized robot with a phase controller, as built by ControllerOptimization, to the compact
+    // format; the phases are recovered from the values of the sinusoid of each cell at t=0 and t=0.25, hence they are
+    // equal to the original ones modulo 2, which gives the same controller
+    // Robot and TimeFunctions have no getters for the controller and its functions, hence they are read by reflection
+    @SuppressWarnings("unchecked")
+    public static String convertRobot(String legacy) {
+        Robot<? extends Voxel> robot = Utils.safelyDeserialize(legacy, Robot.class);
+        Object controller = field(robot, "controller");
+        if (!(controller instanceof TimeFunctions)) {
+            throw new IllegalArgumentException(String.format("Cannot convert a robot with a %s controller", controller.getClass().getSimpleName()));
+        }
+        Grid<? extends Function<Double, Double>> functions = (Grid<? extends Function<Double, Double>>) field(controller, "functions");
+        Grid<? extends Voxel> body = robot.getVoxels();
+        double[] params = new double[functions.getW() * functions.getH()];
+        for (int x = 0; x < functions.getW(); x++) {
+            for (int y = 0; y < functions.getH(); y++) {
+                Function<Double, Double> function = functions.get(x, y);
+                params[x + y * functions.getW()] = Math.atan2(function.apply(0d), -function.apply(0.25d)) / Math.PI;
+            }
+        }
+        return encode(new RobotSpec(BodySpec.of(body, materialName(body)), ControllerType.PHASE, new int[0], params));
+    }
+
+    // converts the legacy bodies or robots in a file with one per line: args are the input and output files, the kind
+    // ("body" or "robot") and, for bodies, the material of their voxels
+    // the in-tree bodies and robots (see Utils and RobotValidator) are already converted; strings in the legacy format
+    // are still decoded, but legacy robots with controllers other than the phase one cannot be converted
+    public static void main(String[] args) throws IOException {
+        Path input = Paths.get(args[0]);
+        Path output = Paths.get(args[1]);
+        boolean robots = args.length > 2 && args[2].equals("robot");
+        String material = args.length > 3 ? args[3] : "soft";
+        List<String> lines = Files.readAllLines(input, StandardCharsets.UTF_8).stream()
+                .map(line -> !isLegacy(line) ? line : (robots ? convertRobot(line) : convertBody(line, material)))
+                .collect(Collectors.toList());
+        Files.write(output, lines, StandardCharsets.UTF_8);
+    }
+}
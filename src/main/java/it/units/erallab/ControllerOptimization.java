@@ -3,13 +3,11 @@ package it.units.erallab;
 import com.google.common.collect.Lists;
 import it.units.erallab.hmsrobots.core.controllers.CentralizedSensing;
 import it.units.erallab.hmsrobots.core.controllers.Controller;
-import it.units.erallab.hmsrobots.core.controllers.MultiLayerPerceptron;
 import it.units.erallab.hmsrobots.core.controllers.TimeFunctions;
 import it.units.erallab.hmsrobots.core.objects.ControllableVoxel;
 import it.units.erallab.hmsrobots.core.objects.Robot;
 import it.units.erallab.hmsrobots.core.objects.SensingVoxel;
 import it.units.erallab.hmsrobots.core.objects.Voxel;
-import it.units.erallab.hmsrobots.core.sensors.*;
 import it.units.erallab.hmsrobots.tasks.Locomotion;
 import it.units.erallab.hmsrobots.util.Grid;
 import it.units.malelab.jgea.Worker;
@@ -17,7 +15,6 @@ import it.units.malelab.jgea.core.Individual;
 import it.units.malelab.jgea.core.Problem;
 import it.units.malelab.jgea.core.evolver.CMAESEvolver;
 import it.units.malelab.jgea.core.evolver.Evolver;
-import it.units.malelab.jgea.core.evolver.StandardEvolver;
 import it.units.malelab.jgea.core.evolver.stopcondition.Births;
 import it.units.malelab.jgea.core.evolver.stopcondition.Iterations;
 import it.units.malelab.jgea.core.listener.Listener;
@@ -28,15 +25,16 @@ import it.units.malelab.jgea.core.selector.Tournament;
 import it.units.malelab.jgea.core.selector.Worst;
 import it.units.malelab.jgea.core.util.Misc;
 import it.units.malelab.jgea.representation.sequence.FixedLengthListFactory;
-import it.units.malelab.jgea.representation.sequence.UniformCrossover;
-import it.units.malelab.jgea.representation.sequence.numeric.GaussianMutation;
 import it.units.malelab.jgea.representation.sequence.numeric.UniformDoubleFactory;
-import org.apache.commons.lang3.SerializationUtils;
 import org.dyn4j.dynamics.Settings;
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.*;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
-import java.util.stream.IntStream;
 
 import static it.units.malelab.jgea.core.util.Args.i;
 
@@ -51,6 +49,50 @@ public class ControllerOptimization extends Worker {
         new ControllerOptimization(args);
     }
 
+    // task of the robots being evolved, also built by the workers of an evaluation farm
+    // with racing (possibly null), jump and escape episodes are cut when they look worse than most of the ones of the
+    // previous generation; locomotion is a library task, hence it is always simulated until the end
+    public static Function<Robot<?>, List<Double>> task(String taskType, double time, Racing racing) {
+        if (taskType.equals("locomotion")) {
+            return new Locomotion(
+                    time,
+                    Locomotion.createTerrain("flat"),
+                    Lists.newArrayList(Locomotion.Metric.TRAVEL_X_VELOCITY, Locomotion.Metric.CONTROL_POWER),
+                    new Settings()
+            );
+        } else if (taskType.equals("hiking")) {
+            return new Locomotion(
+                    time,
+                    Utils.createHillyTerrain(1.0,1.0,0),
+                    Lists.newArrayList(Locomotion.Metric.TRAVEL_X_VELOCITY, Locomotion.Metric.CONTROL_POWER),
+                    new Settings()
+            );
+        } else if (taskType.equals("escape")) {
+            return new Escape(
+                    40.0,
+                    Lists.newArrayList(Locomotion.Metric.TRAVEL_X_VELOCITY, Locomotion.Metric.CONTROL_POWER),
+                    new Settings()
+            ).withRacing(racing);
+        } else if (taskType.equals("jump")) {
+            // the body is the same for the whole run, hence it settles only once
+            return new Jump(
+                    time,
+                    Jump.createTerrain("bowl"),
+                    1.0,
+                    Lists.newArrayList(Jump.Metric.CENTER_JUMP, Jump.Metric.CONTROL_POWER),
+                    new Settings()
+            ).withSettledStates(1e-3, 0.02).withRacing(racing);
+        }
+        throw new IllegalArgumentException(String.format("Unknown task %s", taskType));
+    }
+
+    // fitness of robots encoded with Codec, for the workers of an evaluation farm
+    // workers do not know the generations of the evolver, hence they never cut episodes
+    public static Function<byte[], Double> farmTask(Map<String, String> parameters) {
+        Function<Robot<?>, List<Double>> task = task(parameters.get("taskType"), Double.parseDouble(parameters.get("time")), null);
+        return encoding -> task.apply(Codec.decodeRobot(encoding)).get(0);
+    }
+
     public void run() {
         String bodyType = a("bodyType", "serialized");
         String controller = a("controller", "centralized");
@@ -64,6 +106,19 @@ public class ControllerOptimization extends Worker {
         double time = 20;
         int births = i(a("births", "10000"));
         String taskType = a("taskType", "jump");
+        // with racing, the first metric (to be maximized) of the episodes is compared between generations
+        Racing racing = Boolean.parseBoolean(a("racing", "false")) ? Racing.halving(0, true) : null;
+        // evolver of the centralized controller: ga, sepCmaes or lmCmaes
+        String evolverName = a("evolver", "ga");
+        // only the standard evolver, used with the centralized controller, can be checkpointed
+        // the in-memory cache of the task is not saved, hence a resumed run simulates again the robots it had cached
+        String resumePath = a("resume", null);
+        String checkpointPath = a("checkpoint", resumePath);
+        int checkpointInterval = i(a("checkpointInterval", "1"));
+        if (checkpointPath != null && (controller.equals("phase") || evolverName.equals("sepCmaes") || evolverName.equals("lmCmaes"))) {
+            throw new IllegalArgumentException("Only the standard evolver of the centralized controller can be checkpointed or resumed");
+        }
+        CheckpointedEvolver.Checkpoint checkpoint = CheckpointedEvolver.Checkpoint.readIfExists(resumePath);
 
         Grid<ControllableVoxel> body = null;
 
@@ -76,7 +131,7 @@ public class ControllerOptimization extends Worker {
             bodies = Utils.optimizedBodies;
         }
         if (bodies != null) {
-            body = it.units.erallab.Utils.safelyDeserialize(bodies.get(robotIndex), Grid.class);
+            body = Codec.decodeBody(bodies.get(robotIndex));
             for (int x = 0; x < body.getW(); x++) {
                 for (int y = 0; y < body.getH(); y++) {
                     if (body.get(x, y) != null) {
@@ -87,13 +142,13 @@ public class ControllerOptimization extends Worker {
         }
 
         if (bodyType.equals("box")) {
-            body = Grid.create(gridW, gridH, (x, y) -> SerializationUtils.clone(new ControllableVoxel()));
+            body = Grid.create(gridW, gridH, (x, y) -> new ControllableVoxel());
         } else if (bodyType.equals("worm")) {
-            body = Grid.create(10, 2, (x, y) -> SerializationUtils.clone(new ControllableVoxel()));
+            body = Grid.create(10, 2, (x, y) -> new ControllableVoxel());
         }  else if (bodyType.equals("biped")) {
             body = Grid.create(6,4, (x, y) -> {
                 if ((y > 1) || (x < 2 || x > 3)) {
-                    return SerializationUtils.clone(new ControllableVoxel());
+                    return new ControllableVoxel();
                 } else {
                     return null;
                 }
@@ -101,7 +156,7 @@ public class ControllerOptimization extends Worker {
         }  else if (bodyType.equals("reversedT")) {
             body = Grid.create(6,6, (x, y) -> {
                 if ((y < 2) || (x > 1 && x < 4)) {
-                    return SerializationUtils.clone(new ControllableVoxel());
+                    return new ControllableVoxel();
                 } else {
                     return null;
                 }
@@ -109,23 +164,14 @@ public class ControllerOptimization extends Worker {
         }
 
         int genotypeSize;
+        // sizes of the input, hidden and output layers of the centralized controller
+        int[] layers = new int[0];
         if (controller.equals("phase")) {
             genotypeSize = body.getW() * body.getH();
         } else {
-            Grid<ControllableVoxel> finalBody = body;
-            Grid<SensingVoxel> mlpBody = Grid.create(body.getW(), body.getH(), (x, y) -> {
-                SensingVoxel sensingVoxel = null;
-                if (finalBody.get(x, y) != null) {
-                    sensingVoxel = new SensingVoxel(List.of(
-                            new Touch(),
-                            new Normalization(new Velocity(true, 5d, Velocity.Axis.X, Velocity.Axis.Y)),
-                            new Normalization(new AreaRatio())
-                    ));
-                }
-                return sensingVoxel;
-            });
-            CentralizedSensing cBrain  = new CentralizedSensing<>(SerializationUtils.clone(mlpBody));
-            genotypeSize = new MultiLayerPerceptron(MultiLayerPerceptron.ActivationFunction.TANH, cBrain.nOfInputs(), new int[]{(int) (cBrain.nOfInputs() * 0.65d)}, cBrain.nOfOutputs()).getParams().length;
+            CentralizedSensing cBrain  = new CentralizedSensing<>(BodyTemplate.of(body, Material::sensingVoxel).create());
+            layers = new int[]{cBrain.nOfInputs(), (int) (cBrain.nOfInputs() * 0.65d), cBrain.nOfOutputs()};
+            genotypeSize = CentralizedPerceptron.nOfWeights(layers);
         }
 
         MultiFileListenerFactory<Object, Robot<? extends Voxel>, Double> statsListenerFactory = new MultiFileListenerFactory<>(
@@ -133,47 +179,23 @@ public class ControllerOptimization extends Worker {
                 a("statsFile", null)
         );
 
-        Function<?, ?> task = null;
-
-        if (taskType.equals("locomotion")) {
-            task = Misc.cached(new Locomotion(
-                    time,
-                    Locomotion.createTerrain("flat"),
-                    Lists.newArrayList(Locomotion.Metric.TRAVEL_X_VELOCITY, Locomotion.Metric.CONTROL_POWER),
-                    new Settings()
-            ), cacheSize);
-        } else if (taskType.equals("hiking")) {
-            task = Misc.cached(new Locomotion(
-                    time,
-                    Utils.createHillyTerrain(1.0,1.0,0),
-                    Lists.newArrayList(Locomotion.Metric.TRAVEL_X_VELOCITY, Locomotion.Metric.CONTROL_POWER),
-                    new Settings()
-            ), cacheSize);
-        } else if (taskType.equals("escape")) {
-            task = Misc.cached(new Escape(
-                    40.0,
-                    Lists.newArrayList(Locomotion.Metric.TRAVEL_X_VELOCITY, Locomotion.Metric.CONTROL_POWER),
-                    new Settings()
-            ), cacheSize);
-        } else if (taskType.equals("jump")) {
-            task = Misc.cached(new Jump(
-                    time,
-                    Jump.createTerrain("bowl"),
-                    1.0,
-                    Lists.newArrayList(Jump.Metric.CENTER_JUMP, Jump.Metric.CONTROL_POWER),
-                    new Settings()
-            ), cacheSize);
-        }
-
-        Function<Robot<? extends Voxel>, ?> finalTask = (Function<Robot<? extends Voxel>, ?>) task;
+        // results of cut episodes are not cached, as they depend on the generation
+        Function<Robot<?>, List<Double>> task = racing == null
+                ? Misc.cached(task(taskType, time, null), cacheSize)
+                : racing.cached(task(taskType, time, racing), cacheSize, results -> racing.isPenalty(results.get(racing.getMetric())));
         Problem<Robot<? extends Voxel>, Double> problem = () -> robot -> {
-            List<Double> results = (List<Double>) finalTask.apply(robot);
+            List<Double> results = task.apply(robot);
             //return results.get(0)*(1.0/(1.0 + results.get(1)*time*time));
             return results.get(0);
         };
 
         Grid<ControllableVoxel> finalBody1 = body;
-        Function<List<Double>, Robot<? extends Voxel>> mapper = g -> {
+        // new bodies for each genome, built from the occupancy of the body
+        BodyTemplate<ControllableVoxel> bodyTemplate = BodyTemplate.of(body, ControllableVoxel::new);
+        BodyTemplate<SensingVoxel> sensingBodyTemplate = BodyTemplate.of(body, Material::sensingVoxel);
+        int[] finalLayers = layers;
+        // genotypes are primitive arrays, shared with the controllers built from them
+        Function<DoubleGenotype, Robot<? extends Voxel>> mapper = g -> {
             Controller<? extends Voxel> brain = null;
             Robot<? extends Voxel> robot = null;
             if (controller.equals("phase")) {
@@ -181,40 +203,53 @@ public class ControllerOptimization extends Worker {
                 brain = new TimeFunctions(
                         Grid.create(finalBody1.getW(), finalBody1.getH(), (x, y) -> (Double t) -> Math.sin(-2 * Math.PI * t + Math.PI * g.get(x + y * finalBody1.getW())))
                 );
-                robot = new Robot<>((Controller<? super ControllableVoxel>) brain, SerializationUtils.clone(finalBody1));
+                robot = new Robot<>((Controller<? super ControllableVoxel>) brain, bodyTemplate.create());
             } else if (controller.equals("centralized")) {
-                // convert body to sensing body
-                Grid<SensingVoxel> sensingBody = Grid.create(finalBody1.getW(), finalBody1.getH(), (x, y) -> {
-                    SensingVoxel sensingVoxel = null;
-                    if (finalBody1.get(x, y) != null) {
-                        sensingVoxel = new SensingVoxel(List.of(
-                                new Touch(),
-                                new Normalization(new Velocity(true, 5d, Velocity.Axis.X, Velocity.Axis.Y)),
-                                new Normalization(new AreaRatio())
-                                ));
-                    }
-                    return sensingVoxel;
-                });
-                CentralizedSensing centralizedBrain  = new CentralizedSensing<>(SerializationUtils.clone(sensingBody));
-                MultiLayerPerceptron mlp = new MultiLayerPerceptron(
-                        MultiLayerPerceptron.ActivationFunction.TANH,
-                        centralizedBrain.nOfInputs(),
-                        // 0.65d
-                        new int[]{(int) (centralizedBrain.nOfInputs() * 0.65d)}, // hidden layers
-                        centralizedBrain.nOfOutputs()
-                );
-                double[] ws = mlp.getParams();
-                IntStream.range(0, ws.length).forEach(i -> ws[i] = g.get(i));
-                mlp.setParams(ws);
-                centralizedBrain.setFunction(mlp);
-                robot = new Robot<>(centralizedBrain, SerializationUtils.clone(sensingBody));
+                robot = new Robot<>(new CentralizedPerceptron(finalLayers, g.values()), sensingBodyTemplate.create());
             }
             return robot;
         };
 
+        // compact description of the robot of a genome, for the stats files
+        Codec.BodySpec bodySpec = Codec.BodySpec.of(body, controller.equals("phase") ? "default" : "sensing");
+        Codec.ControllerType controllerType = controller.equals("phase") ? Codec.ControllerType.PHASE : Codec.ControllerType.CENTRALIZED;
+        Function<DoubleGenotype, Codec.RobotSpec> robotSpec = g -> new Codec.RobotSpec(bodySpec, controllerType, finalLayers, g.values());
+        Function<DoubleGenotype, String> encoder = g -> Codec.encode(robotSpec.apply(g));
+
+        // with farmPort, fitness is computed by the workers connected to that port, possibly started here
+        // workers get the encoding of the robot, which is kept, by identity, from the genome it was built from
+        Function<Robot<? extends Voxel>, Double> fitnessFunction = problem.getFitnessFunction();
+        Function<DoubleGenotype, Robot<? extends Voxel>> evolverMapper = mapper;
+        EvaluationFarm farm = null;
+        ExecutorService evaluationExecutor = executorService;
+        String farmPort = a("farmPort", null);
+        if (farmPort != null && racing != null) {
+            throw new IllegalArgumentException("Racing is not supported with an evaluation farm");
+        }
+        if (farmPort != null) {
+            try {
+                farm = new EvaluationFarm(i(farmPort), "robot", Map.of(
+                        "taskType", taskType,
+                        "time", Double.toString(time)
+                ), TimeUnit.SECONDS.toMillis(i(a("farmTimeout", "600"))));
+                farm.startLocalWorkers(i(a("farmLocalWorkers", "0")), i(a("farmLocalThreads", "1")));
+                Map<Robot<? extends Voxel>, byte[]> encodings = Collections.synchronizedMap(new IdentityHashMap<>());
+                evolverMapper = g -> {
+                    Robot<? extends Voxel> robot = mapper.apply(g);
+                    encodings.put(robot, Codec.bytes(robotSpec.apply(g)));
+                    return robot;
+                };
+                fitnessFunction = farm.fitness(encodings::remove);
+                // evaluations only wait for the workers, hence there are as many as the tasks they can take
+                evaluationExecutor = Executors.newFixedThreadPool(i(a("farmThreads", "256")));
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+
         // CMA-ES evolver: https://en.wikipedia.org/wiki/CMA-ES
         Evolver<List<Double>, Robot<? extends Voxel>, Double> evolver = new CMAESEvolver<>(
-                mapper,
+                DoubleGenotype.onLists(evolverMapper),
                 new FixedLengthListFactory<>(genotypeSize, new UniformDoubleFactory(0, 1)),
                 PartialComparator.from(Double.class).reversed().comparing(Individual::getFitness),
                 0,
@@ -222,52 +257,98 @@ public class ControllerOptimization extends Worker {
         );
 
         // standard evolver
-        Evolver<List<Double>, Robot<? extends Voxel>, Double> directEvolver = new StandardEvolver<>(
-                mapper,
-                new FixedLengthListFactory<>(genotypeSize, new UniformDoubleFactory(0, 1)),
+        CheckpointedEvolver<DoubleGenotype, Robot<? extends Voxel>> directEvolver = new CheckpointedEvolver<>(
+                evolverMapper,
+                new DoubleGenotype.UniformFactory(genotypeSize, 0, 1),
                 PartialComparator.from(Double.class).reversed().comparing(Individual::getFitness), // fitness comparator
                 1000, // pop size
                 Map.of(
-                        new GaussianMutation(0.01), 0.2d,
-                        new UniformCrossover<>(new FixedLengthListFactory<>(genotypeSize, new UniformDoubleFactory(0, 1))), 0.8d
+                        new DoubleGenotype.GaussianMutation(0.01), 0.2d,
+                        new DoubleGenotype.UniformCrossover(), 0.8d
                 ),
                 new Tournament(10), // depends on pop size
                 new Worst(), // worst individual dies
                 1000,
-                true
+                true,
+                DoubleGenotype::values,
+                DoubleGenotype::of,
+                mapper, // not the farm mapper, as restored robots are not evaluated
+                checkpointPath == null ? null : Paths.get(checkpointPath),
+                checkpointInterval,
+                checkpoint
         );
 
+        // CMA-ES variants with linear cost in the genotype size, for the centralized controller
+        Evolver<DoubleGenotype, Robot<? extends Voxel>, Double> largeScaleEvolver = switch (evolverName) {
+            case "sepCmaes" -> new SepCMAESEvolver<>(
+                    evolverMapper,
+                    new DoubleGenotype.UniformFactory(genotypeSize, 0, 1),
+                    PartialComparator.from(Double.class).reversed().comparing(Individual::getFitness),
+                    DoubleGenotype::values,
+                    DoubleGenotype::of,
+                    0,
+                    0.5
+            );
+            case "lmCmaes" -> new LMCMAESEvolver<>(
+                    evolverMapper,
+                    new DoubleGenotype.UniformFactory(genotypeSize, 0, 1),
+                    PartialComparator.from(Double.class).reversed().comparing(Individual::getFitness),
+                    DoubleGenotype::values,
+                    DoubleGenotype::of,
+                    0,
+                    0.5,
+                    0
+            );
+            default -> null;
+        };
+
         List<DataCollector<?, ? super Robot<? extends Voxel>, ? super Double>> collectors = List.of(
                 new Basic(),
                 new Population(),
                 new Diversity(),
                 new BestInfo("%8.6f"),
                 new FunctionOfOneBest<>(i -> List.of(
-                        new Item("serialized.robot", it.units.erallab.Utils.safelySerialize(i.getSolution()), "%s")
+                        new Item("serialized.robot", encoder.apply(i.getGenotype() instanceof DoubleGenotype ? (DoubleGenotype) i.getGenotype() : DoubleGenotype.of((List<Double>) i.getGenotype())), "%s")
                 ))
         );
-        Listener<? super Object, ? super Robot<? extends Voxel>, ? super Double> listener;
+        Listener<? super Object, ? super Robot<? extends Voxel>, ? super Double> statsListener;
         if (statsListenerFactory.getBaseFileName() == null) {
-            listener = listener(collectors.toArray(DataCollector[]::new));
+            statsListener = listener(collectors.toArray(DataCollector[]::new));
         } else {
-            listener = statsListenerFactory.build(collectors.toArray(DataCollector[]::new));
+            statsListener = statsListenerFactory.build(collectors.toArray(DataCollector[]::new));
         }
+        // the listener is called between generations, hence there the thresholds of racing are updated
+        Listener<Object, Robot<? extends Voxel>, Double> listener = racing == null ? statsListener::listen : event -> {
+            racing.nextGeneration();
+            statsListener.listen(event);
+        };
+        Function<Robot<? extends Voxel>, Double> cachedFitnessFunction = racing == null
+                ? Misc.cached(fitnessFunction, cacheSize)
+                : racing.cached(fitnessFunction, cacheSize, racing::isPenalty);
         try {
             if (controller.equals("phase")) {
                 evolver.solve(
-                        Misc.cached(problem.getFitnessFunction(), cacheSize),
+                        cachedFitnessFunction,
                         new Births(births),
                         new Random(randomSeed),
-                        executorService,
+                        evaluationExecutor,
+                        listener
+                );
+            } else if (largeScaleEvolver != null) {
+                largeScaleEvolver.solve(
+                        cachedFitnessFunction,
+                        new Births(births),
+                        new Random(randomSeed),
+                        evaluationExecutor,
                         listener
                 );
             } else {
                 directEvolver.solve(
-                        Misc.cached(problem.getFitnessFunction(), cacheSize),
+                        cachedFitnessFunction,
                         new Iterations(100),
-                        new Random(randomSeed),
-                        executorService,
-                        listener
+                        checkpoint == null ? new Random(randomSeed) : checkpoint.getRandom(),
+                        evaluationExecutor,
+                        directEvolver.skippingRestored(listener)
                 );
             }
         } catch (InterruptedException e) {
@@ -275,5 +356,14 @@ public class ControllerOptimization extends Worker {
         } catch (ExecutionException e) {
             e.printStackTrace();
         }
+        directEvolver.close();
+        if (farm != null) {
+            evaluationExecutor.shutdown();
+            try {
+                farm.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
     }
 }
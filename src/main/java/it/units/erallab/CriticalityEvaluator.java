@@ -1,103 +1,166 @@
 package it.units.erallab;
 
 import it.units.erallab.hmsrobots.core.objects.Robot;
+import it.units.erallab.hmsrobots.core.objects.Voxel;
 import it.units.erallab.hmsrobots.core.objects.WorldObject;
-import it.units.erallab.hmsrobots.core.objects.immutable.Snapshot;
 import it.units.erallab.hmsrobots.tasks.AbstractTask;
 import it.units.erallab.hmsrobots.util.BoundingBox;
 import it.units.erallab.hmsrobots.viewers.SnapshotListener;
+import org.dyn4j.dynamics.Body;
 import org.dyn4j.dynamics.Settings;
 import org.dyn4j.dynamics.World;
 import org.dyn4j.geometry.Vector2;
 import java.util.*;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 public class CriticalityEvaluator extends AbstractTask<Robot<?>, List<Double>> {
+    // horizontal gap between robots simulated in the same world
+    private static final double BATCH_GAP = 10d;
+
     private final double finalT;
     private final double initialPlacement;
-    private double threshold;
-    private boolean dynamicThreshold;
+    private final double threshold;
+    private final boolean dynamicThreshold;
+    private final AvalancheTermination termination;
+    private final int maxAvalancheDuration;
 
-    public CriticalityEvaluator(double finalT, Settings settings) {
+    private CriticalityEvaluator(double finalT, Settings settings, boolean dynamicThreshold, double threshold, AvalancheTermination termination, int maxAvalancheDuration) {
         super(settings);
         this.finalT = finalT;
         this.initialPlacement = 1.0D;
-        this.dynamicThreshold = true;
+        this.dynamicThreshold = dynamicThreshold;
+        this.threshold = threshold;
+        this.termination = termination;
+        this.maxAvalancheDuration = maxAvalancheDuration;
+    }
+
+    public CriticalityEvaluator(double finalT, Settings settings) {
+        this(finalT, settings, true, 0d, AvalancheTermination.strict(), Integer.MAX_VALUE);
     }
 
     public CriticalityEvaluator(double finalT, Settings settings, double threshold) {
-        super(settings);
-        this.finalT = finalT;
-        this.initialPlacement = 1.0D;
-        this.dynamicThreshold = false;
-        this.threshold = threshold;
+        this(finalT, settings, false, threshold, AvalancheTermination.strict(), Integer.MAX_VALUE);
     }
 
-    public List<Double> apply(Robot<?> robot, SnapshotListener listener) {
+    public CriticalityEvaluator(double finalT, Settings settings, AvalancheTermination termination, int maxAvalancheDuration) {
+        this(finalT, settings, true, 0d, termination, maxAvalancheDuration);
+    }
 
-        int voxelGridSize = robot.getVoxels().getW()*robot.getVoxels().getH();
+    public CriticalityEvaluator(double finalT, Settings settings, double threshold, AvalancheTermination termination, int maxAvalancheDuration) {
+        this(finalT, settings, false, threshold, termination, maxAvalancheDuration);
+    }
 
-        int voxels = (int) robot.getVoxels().values().stream().filter(Objects::nonNull).count();
+    // the longest avalanche (in steps) that fits a temporal histogram
+    public static int maxAvalancheDuration(int temporalBins, int binSize) {
+        return temporalBins * binSize - 1;
+    }
 
+    private double threshold(int nOfVoxels) {
         if (this.dynamicThreshold) {
-            this.threshold = 0.006092750496194226 - 0.00014273597198968677 * voxels +  9.238294116972325e-07 * voxels * voxels;
+            return 0.006092750496194226 - 0.00014273597198968677 * nOfVoxels +  9.238294116972325e-07 * nOfVoxels * nOfVoxels;
         }
+        return this.threshold;
+    }
+
+    private AvalancheTracker tracker(Robot<?> robot) {
+        // non-null voxels, in grid order
+        Voxel[] voxels = robot.getVoxels().values().stream()
+                .filter(Objects::nonNull)
+                .toArray(Voxel[]::new);
+        // the threshold is local, since the same evaluator is shared among threads
+        return new AvalancheTracker(voxels, threshold(voxels.length), termination, maxAvalancheDuration);
+    }
+
+    private static WorldPool.PooledWorld acquireWorld() {
+        // no terrain: the same worlds are used by all the evaluators of the thread
+        return WorldPool.acquire(CriticalityEvaluator.class, w -> {
+            // disable gravity
+            w.setGravity(new Vector2(0d, 0d));
+            return List.of();
+        });
+    }
+
+    public List<Double> apply(Robot<?> robot, SnapshotListener listener) {
 
-        Object[] voxelsPreviousArea = null;
-        Object[] voxelsCurrentArea;
-        int[] avalanchedVoxels = new int[voxelGridSize];
-        int avalanchesTemporalExtension = 0;
+        AvalancheTracker tracker = tracker(robot);
 
-        World world = new World();
-        // disable gravity
-        world.setGravity(new Vector2(0d, 0d));
+        WorldPool.PooledWorld pooledWorld = acquireWorld();
+        World world = pooledWorld.getWorld();
 
         world.setSettings(this.settings);
-        List<WorldObject> worldObjects = new ArrayList();
+        SnapshotSampler sampler = new SnapshotSampler(listener, pooledWorld.getTerrain());
 
         BoundingBox boundingBox = robot.boundingBox();
         robot.translate(new Vector2(this.initialPlacement - boundingBox.min.x, 0.0D));
         robot.addTo(world);
-        worldObjects.add(robot);
+        List<WorldObject> movingObjects = List.of(robot);
 
         double t = 0.0D;
-        while (t < this.finalT) {
-            t += this.settings.getStepFrequency();
-            world.step(1);
-            robot.act(t);
-
-            // self-organized criticality
-            voxelsCurrentArea = robot.getVoxels().values().stream()
-                    .filter(Objects::nonNull)
-                    .map(it.units.erallab.hmsrobots.core.objects.Voxel::getAreaRatio)
-                    .collect(Collectors.toList()).toArray();
-
-            if (voxelsPreviousArea != null) {
-                Object[] finalPreviousAreas = voxelsPreviousArea;
-                Object[] finalCurrentAreas = voxelsCurrentArea;
-                int[] activeVoxelsIndex = IntStream.range(0, voxelsPreviousArea.length)
-                        .filter(i -> Math.abs((double) finalPreviousAreas[i] - (double) finalCurrentAreas[i]) > threshold)
-                        .toArray();
-
-                if (activeVoxelsIndex.length == 0) {
+        try {
+            while (t < this.finalT) {
+                t += this.settings.getStepFrequency();
+                world.step(1);
+                robot.act(t);
+
+                // self-organized criticality
+                if (tracker.update()) {
                     break;
-                } else {
-                    avalanchesTemporalExtension += 1;
-                    // avalanche spatial extension
-                    Arrays.stream(activeVoxelsIndex)
-                            .filter(i -> avalanchedVoxels[i] == 0)
-                            .forEach(i -> avalanchedVoxels[i] = 1);
                 }
+
+                // this saves the robot info during the simulation
+                sampler.sample(t, movingObjects);
             }
-            voxelsPreviousArea = voxelsCurrentArea;
+        } finally {
+            WorldPool.release(pooledWorld);
+        }
+        return List.of((double) tracker.getSpatialExtension(), (double) tracker.getTemporalExtension());
+    }
 
-            // this saves the robot info during the simulation
-            if (listener != null) {
-                Snapshot snapshot = new Snapshot(t, (Collection) worldObjects.stream().map(WorldObject::immutable).collect(Collectors.toList()));
-                listener.listen(snapshot);
+    // simulates many robots in the same world, placed side by side far enough not to touch each other
+    // robots whose avalanche is over are removed from the world; results are in the same order of the robots
+    // results may differ from separate simulations, as translated positions are rounded differently and the robots share
+    // the world until they are removed
+    public List<List<Double>> applyBatch(List<? extends Robot<?>> robots) {
+        AvalancheTracker[] trackers = new AvalancheTracker[robots.size()];
+        List<List<Body>> robotsBodies = new ArrayList<>(robots.size());
+        WorldPool.PooledWorld pooledWorld = acquireWorld();
+        World world = pooledWorld.getWorld();
+        world.setSettings(this.settings);
+        try {
+            double x = this.initialPlacement;
+            for (int i = 0; i < robots.size(); i++) {
+                Robot<?> robot = robots.get(i);
+                trackers[i] = tracker(robot);
+                BoundingBox boundingBox = robot.boundingBox();
+                robot.translate(new Vector2(x - boundingBox.min.x, 0.0D));
+                x += 2d * (boundingBox.max.x - boundingBox.min.x) + BATCH_GAP;
+                // the bodies of each robot are the ones it adds to the world
+                int nOfBodies = world.getBodyCount();
+                robot.addTo(world);
+                robotsBodies.add(new ArrayList<>(world.getBodies().subList(nOfBodies, world.getBodyCount())));
+            }
+            int active = robots.size();
+            double t = 0.0D;
+            while (t < this.finalT && active > 0) {
+                t += this.settings.getStepFrequency();
+                world.step(1);
+                for (int i = 0; i < robots.size(); i++) {
+                    if (trackers[i].isOver()) {
+                        continue;
+                    }
+                    robots.get(i).act(t);
+                    if (trackers[i].update()) {
+                        // removing a body removes its joints too
+                        robotsBodies.get(i).forEach(world::removeBody);
+                        active -= 1;
+                    }
+                }
             }
+        } finally {
+            WorldPool.release(pooledWorld);
         }
-        return List.of((double)Arrays.stream(avalanchedVoxels).sum(), (double)(avalanchesTemporalExtension));
+        return Arrays.stream(trackers)
+                .map(tracker -> List.of((double) tracker.getSpatialExtension(), (double) tracker.getTemporalExtension()))
+                .collect(Collectors.toList());
     }
 }
@@ -10,7 +10,6 @@ import java.io.FileOutputStream;
 import java.io.PrintWriter;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 
 import static it.units.erallab.RobotValidator.validateBodyCriticality;
 import static it.units.erallab.Utils.*;
@@ -22,22 +21,24 @@ public class CriticalityMeasure {
         int gridW = 20;
         int gridH = 20;
         int seed = 0;
-        Random random = new Random(seed);
+        // number of pseudo-random and of random bodies
+        int nOfBaselines = args.length > 0 ? Integer.parseInt(args[0]) : 10;
         // generate all bodies
         List<Pair<String, Grid<ControllableVoxel>>> bodies = new ArrayList<>();
         // add optimized bodies
         int index = 0;
         for (String serializedOptimizedBody : Utils.optimizedBodies) {
-            bodies.add(new Pair("opt-"+index, Utils.safelyDeserialize(serializedOptimizedBody, Grid.class)));
+            bodies.add(new Pair("opt-"+index, Codec.decodeBody(serializedOptimizedBody)));
             index ++;
         }
-        // 10 pseudo-random bodies
-        for (int j = 0; j < 10; j++) {
-            bodies.add(new Pair("pseudrnd-"+j, generatePseudoRandomBody(robotVoxels, Math.max(gridW, gridH), random, SerializationUtils.clone(Material.softMaterial))));
+        // pseudo-random and random baselines, built in parallel from seeds split from the main one
+        List<Grid<ControllableVoxel>> pseudoRandomBodies = generatePseudoRandomBodies(nOfBaselines, seed, robotVoxels, Math.max(gridW, gridH), Material::softMaterial);
+        for (int j = 0; j < nOfBaselines; j++) {
+            bodies.add(new Pair("pseudrnd-"+j, pseudoRandomBodies.get(j)));
         }
-        // 10 random bodies
-        for (int j = 0; j < 10; j++) {
-            bodies.add(new Pair("rnd-"+j, generateRandomBody(robotVoxels, Math.max(gridW, gridH), random, SerializationUtils.clone(Material.softMaterial))));
+        List<Grid<ControllableVoxel>> randomBodies = generateRandomBodies(nOfBaselines, seed + 1, robotVoxels, Math.max(gridW, gridH), Material::softMaterial);
+        for (int j = 0; j < nOfBaselines; j++) {
+            bodies.add(new Pair("rnd-"+j, randomBodies.get(j)));
         }
         // box
         bodies.add(new Pair("box", Grid.create(5, 4, (x, y) -> SerializationUtils.clone(Material.softMaterial))));
@@ -73,7 +74,7 @@ public class CriticalityMeasure {
             // test criticality for each body
             double score = validateBodyCriticality(body);
             System.out.println(name+" => "+score);
-            System.out.println(safelySerialize(body));
+            System.out.println(Codec.encode(Codec.BodySpec.of(body, "soft")));
             // draw robot
             String bodyRepresentationString = bodyToString(body);
             try (PrintWriter awriter = new PrintWriter(new FileOutputStream(csvCriticality ,true))) {
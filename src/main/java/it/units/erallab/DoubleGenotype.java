@@ -0,0 +1,164 @@
+package it.units.erallab;
+
+import it.units.malelab.jgea.core.IndependentFactory;
+import it.units.malelab.jgea.core.operator.Crossover;
+import it.units.malelab.jgea.core.operator.Mutation;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.RandomAccess;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// fixed-length real genotype backed by a double[], for genotypes too large to be lists of boxed values
+// genotypes are not changed once built (operators build new ones), hence their arrays are shared, not copied
+public class DoubleGenotype {
+
+    private final double[] values;
+    private int hash = 0;
+
+    private DoubleGenotype(double[] values) {
+        this.values = values;
+    }
+
+    public static DoubleGenotype of(double[] values) {
+        return new DoubleGenotype(values);
+    }
+
+    public static DoubleGenotype of(List<Double> values) {
+        return new DoubleGenotype(toArray(values));
+    }
+
+    public static double[] toArray(List<Double> values) {
+        double[] array = new double[values.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = values.get(i);
+        }
+        return array;
+    }
+
+    public static List<Double> toList(double[] values) {
+        return Arrays.stream(values).boxed().collect(Collectors.toList());
+    }
+
+    // a mapper of lists for evolvers working on boxed genotypes
+    public static <S> Function<List<Double>, S> onLists(Function<DoubleGenotype, S> mapper) {
+        return g -> mapper.apply(of(g));
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public double get(int i) {
+        return values[i];
+    }
+
+    // the backing array, not to be changed
+    public double[] values() {
+        return values;
+    }
+
+    // read-only view
+    public List<Double> asList() {
+        return new ListView(values);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        DoubleGenotype that = (DoubleGenotype) o;
+        return hashCode() == that.hashCode() && Arrays.equals(values, that.values);
+    }
+
+    // cached, as genotypes may be very long
+    @Override
+    public int hashCode() {
+        if (hash == 0) {
+            hash = Arrays.hashCode(values);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("DoubleGenotype{size=%d}", values.length);
+    }
+
+    private static class ListView extends AbstractList<Double> implements RandomAccess {
+        private final double[] values;
+
+        private ListView(double[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Double get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
+
+    // each gene uniformly distributed in [min, max)
+    public static class UniformFactory implements IndependentFactory<DoubleGenotype> {
+        private final int size;
+        private final double min;
+        private final double max;
+
+        public UniformFactory(int size, double min, double max) {
+            this.size = size;
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        public DoubleGenotype build(Random random) {
+            double[] values = new double[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = min + (max - min) * random.nextDouble();
+            }
+            return new DoubleGenotype(values);
+        }
+    }
+
+    // gaussian noise with the given standard deviation added to each gene, as GaussianMutation on lists
+    public static class GaussianMutation implements Mutation<DoubleGenotype> {
+        private final double sigma;
+
+        public GaussianMutation(double sigma) {
+            this.sigma = sigma;
+        }
+
+        @Override
+        public DoubleGenotype mutate(DoubleGenotype parent, Random random) {
+            double[] values = new double[parent.values.length];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = parent.values[i] + random.nextGaussian() * sigma;
+            }
+            return new DoubleGenotype(values);
+        }
+    }
+
+    // each gene from one of the parents, with the same probability, as UniformCrossover on lists
+    public static class UniformCrossover implements Crossover<DoubleGenotype> {
+        @Override
+        public DoubleGenotype recombine(DoubleGenotype parent1, DoubleGenotype parent2, Random random) {
+            double[] values = new double[Math.min(parent1.values.length, parent2.values.length)];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = random.nextBoolean() ? parent1.values[i] : parent2.values[i];
+            }
+            return new DoubleGenotype(values);
+        }
+    }
+}
@@ -4,11 +4,9 @@ import it.units.erallab.hmsrobots.core.objects.ControllableVoxel;
 import it.units.erallab.hmsrobots.core.objects.Ground;
 import it.units.erallab.hmsrobots.core.objects.Robot;
 import it.units.erallab.hmsrobots.core.objects.WorldObject;
-import it.units.erallab.hmsrobots.core.objects.immutable.Snapshot;
 import it.units.erallab.hmsrobots.core.objects.immutable.Voxel;
 import it.units.erallab.hmsrobots.tasks.AbstractTask;
 import it.units.erallab.hmsrobots.util.BoundingBox;
-import it.units.erallab.hmsrobots.util.Point2;
 import it.units.erallab.hmsrobots.viewers.SnapshotListener;
 import org.dyn4j.dynamics.Settings;
 import org.dyn4j.dynamics.World;
@@ -17,7 +15,6 @@ import org.dyn4j.geometry.Vector2;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 public class Escape extends AbstractTask<Robot<?>, List<Double>> {
 
@@ -43,39 +40,52 @@ public class Escape extends AbstractTask<Robot<?>, List<Double>> {
     private final double[][] groundProfile;
     private final double initialPlacement;
     private final List<it.units.erallab.hmsrobots.tasks.Locomotion.Metric> metrics;
+    private final Racing racing;
 
     public Escape(double finalT, List<it.units.erallab.hmsrobots.tasks.Locomotion.Metric> metrics, Settings settings) {
         this(finalT, new double[][]{{0, 1, 200},{100, 0, 0}}, new double[][]{{0, 1, 200},{100, 0, 0}}[0][1] + INITIAL_PLACEMENT_X_GAP, metrics, settings);
     }
 
     public Escape(double finalT, double[][] groundProfile, double initialPlacement, List<it.units.erallab.hmsrobots.tasks.Locomotion.Metric> metrics, Settings settings) {
+        this(finalT, groundProfile, initialPlacement, metrics, settings, null);
+    }
+
+    private Escape(double finalT, double[][] groundProfile, double initialPlacement, List<it.units.erallab.hmsrobots.tasks.Locomotion.Metric> metrics, Settings settings, Racing racing) {
         super(settings);
         this.finalT = finalT;
         this.groundProfile = groundProfile;
         this.initialPlacement = initialPlacement;
         this.metrics = metrics;
+        this.racing = racing;
+    }
+
+    // a copy of this task in which episodes that look hopeless are not simulated until the end
+    public Escape withRacing(Racing racing) {
+        return new Escape(finalT, groundProfile, initialPlacement, metrics, settings, racing);
     }
 
     @Override
     public List<Double> apply(Robot<?> robot, SnapshotListener listener) {
-        List<Point2> centerPositions = new ArrayList<>();
+        // the center is tracked step by step, and only if requested
+        boolean trackCenter = metrics.contains(it.units.erallab.hmsrobots.tasks.Locomotion.Metric.CENTER_MAX_Y) || metrics.contains(it.units.erallab.hmsrobots.tasks.Locomotion.Metric.CENTER_AVG_Y);
+        DoubleSummaryStatistics centerYs = new DoubleSummaryStatistics();
         //init world
-        World world = new World();
-        world.setSettings(settings);
-        List<WorldObject> worldObjects = new ArrayList<>();
-
-        Ground ground = new Ground(new double[]{0, 1, 200}, new double[]{100, 0, 0});
-
         double maxY = robot.boundingBox().max.y;
         double maxX = robot.boundingBox().max.x;
 
-        Ceiling ceiling = new Ceiling(new double[]{0, maxX*1.1, maxX*1.4, maxX*2.5, maxX*10}, new double[]{1.4*maxY, 1.4*maxY, maxY, 0.7*maxY, 0.6*maxY});
-
-        ceiling.addTo(world);
-        worldObjects.add(ceiling);
+        // the ceiling depends on the robot bounding box, hence it is part of the key of the pooled world
+        WorldPool.PooledWorld pooledWorld = WorldPool.acquire(List.of(Escape.class, maxX, maxY), w -> {
+            Ceiling c = new Ceiling(new double[]{0, maxX*1.1, maxX*1.4, maxX*2.5, maxX*10}, new double[]{1.4*maxY, 1.4*maxY, maxY, 0.7*maxY, 0.6*maxY});
+            c.addTo(w);
+            Ground g = new Ground(new double[]{0, 1, 200}, new double[]{100, 0, 0});
+            g.addTo(w);
+            return List.of(c, g);
+        });
+        World world = pooledWorld.getWorld();
+        world.setSettings(settings);
+        SnapshotSampler sampler = new SnapshotSampler(listener, pooledWorld.getTerrain());
 
-        ground.addTo(world);
-        worldObjects.add(ground);
+        Ground ground = (Ground) pooledWorld.getTerrain().get(1);
         //position robot: translate on x
         BoundingBox boundingBox = robot.boundingBox();
         robot.translate(new Vector2(initialPlacement - boundingBox.min.x, 0));
@@ -89,58 +99,67 @@ public class Escape extends AbstractTask<Robot<?>, List<Double>> {
         double initCenterX = robot.getCenter().x;
         //add robot to world
         robot.addTo(world);
-        worldObjects.add(robot);
+        List<WorldObject> movingObjects = List.of(robot);
         //run
         double t = 0d;
-        while (t < finalT) {
-            t = t + settings.getStepFrequency();
-            world.step(1);
-            robot.act(t);
-            //update center position metrics
-            centerPositions.add(Point2.build(robot.getCenter()));
-            //possibly output snapshot
-            if (listener != null) {
-                Snapshot snapshot = new Snapshot(t, worldObjects.stream().map(WorldObject::immutable).collect(Collectors.toList()));
-                listener.listen(snapshot);
+        int check = 0;
+        try {
+            while (t < finalT) {
+                t = t + settings.getStepFrequency();
+                world.step(1);
+                robot.act(t);
+                //update center position metrics
+                if (trackCenter) {
+                    centerYs.accept(robot.getCenter().y);
+                }
+                //possibly output snapshot
+                sampler.sample(t, movingObjects);
+                //a hopeless episode ends here, with a penalty
+                if (racing != null && check < racing.size() && t >= racing.time(check, finalT)) {
+                    boolean goOn = racing.goOn(check, value(metrics.get(racing.getMetric()), robot, initCenterX, t, boundingBox, centerYs));
+                    check = check + 1;
+                    if (!goOn) {
+                        return racing.cutResults(metrics.size());
+                    }
+                }
             }
+        } finally {
+            WorldPool.release(pooledWorld);
         }
         //compute metrics
         List<Double> results = new ArrayList<>(metrics.size());
         for (it.units.erallab.hmsrobots.tasks.Locomotion.Metric metric : metrics) {
-            double value = switch (metric) {
-                case TRAVELED_X_DISTANCE -> (robot.getCenter().x - initCenterX);
-                case TRAVEL_X_VELOCITY -> (robot.getCenter().x - initCenterX) / t;
-                case TRAVEL_X_RELATIVE_VELOCITY -> (robot.getCenter().x - initCenterX) / t / Math.max(boundingBox.max.x - boundingBox.min.x, boundingBox.max.y - boundingBox.min.y);
-                case CENTER_MAX_Y -> centerPositions.stream()
-                        .mapToDouble((p) -> p.y)
-                        .max()
-                        .orElse(0);
-                case CENTER_AVG_Y -> centerPositions.stream()
-                        .mapToDouble((p) -> p.y)
-                        .average()
-                        .orElse(0);
-                case CONTROL_POWER -> robot.getVoxels().values().stream()
-                        .filter(v -> (v instanceof ControllableVoxel))
-                        .mapToDouble(ControllableVoxel::getControlEnergy)
-                        .sum() / t;
-                case RELATIVE_CONTROL_POWER -> robot.getVoxels().values().stream()
-                        .filter(v -> (v instanceof ControllableVoxel))
-                        .mapToDouble(ControllableVoxel::getControlEnergy)
-                        .sum() / t / robot.getVoxels().values().stream().filter(Objects::nonNull).count();
-                case AREA_RATIO_POWER -> robot.getVoxels().values().stream()
-                        .filter(v -> (v instanceof ControllableVoxel))
-                        .mapToDouble(ControllableVoxel::getAreaRatioEnergy)
-                        .sum() / t;
-                case RELATIVE_AREA_RATIO_POWER -> robot.getVoxels().values().stream()
-                        .filter(v -> (v instanceof ControllableVoxel))
-                        .mapToDouble(ControllableVoxel::getAreaRatioEnergy)
-                        .sum() / t / robot.getVoxels().values().stream().filter(Objects::nonNull).count();
-            };
-            results.add(value);
+            results.add(value(metric, robot, initCenterX, t, boundingBox, centerYs));
         }
         return results;
     }
 
+    private double value(it.units.erallab.hmsrobots.tasks.Locomotion.Metric metric, Robot<?> robot, double initCenterX, double t, BoundingBox boundingBox, DoubleSummaryStatistics centerYs) {
+        return switch (metric) {
+            case TRAVELED_X_DISTANCE -> (robot.getCenter().x - initCenterX);
+            case TRAVEL_X_VELOCITY -> (robot.getCenter().x - initCenterX) / t;
+            case TRAVEL_X_RELATIVE_VELOCITY -> (robot.getCenter().x - initCenterX) / t / Math.max(boundingBox.max.x - boundingBox.min.x, boundingBox.max.y - boundingBox.min.y);
+            case CENTER_MAX_Y -> centerYs.getCount() == 0 ? 0 : centerYs.getMax();
+            case CENTER_AVG_Y -> centerYs.getAverage();
+            case CONTROL_POWER -> robot.getVoxels().values().stream()
+                    .filter(v -> (v instanceof ControllableVoxel))
+                    .mapToDouble(ControllableVoxel::getControlEnergy)
+                    .sum() / t;
+            case RELATIVE_CONTROL_POWER -> robot.getVoxels().values().stream()
+                    .filter(v -> (v instanceof ControllableVoxel))
+                    .mapToDouble(ControllableVoxel::getControlEnergy)
+                    .sum() / t / robot.getVoxels().values().stream().filter(Objects::nonNull).count();
+            case AREA_RATIO_POWER -> robot.getVoxels().values().stream()
+                    .filter(v -> (v instanceof ControllableVoxel))
+                    .mapToDouble(ControllableVoxel::getAreaRatioEnergy)
+                    .sum() / t;
+            case RELATIVE_AREA_RATIO_POWER -> robot.getVoxels().values().stream()
+                    .filter(v -> (v instanceof ControllableVoxel))
+                    .mapToDouble(ControllableVoxel::getAreaRatioEnergy)
+                    .sum() / t / robot.getVoxels().values().stream().filter(Objects::nonNull).count();
+        };
+    }
+
     private static double[][] randomTerrain(int n, double length, double peak, double borderHeight, Random random) {
         double[] xs = new double[n + 2];
         double[] ys = new double[n + 2];
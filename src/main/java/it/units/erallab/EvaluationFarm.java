@@ -0,0 +1,360 @@
+package it.units.erallab;
+
+import java.io.*;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+// evaluates fitness on worker processes, possibly on other nodes, connected to the evolver through sockets
+// the evolver sends compact encodings of solutions (see Codec), not serialized robots; workers build the fitness
+// function from a task name and its parameters, and decode and evaluate solutions with a pool of threads
+// workers pull tasks when they have free threads, hence faster workers get more tasks; tasks sent to a worker that
+// disconnects, or not done within the timeout (e.g., by a hung worker), are queued again, the first result being kept
+// a task that fails on a worker makes its fitness fail, rather than giving a fitness that cannot be ranked
+// protocol: worker -> evolver hello (magic, threads), evolver -> worker task (name, parameters), then
+// worker -> evolver request (n), result (id, fitness) and error (id, length and utf-8 bytes of message), evolver ->
+// worker batch (n, then id and encoding n times)
+public class EvaluationFarm implements Closeable {
+
+    private static final Logger L = Logger.getLogger(EvaluationFarm.class.getName());
+
+    private static final int MAGIC = 0x46524d32; // FRM2
+    private static final byte REQUEST = 1;
+    private static final byte RESULT = 2;
+    private static final byte ERROR = 3;
+    private static final long DEFAULT_TASK_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(10);
+    // error messages longer than this (e.g., with a long cause chain) are truncated
+    private static final int MAX_MESSAGE_LENGTH = 8192;
+    // tasks requested by a worker in excess of its threads, so that it does not wait for the evolver
+    private static final int PREFETCH = 2;
+
+    // fitness functions on encoded solutions, given the parameters of the task
+    private static final Map<String, Function<Map<String, String>, Function<byte[], Double>>> TASKS = Map.of(
+            "criticality", BodyOptimization::farmTask,
+            "robot", ControllerOptimization::farmTask
+    );
+
+    private static class Task {
+        private final long id;
+        private final byte[] encoding;
+        private volatile long sentMillis;
+
+        private Task(long id, byte[] encoding) {
+            this.id = id;
+            this.encoding = encoding;
+        }
+    }
+
+    private final String taskName;
+    private final Map<String, String> taskParameters;
+    private final ServerSocket serverSocket;
+    private final BlockingDeque<Task> queue = new LinkedBlockingDeque<>();
+    private final Map<Long, CompletableFuture<Double>> pending = new ConcurrentHashMap<>();
+    private final AtomicLong ids = new AtomicLong();
+    private final List<Process> localWorkers = new ArrayList<>();
+    // tasks sent to each connected worker and not yet done
+    private final Set<Map<Long, Task>> inFlightByWorker = ConcurrentHashMap.newKeySet();
+    private final long taskTimeoutMillis;
+    private final ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "farm-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ExecutorService connections = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "farm-connection");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public EvaluationFarm(int port, String taskName, Map<String, String> taskParameters) throws IOException {
+        this(port, taskName, taskParameters, DEFAULT_TASK_TIMEOUT_MILLIS);
+    }
+
+    public EvaluationFarm(int port, String taskName, Map<String, String> taskParameters, long taskTimeoutMillis) throws IOException {
+        if (!TASKS.containsKey(taskName)) {
+            throw new IllegalArgumentException(String.format("Unknown task %s", taskName));
+        }
+        this.taskName = taskName;
+        this.taskParameters = taskParameters;
+        this.taskTimeoutMillis = taskTimeoutMillis;
+        long period = Math.max(1, taskTimeoutMillis / 4);
+        watchdog.scheduleAtFixedRate(this::requeueExpired, period, period, TimeUnit.MILLISECONDS);
+        serverSocket = new ServerSocket(port);
+        connections.submit(() -> {
+            while (!serverSocket.isClosed()) {
+                try {
+                    Socket socket = serverSocket.accept();
+                    connections.submit(() -> serve(socket));
+                } catch (IOException e) {
+                    if (!serverSocket.isClosed()) {
+                        L.log(Level.WARNING, String.format("Cannot accept worker due to %s", e), e);
+                    }
+                }
+            }
+        });
+        L.info(String.format("Farm of task %s listening on port %d", taskName, serverSocket.getLocalPort()));
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    // starts worker processes on this machine, with the classpath of this process
+    public void startLocalWorkers(int n, int threads) throws IOException {
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        for (int i = 0; i < n; i++) {
+            localWorkers.add(new ProcessBuilder(
+                    java, "-cp", System.getProperty("java.class.path"), EvaluationFarm.class.getName(),
+                    "localhost", Integer.toString(getPort()), Integer.toString(threads)
+            ).inheritIO().start());
+        }
+    }
+
+    public CompletableFuture<Double> submit(byte[] encoding) {
+        Task task = new Task(ids.getAndIncrement(), encoding);
+        CompletableFuture<Double> future = new CompletableFuture<>();
+        pending.put(task.id, future);
+        queue.offerLast(task);
+        return future;
+    }
+
+    // blocks the calling thread until the fitness is computed by a worker
+    public <S> Function<S, Double> fitness(Function<? super S, byte[]> encoder) {
+        return s -> {
+            try {
+                return submit(encoder.apply(s)).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(e.getCause());
+            }
+        };
+    }
+
+    private void serve(Socket socket) {
+        // tasks sent to this worker and not yet done
+        Map<Long, Task> inFlight = new ConcurrentHashMap<>();
+        inFlightByWorker.add(inFlight);
+        Semaphore demand = new Semaphore(0);
+        AtomicBoolean closed = new AtomicBoolean(false);
+        Future<?> sender = null;
+        String worker = socket.getRemoteSocketAddress().toString();
+        try (socket) {
+            socket.setKeepAlive(true);
+            DataInputStream input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            if (input.readInt() != MAGIC) {
+                throw new IOException("Not a farm worker");
+            }
+            int threads = input.readInt();
+            output.writeUTF(taskName);
+            output.writeInt(taskParameters.size());
+            for (Map.Entry<String, String> parameter : taskParameters.entrySet()) {
+                output.writeUTF(parameter.getKey());
+                output.writeUTF(parameter.getValue());
+            }
+            output.flush();
+            L.info(String.format("Worker %s connected with %d threads", worker, threads));
+            // sends tasks as long as the worker asks for them; requests and results are read meanwhile
+            sender = connections.submit(() -> {
+                try {
+                    while (true) {
+                        demand.acquire();
+                        List<Task> batch = new ArrayList<>();
+                        batch.add(queue.takeFirst());
+                        while (demand.tryAcquire()) {
+                            Task task = queue.pollFirst();
+                            if (task == null) {
+                                demand.release();
+                                break;
+                            }
+                            batch.add(task);
+                        }
+                        long now = System.currentTimeMillis();
+                        for (Task task : batch) {
+                            task.sentMillis = now;
+                            inFlight.put(task.id, task);
+                        }
+                        if (closed.get()) {
+                            break;
+                        }
+                        output.writeInt(batch.size());
+                        for (Task task : batch) {
+                            output.writeLong(task.id);
+                            output.writeInt(task.encoding.length);
+                            output.write(task.encoding);
+                        }
+                        output.flush();
+                    }
+                } catch (InterruptedException | IOException e) {
+                    // the connection is over
+                }
+                requeue(inFlight);
+                return null;
+            });
+            while (true) {
+                byte type = input.readByte();
+                if (type == REQUEST) {
+                    demand.release(input.readInt());
+                } else if (type == RESULT) {
+                    long id = input.readLong();
+                    double fitness = input.readDouble();
+                    inFlight.remove(id);
+                    CompletableFuture<Double> future = pending.remove(id);
+                    // a task sent again after a disconnection may be done twice
+                    if (future != null) {
+                        future.complete(fitness);
+                    }
+                } else if (type == ERROR) {
+                    long id = input.readLong();
+                    String message = readMessage(input);
+                    inFlight.remove(id);
+                    CompletableFuture<Double> future = pending.remove(id);
+                    if (future != null) {
+                        future.completeExceptionally(new IllegalStateException(String.format("Task %d failed on worker %s: %s", id, worker, message)));
+                    }
+                } else {
+                    throw new IOException(String.format("Unexpected message %d", type));
+                }
+            }
+        } catch (IOException e) {
+            if (!serverSocket.isClosed()) {
+                L.warning(String.format("Worker %s disconnected due to %s", worker, e));
+            }
+        } finally {
+            closed.set(true);
+            inFlightByWorker.remove(inFlight);
+            if (sender != null) {
+                sender.cancel(true);
+            }
+            requeue(inFlight);
+        }
+    }
+
+    // lost tasks go first; tasks taken by the sender after this are queued again by the sender itself
+    private void requeue(Map<Long, Task> inFlight) {
+        for (Long id : new ArrayList<>(inFlight.keySet())) {
+            Task task = inFlight.remove(id);
+            if (task != null && pending.containsKey(id)) {
+                queue.offerFirst(task);
+            }
+        }
+    }
+
+    // tasks not done in time are queued again; a late result of the first worker is still taken, if it comes first
+    private void requeueExpired() {
+        long now = System.currentTimeMillis();
+        for (Map<Long, Task> inFlight : inFlightByWorker) {
+            for (Task task : new ArrayList<>(inFlight.values())) {
+                if (now - task.sentMillis > taskTimeoutMillis && inFlight.remove(task.id, task) && pending.containsKey(task.id)) {
+                    L.warning(String.format("Task %d timed out, queued again", task.id));
+                    queue.offerFirst(task);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchdog.shutdownNow();
+        serverSocket.close();
+        connections.shutdownNow();
+        for (Process process : localWorkers) {
+            process.destroy();
+        }
+    }
+
+    // not with writeUTF, which fails on strings whose encoding is longer than 64 KiB and would drop the connection
+    private static void writeMessage(DataOutput output, String message) throws IOException {
+        if (message.length() > MAX_MESSAGE_LENGTH) {
+            message = message.substring(0, MAX_MESSAGE_LENGTH) + "...";
+        }
+        byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readMessage(DataInput input) throws IOException {
+        byte[] bytes = new byte[input.readInt()];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // worker: args are the host and the port of the evolver and, optionally, the number of threads
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String host = args[0];
+        int port = Integer.parseInt(args[1]);
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try (Socket socket = new Socket(host, port)) {
+            socket.setKeepAlive(true);
+            DataInputStream input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            output.writeInt(MAGIC);
+            output.writeInt(threads);
+            output.flush();
+            String taskName = input.readUTF();
+            Map<String, String> parameters = new LinkedHashMap<>();
+            int nOfParameters = input.readInt();
+            for (int i = 0; i < nOfParameters; i++) {
+                parameters.put(input.readUTF(), input.readUTF());
+            }
+            Function<byte[], Double> fitness = TASKS.get(taskName).apply(parameters);
+            L.info(String.format("Worker of task %s with parameters %s", taskName, parameters));
+            synchronized (output) {
+                output.writeByte(REQUEST);
+                output.writeInt(threads * PREFETCH);
+                output.flush();
+            }
+            while (true) {
+                int n = input.readInt();
+                for (int i = 0; i < n; i++) {
+                    long id = input.readLong();
+                    byte[] encoding = new byte[input.readInt()];
+                    input.readFully(encoding);
+                    executor.submit(() -> {
+                        double value = 0d;
+                        String error = null;
+                        try {
+                            value = fitness.apply(encoding);
+                        } catch (RuntimeException e) {
+                            L.log(Level.SEVERE, String.format("Cannot evaluate task %d due to %s", id, e), e);
+                            error = e.toString();
+                        }
+                        try {
+                            synchronized (output) {
+                                if (error == null) {
+                                    output.writeByte(RESULT);
+                                    output.writeLong(id);
+                                    output.writeDouble(value);
+                                } else {
+                                    output.writeByte(ERROR);
+                                    output.writeLong(id);
+                                    writeMessage(output, error);
+                                }
+                                output.writeByte(REQUEST);
+                                output.writeInt(1);
+                                output.flush();
+                            }
+                        } catch (IOException e) {
+                            L.warning(String.format("Cannot send result of task %d due to %s", id, e));
+                        }
+                    });
+                }
+            }
+        } catch (EOFException e) {
+            // the evolver is done
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
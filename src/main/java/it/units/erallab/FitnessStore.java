@@ -0,0 +1,175 @@
+package it.units.erallab;
+
+import it.units.erallab.hmsrobots.util.Grid;
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+// persistent fitness cache of bodies, stored in a memory-mapped open-addressing hash table
+// the file can be shared by several processes on the same node: lookups are lock-free, insertions hold a file lock
+// each slot is (key a, key b, value), key a being written last, with release semantics, and 0 meaning an empty slot
+// stores of the same file in one process share a lock, as file locks are held by the whole process
+public class FitnessStore implements Closeable {
+
+    private static final Logger L = Logger.getLogger(FitnessStore.class.getName());
+
+    private static final long MAGIC = 0x7372347263666974L;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int SLOT_SIZE = 24;
+    private static final int MAX_PROBES = 64;
+    private static final long SEED_A = 0x9e3779b97f4a7c15L;
+    private static final long SEED_B = 0xc2b2ae3d27d4eb4fL;
+    // the buffer is mapped in one piece, hence its size is at most Integer.MAX_VALUE
+    private static final int MAX_SLOTS = (Integer.MAX_VALUE - HEADER_SIZE) / SLOT_SIZE;
+    // big-endian as the buffer, slot offsets being multiples of 8
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    private static final Map<Path, Object> LOCKS = new ConcurrentHashMap<>();
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int slots;
+    private final Object lock;
+
+    public FitnessStore(Path path, int slots) throws IOException {
+        if (slots <= 0 || slots > MAX_SLOTS) {
+            throw new IllegalArgumentException(String.format("The number of slots must be in [1, %d]", MAX_SLOTS));
+        }
+        lock = LOCKS.computeIfAbsent(path.toAbsolutePath().normalize(), p -> new Object());
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        synchronized (lock) {
+            slots = init(path, slots);
+        }
+        this.slots = slots;
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) slots * SLOT_SIZE);
+    }
+
+    private int init(Path path, int slots) throws IOException {
+        try (FileLock ignored = channel.lock()) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            if (channel.size() == 0) {
+                // new store
+                header.putLong(MAGIC).putInt(VERSION).putInt(slots).rewind();
+                channel.write(header, 0);
+                channel.write(ByteBuffer.allocate(1), HEADER_SIZE + (long) slots * SLOT_SIZE - 1);
+            } else {
+                channel.read(header, 0);
+                header.rewind();
+                if (header.getLong() != MAGIC || header.getInt() != VERSION) {
+                    throw new IOException(String.format("%s is not a fitness store", path));
+                }
+                // an existing store keeps its own size
+                slots = header.getInt();
+                if (slots <= 0 || slots > MAX_SLOTS) {
+                    throw new IOException(String.format("%s has an invalid number of slots: %d", path, slots));
+                }
+            }
+        }
+        return slots;
+    }
+
+    // parameters that affect the fitness of a body, e.g., of the evaluator
+    public static long namespace(Object... parameters) {
+        long hash = 0L;
+        for (Object parameter : parameters) {
+            for (char c : String.valueOf(parameter).toCharArray()) {
+                hash = BodyShape.mix(hash ^ c);
+            }
+            hash = BodyShape.mix(hash ^ 0x1f);
+        }
+        return hash;
+    }
+
+    private static long keyA(long namespace, BodyShape shape) {
+        long key = BodyShape.mix(namespace ^ shape.hash(SEED_A));
+        return key == 0 ? 1 : key;
+    }
+
+    private static long keyB(long namespace, BodyShape shape) {
+        return BodyShape.mix(namespace ^ shape.hash(SEED_B));
+    }
+
+    private int offset(long keyA, int probe) {
+        // not greater than HEADER_SIZE + (MAX_SLOTS - 1) * SLOT_SIZE, hence no overflow
+        return HEADER_SIZE + (int) Math.floorMod(keyA + probe, (long) slots) * SLOT_SIZE;
+    }
+
+    public OptionalDouble get(long namespace, BodyShape shape) {
+        long keyA = keyA(namespace, shape);
+        long keyB = keyB(namespace, shape);
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+            int offset = offset(keyA, probe);
+            // pairs with the release in put(): key b and value are visible once key a is
+            long slotKeyA = (long) LONGS.getAcquire(buffer, offset);
+            if (slotKeyA == 0) {
+                return OptionalDouble.empty();
+            }
+            if (slotKeyA == keyA && buffer.getLong(offset + 8) == keyB) {
+                return OptionalDouble.of(buffer.getDouble(offset + 16));
+            }
+        }
+        return OptionalDouble.empty();
+    }
+
+    public void put(long namespace, BodyShape shape, double value) {
+        long keyA = keyA(namespace, shape);
+        long keyB = keyB(namespace, shape);
+        synchronized (lock) {
+            put(keyA, keyB, value, shape);
+        }
+    }
+
+    private void put(long keyA, long keyB, double value, BodyShape shape) {
+        try (FileLock ignored = channel.lock()) {
+            for (int probe = 0; probe < MAX_PROBES; probe++) {
+                int offset = offset(keyA, probe);
+                long slotKeyA = buffer.getLong(offset);
+                if (slotKeyA == keyA && buffer.getLong(offset + 8) == keyB) {
+                    return;
+                }
+                if (slotKeyA == 0) {
+                    buffer.putDouble(offset + 16, value);
+                    buffer.putLong(offset + 8, keyB);
+                    LONGS.setRelease(buffer, offset, keyA);
+                    return;
+                }
+            }
+            L.fine(String.format("No free slot for %s", shape));
+        } catch (IOException e) {
+            L.log(Level.WARNING, String.format("Cannot store fitness due to %s", e), e);
+        }
+    }
+
+    public <T> Function<Grid<T>, Double> cached(Function<Grid<T>, Double> fitnessFunction, Function<Grid<T>, BodyShape> key, long namespace) {
+        return body -> {
+            BodyShape shape = key.apply(body);
+            OptionalDouble stored = get(namespace, shape);
+            if (stored.isPresent()) {
+                return stored.getAsDouble();
+            }
+            double fitness = fitnessFunction.apply(body);
+            put(namespace, shape, fitness);
+            return fitness;
+        };
+    }
+
+    @Override
+    public void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+}
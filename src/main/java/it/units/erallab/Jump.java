@@ -4,19 +4,24 @@ import it.units.erallab.hmsrobots.core.objects.ControllableVoxel;
 import it.units.erallab.hmsrobots.core.objects.Ground;
 import it.units.erallab.hmsrobots.core.objects.Robot;
 import it.units.erallab.hmsrobots.core.objects.WorldObject;
-import it.units.erallab.hmsrobots.core.objects.immutable.Snapshot;
 import it.units.erallab.hmsrobots.core.objects.immutable.Voxel;
 import it.units.erallab.hmsrobots.tasks.AbstractTask;
 import it.units.erallab.hmsrobots.util.BoundingBox;
-import it.units.erallab.hmsrobots.util.Point2;
 import it.units.erallab.hmsrobots.viewers.SnapshotListener;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.DoubleSummaryStatistics;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Random;
-import java.util.stream.Collectors;
+import java.util.SplittableRandom;
+import java.util.logging.Logger;
+import org.apache.commons.lang3.SerializationUtils;
+import org.dyn4j.dynamics.Body;
 import org.dyn4j.dynamics.Settings;
 import org.dyn4j.dynamics.World;
 import org.dyn4j.geometry.Vector2;
@@ -26,72 +31,271 @@ public class Jump extends AbstractTask<Robot<?>, List<Double>> {
     private static final double INITIAL_PLACEMENT_Y_GAP = 1.0D;
     private static final double TERRAIN_BORDER_HEIGHT = 100.0D;
     private static final int TERRAIN_POINTS = 50;
+    private static final int SETTLED_STATES = 16;
+    // evaluations of a body, with as many controllers, in which the settled state is always checked
+    private static final int VALIDATIONS = 3;
+    private static final long AUDIT_SEED = 0x9E3779B97F4A7C15L;
+    private static final Logger L = Logger.getLogger(Jump.class.getName());
+
+    // positions and velocities of the bodies of a robot after the transitory
+    private static class SettledState {
+        private static final SettledState NONE = new SettledState(0);
+
+        private final double[] xs;
+        private final double[] ys;
+        private final double[] angles;
+        private final double[] vxs;
+        private final double[] vys;
+        private final double[] angularVelocities;
+        private final boolean[] asleep;
+
+        private SettledState(int n) {
+            xs = new double[n];
+            ys = new double[n];
+            angles = new double[n];
+            vxs = new double[n];
+            vys = new double[n];
+            angularVelocities = new double[n];
+            asleep = new boolean[n];
+        }
+
+        private static SettledState capture(List<Body> bodies) {
+            SettledState state = new SettledState(bodies.size());
+            for (int i = 0; i < bodies.size(); i++) {
+                Body body = bodies.get(i);
+                state.xs[i] = body.getTransform().getTranslationX();
+                state.ys[i] = body.getTransform().getTranslationY();
+                state.angles[i] = body.getTransform().getRotation();
+                state.vxs[i] = body.getLinearVelocity().x;
+                state.vys[i] = body.getLinearVelocity().y;
+                state.angularVelocities[i] = body.getAngularVelocity();
+                state.asleep[i] = body.isAsleep();
+            }
+            return state;
+        }
+
+        // the internal state of the physics engine, e.g., of contacts and warm starting, is not restored: this is why
+        // restored results are validated and audited against results from scratch
+        private void restore(List<Body> bodies) {
+            for (int i = 0; i < bodies.size(); i++) {
+                Body body = bodies.get(i);
+                body.getTransform().setRotation(angles[i]);
+                body.getTransform().setTranslation(xs[i], ys[i]);
+                body.setLinearVelocity(vxs[i], vys[i]);
+                body.setAngularVelocity(angularVelocities[i]);
+                body.setAsleep(asleep[i]);
+            }
+        }
+    }
     private final double finalT;
     private final double[][] groundProfile;
     private final double initialPlacement;
+    // the settled state of a body (null until captured, NONE if not reusable) and how many times it was validated
+    private static class Settled {
+        private SettledState state;
+        private int validations;
+    }
+
     private final List<it.units.erallab.Jump.Metric> metrics;
+    private final Map<Object, Settled> settledStates;
+    private final double tolerance;
+    private final double auditRate;
+    private final Racing racing;
 
     public Jump(double finalT, double[][] groundProfile, List<it.units.erallab.Jump.Metric> metrics, Settings settings) {
         this(finalT, groundProfile, groundProfile[0][1] + 1.0D, metrics, settings);
     }
 
     public Jump(double finalT, double[][] groundProfile, double initialPlacement, List<it.units.erallab.Jump.Metric> metrics, Settings settings) {
+        this(finalT, groundProfile, initialPlacement, metrics, settings, null, 0d, 0d, null);
+    }
+
+    private Jump(double finalT, double[][] groundProfile, double initialPlacement, List<it.units.erallab.Jump.Metric> metrics, Settings settings, Map<Object, Settled> settledStates, double tolerance, double auditRate, Racing racing) {
         super(settings);
         this.finalT = finalT;
         this.groundProfile = groundProfile;
         this.initialPlacement = initialPlacement;
         this.metrics = metrics;
+        this.settledStates = settledStates;
+        this.tolerance = tolerance;
+        this.auditRate = auditRate;
+        this.racing = racing;
+    }
+
+    // a copy of this task in which bodies of the same shape and material settle only once: their state after the
+    // transitory is restored in the following evaluations
+    // in the first evaluations of a body, and then in a fraction auditRate of them (picked by a hash of the robot),
+    // results with and without the restored state are compared: if they differ by more than the tolerance, the body is
+    // simulated from scratch from then on
+    public Jump withSettledStates(double tolerance, double auditRate) {
+        return new Jump(finalT, groundProfile, initialPlacement, metrics, settings, Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Settled> eldest) {
+                return size() > SETTLED_STATES;
+            }
+        }), tolerance, auditRate, racing);
+    }
+
+    // a copy of this task in which episodes that look hopeless are not simulated until the end
+    public Jump withRacing(Racing racing) {
+        return new Jump(finalT, groundProfile, initialPlacement, metrics, settings, settledStates, tolerance, auditRate, racing);
     }
 
     public List<Double> apply(Robot<?> robot, SnapshotListener listener) {
-        List<Point2> centerPositions = new ArrayList();
-        World world = new World();
+        if (settledStates == null) {
+            return simulate(robot, listener, null, null, racing);
+        }
+        // bodies made of one material are assumed, as the ones built from templates
+        Object key = List.of(BodyShape.of(robot.getVoxels()), robot.getVoxels().values().stream()
+                .filter(Objects::nonNull)
+                .findFirst()
+                .map(Material::parameters)
+                .orElse(List.of()));
+        Settled settled = settledStates.computeIfAbsent(key, k -> new Settled());
+        SettledState settledState;
+        boolean check;
+        synchronized (settled) {
+            settledState = settled.state;
+            check = settledState != SettledState.NONE && (settled.validations < VALIDATIONS || audited(robot));
+        }
+        if (settledState == SettledState.NONE) {
+            L.fine(String.format("Body %s simulated from scratch, as its settled state is not reused", key));
+            return simulate(robot, listener, null, null, racing);
+        }
+        if (!check) {
+            L.fine(String.format("Body %s simulated from its settled state", key));
+            return simulate(robot, listener, settledState, null, racing);
+        }
+        // both episodes are complete and start from copies of the robot, none of them being already simulated
+        Robot<?> fresh = SerializationUtils.clone(robot);
+        Robot<?> restored = SerializationUtils.clone(robot);
+        SettledState[] captured = new SettledState[1];
+        List<Double> results = simulate(fresh, listener, null, settledState == null ? captured : null, null);
+        SettledState checked = settledState == null ? captured[0] : settledState;
+        List<Double> restoredResults = simulate(restored, null, checked, null, null);
+        boolean same = true;
+        for (int i = 0; i < results.size(); i++) {
+            same = same && Math.abs(results.get(i) - restoredResults.get(i)) <= tolerance * Math.max(1d, Math.abs(results.get(i)));
+        }
+        synchronized (settled) {
+            if (!same) {
+                L.warning(String.format(
+                        "Settled state of body %s not reused anymore, after %d validations, results %s instead of %s",
+                        key, settled.validations, restoredResults, results
+                ));
+                settled.state = SettledState.NONE;
+            } else if (settled.state != SettledState.NONE) {
+                if (settled.state == null) {
+                    settled.state = checked;
+                }
+                settled.validations = settled.validations + 1;
+            }
+        }
+        L.fine(String.format("Body %s simulated from scratch, to check its settled state: %s", key, same ? "same results" : "different results"));
+        return results;
+    }
+
+    // robots are picked by a hash of their serialized form, hence the same robot is always audited or not
+    private boolean audited(Robot<?> robot) {
+        if (auditRate <= 0d) {
+            return false;
+        }
+        int hash = Arrays.hashCode(SerializationUtils.serialize(robot));
+        return new SplittableRandom(AUDIT_SEED * hash).nextDouble() < auditRate;
+    }
+
+    // the transitory is simulated unless its final state is given; if captured is given, that state is put there
+    private List<Double> simulate(Robot<?> robot, SnapshotListener listener, SettledState settledState, SettledState[] captured, Racing racing) {
+        // metrics are updated step by step, and only if requested
+        boolean centerJump = this.metrics.contains(Metric.CENTER_JUMP);
+        boolean controlPower = this.metrics.contains(Metric.CONTROL_POWER);
+        DoubleSummaryStatistics centerYs = new DoubleSummaryStatistics();
+        double firstCenterY = 0.0D;
+        ControllableVoxel[] controllableVoxels = robot.getVoxels().values().stream()
+                .filter(v -> v instanceof ControllableVoxel)
+                .toArray(ControllableVoxel[]::new);
+        // the ground is built once per thread
+        WorldPool.PooledWorld pooledWorld = WorldPool.acquire(this, w -> {
+            Ground g = new Ground(this.groundProfile[0], this.groundProfile[1]);
+            g.addTo(w);
+            return List.of(g);
+        });
+        World world = pooledWorld.getWorld();
         world.setSettings(this.settings);
-        List<WorldObject> worldObjects = new ArrayList();
-        Ground ground = new Ground(this.groundProfile[0], this.groundProfile[1]);
-        ground.addTo(world);
-        worldObjects.add(ground);
+        SnapshotSampler sampler = new SnapshotSampler(listener, pooledWorld.getTerrain());
+        Ground ground = (Ground) pooledWorld.getTerrain().get(0);
         BoundingBox boundingBox = robot.boundingBox();
         robot.translate(new Vector2(this.initialPlacement - boundingBox.min.x, 0.0D));
         double minYGap = robot.getVoxels().values().stream().filter(Objects::nonNull).mapToDouble((v) -> {
             return ((Voxel)v.immutable()).getShape().boundingBox().min.y - ground.yAt(v.getCenter().x);
         }).min().orElse(0.0D);
         robot.translate(new Vector2(0.0D, 1.0D - minYGap));
+        int nOfTerrainBodies = world.getBodyCount();
         robot.addTo(world);
-        worldObjects.add(robot);
-
-        // wait for 10 secs before simulation
-        double transitory = 10.0;
-        double transitoryStep = 0.0D;
-        while (transitoryStep < transitory) {
-            transitoryStep += this.settings.getStepFrequency();
-            world.step(1);
-        }
+        List<Body> robotBodies = new ArrayList<>(world.getBodies().subList(nOfTerrainBodies, world.getBodyCount()));
+        List<WorldObject> movingObjects = List.of(robot);
 
         double maxYTime = 0.0;
         double maxY = 0.0;
         double controlEnergy = 0.0;
 
         double t = 0.0D;
-        while(t < this.finalT) {
-            t += this.settings.getStepFrequency();
-            world.step(1);
-            robot.act(t);
-            if (robot.getCenter().y > maxY) {
-                maxY = robot.getCenter().y;
-                maxYTime = t;
-
-                controlEnergy = robot.getVoxels().values().stream().filter((v) -> {
-                    return v instanceof ControllableVoxel;
-                }).mapToDouble(ControllableVoxel::getControlEnergy).sum() / maxYTime;
-
+        int check = 0;
+        try {
+            // wait for 10 secs before simulation
+            if (settledState != null) {
+                settledState.restore(robotBodies);
+            } else {
+                double transitory = 10.0;
+                double transitoryStep = 0.0D;
+                while (transitoryStep < transitory) {
+                    transitoryStep += this.settings.getStepFrequency();
+                    world.step(1);
+                }
+                if (captured != null) {
+                    captured[0] = SettledState.capture(robotBodies);
+                }
             }
-            centerPositions.add(Point2.build(robot.getCenter()));
-            if (listener != null) {
-                Snapshot snapshot = new Snapshot(t, (Collection)worldObjects.stream().map(WorldObject::immutable).collect(Collectors.toList()));
-                listener.listen(snapshot);
+
+            while(t < this.finalT) {
+                t += this.settings.getStepFrequency();
+                world.step(1);
+                robot.act(t);
+                if (centerJump || controlPower) {
+                    double centerY = robot.getCenter().y;
+                    if (controlPower && centerY > maxY) {
+                        maxY = centerY;
+                        maxYTime = t;
+                        controlEnergy = 0.0D;
+                        for (ControllableVoxel voxel : controllableVoxels) {
+                            controlEnergy = controlEnergy + voxel.getControlEnergy();
+                        }
+                        controlEnergy = controlEnergy / maxYTime;
+                    }
+                    if (centerJump) {
+                        if (centerYs.getCount() == 0) {
+                            firstCenterY = centerY;
+                        }
+                        centerYs.accept(centerY);
+                    }
+                }
+                sampler.sample(t, movingObjects);
+                // a hopeless episode ends here, with a penalty
+                if (racing != null && check < racing.size() && t >= racing.time(check, this.finalT)) {
+                    boolean goOn = racing.goOn(check, results(centerYs, firstCenterY, controlEnergy).get(racing.getMetric()));
+                    check = check + 1;
+                    if (!goOn) {
+                        return racing.cutResults(metrics.size());
+                    }
+                }
             }
+        } finally {
+            WorldPool.release(pooledWorld);
         }
+        return results(centerYs, firstCenterY, controlEnergy);
+    }
+
+    private List<Double> results(DoubleSummaryStatistics centerYs, double firstCenterY, double controlEnergy) {
         List<Double> results = new ArrayList(this.metrics.size());
         Iterator var15 = this.metrics.iterator();
 
@@ -100,7 +304,7 @@ public class Jump extends AbstractTask<Robot<?>, List<Double>> {
             double value = 0;
             switch(metric) {
                 case CENTER_JUMP:
-                    value = (centerPositions.stream().mapToDouble(p -> p.y).max().orElse(0.0D) - centerPositions.get(0).y);
+                    value = centerYs.getMax() - firstCenterY;
                     break;
                 case CONTROL_POWER:
                     value = controlEnergy;
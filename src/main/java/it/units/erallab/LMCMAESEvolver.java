@@ -0,0 +1,122 @@
+package it.units.erallab;
+
+import it.units.malelab.jgea.core.Factory;
+import it.units.malelab.jgea.core.Individual;
+import it.units.malelab.jgea.core.order.PartialComparator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+// LM-CMA-ES (Loshchilov, 2014): the Cholesky factor of the covariance matrix is never built, but it is given by m
+// rank-one updates of the identity with evolution paths stored every few generations, hence sampling costs O(mn)
+// the stored paths are the last m (rather than those chosen by the distance rule of the paper), and the step size is
+// adapted by cumulation, as in CMA-ES, rather than by the population success rule
+public class LMCMAESEvolver<G, S> extends LargeScaleCMAESEvolver<G, S> {
+
+    private final int memory;
+    private double cC;
+    private double c1;
+    private double a;
+    private int interval;
+    private int generation;
+    private double[] pC;
+    private final List<double[]> ps = new ArrayList<>();
+    private final List<double[]> vs = new ArrayList<>();
+    private double[] bs;
+    private double[] ds;
+
+    // with a memory not greater than 0, it is 4 + 3 ln(n)
+    public LMCMAESEvolver(
+            Function<? super G, ? extends S> solutionMapper,
+            Factory<? extends G> genotypeFactory,
+            PartialComparator<? super Individual<G, S, Double>> individualComparator,
+            Function<? super G, double[]> toGenes,
+            Function<double[], ? extends G> fromGenes,
+            int populationSize,
+            double initialStepSize,
+            int memory) {
+        super(solutionMapper, genotypeFactory, individualComparator, toGenes, fromGenes, populationSize, initialStepSize);
+        this.memory = memory;
+    }
+
+    @Override
+    protected void initModel() {
+        cC = 0.5 / Math.sqrt(n);
+        c1 = 0.1 / Math.log(n + 1);
+        a = Math.sqrt(1 - c1);
+        int m = memory > 0 ? memory : 4 + (int) Math.floor(3 * Math.log(n));
+        interval = Math.max(1, (int) Math.floor(Math.log(n)));
+        generation = 0;
+        pC = new double[n];
+        ps.clear();
+        vs.clear();
+        bs = new double[m];
+        ds = new double[m];
+    }
+
+    private int m() {
+        return bs.length;
+    }
+
+    // y = A z, where A_t = a A_(t-1) + b_t p_t v_t'
+    @Override
+    protected void transform(double[] z, double[] y) {
+        System.arraycopy(z, 0, y, 0, n);
+        for (int t = 0; t < ps.size(); t++) {
+            double vz = dot(vs.get(t), z);
+            double[] p = ps.get(t);
+            for (int i = 0; i < n; i++) {
+                y[i] = a * y[i] + bs[t] * vz * p[i];
+            }
+        }
+    }
+
+    // x = A^-1 y computed with the first k stored paths, where A_t^-1 = A_(t-1)^-1 / a - d_t v_t v_t' A_(t-1)^-1
+    private double[] inverseTransform(double[] y, int k) {
+        double[] x = y.clone();
+        for (int t = 0; t < k; t++) {
+            double[] v = vs.get(t);
+            double vx = dot(v, x);
+            for (int i = 0; i < n; i++) {
+                x[i] = x[i] / a - ds[t] * vx * v[i];
+            }
+        }
+        return x;
+    }
+
+    @Override
+    protected void updateModel(double[] yW, boolean hSigma, List<double[]> selectedYs) {
+        double h = hSigma ? 1 : 0;
+        for (int i = 0; i < n; i++) {
+            pC[i] = (1 - cC) * pC[i] + h * Math.sqrt(cC * (2 - cC) * muEff) * yW[i];
+        }
+        generation = generation + 1;
+        if (generation % interval != 0) {
+            return;
+        }
+        if (ps.size() == m()) {
+            ps.remove(0);
+            vs.remove(0);
+        }
+        ps.add(pC.clone());
+        vs.add(null);
+        // the factor depends on all the previous paths, hence its terms are computed again
+        for (int t = 0; t < ps.size(); t++) {
+            double[] v = inverseTransform(ps.get(t), t);
+            vs.set(t, v);
+            double norm2 = dot(v, v);
+            double root = Math.sqrt(1 + c1 / (1 - c1) * norm2);
+            bs[t] = norm2 == 0 ? 0 : a / norm2 * (root - 1);
+            ds[t] = norm2 == 0 ? 0 : 1 / (a * norm2) * (1 - 1 / root);
+        }
+    }
+
+    private static double dot(double[] v1, double[] v2) {
+        double dot = 0d;
+        for (int i = 0; i < v1.length; i++) {
+            dot = dot + v1[i] * v2[i];
+        }
+        return dot;
+    }
+}
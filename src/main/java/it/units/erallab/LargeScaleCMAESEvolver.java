@@ -0,0 +1,185 @@
+package it.units.erallab;
+
+import it.units.malelab.jgea.core.Factory;
+import it.units.malelab.jgea.core.Individual;
+import it.units.malelab.jgea.core.evolver.AbstractIterativeEvolver;
+import it.units.malelab.jgea.core.evolver.State;
+import it.units.malelab.jgea.core.order.PartialComparator;
+import it.units.malelab.jgea.core.order.PartiallyOrderedCollection;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+// CMA-ES with a covariance model whose sampling costs O(n) per offspring (up to a factor independent of n), for
+// genotypes too long for the full covariance matrix: the mean, the step size (cumulative step-size adaptation) and
+// the recombination weights are as in CMA-ES, while the covariance model is up to subclasses
+// offspring are mapped and evaluated in parallel on the executor; the population is made of the offspring only
+// genotypes are real vectors of fixed length (e.g., lists of doubles or DoubleGenotype), built from arrays
+public abstract class LargeScaleCMAESEvolver<G, S> extends AbstractIterativeEvolver<G, S, Double> {
+
+    private static class Sample {
+        private final double[] z;
+        private final double[] y;
+
+        private Sample(double[] z, double[] y) {
+            this.z = z;
+            this.y = y;
+        }
+    }
+
+    private final Function<? super G, ? extends S> solutionMapper;
+    private final Factory<? extends G> genotypeFactory;
+    private final PartialComparator<? super Individual<G, S, Double>> individualComparator;
+    private final Function<? super G, double[]> toGenes;
+    private final Function<double[], ? extends G> fromGenes;
+    private final int populationSize;
+    private final double initialStepSize;
+
+    protected int n;
+    protected int lambda;
+    protected int mu;
+    protected double[] weights;
+    protected double muEff;
+    private double cSigma;
+    private double dSigma;
+    private double expectedNorm;
+    private double[] mean;
+    private double stepSize;
+    private double[] pSigma;
+    private int generations;
+    // the sampled directions of the current offspring, by genotype
+    private final Map<G, Sample> samples = new IdentityHashMap<>();
+
+    // with a populationSize not greater than 0, it is 4 + 3 ln(n)
+    public LargeScaleCMAESEvolver(
+            Function<? super G, ? extends S> solutionMapper,
+            Factory<? extends G> genotypeFactory,
+            PartialComparator<? super Individual<G, S, Double>> individualComparator,
+            Function<? super G, double[]> toGenes,
+            Function<double[], ? extends G> fromGenes,
+            int populationSize,
+            double initialStepSize) {
+        super(solutionMapper, genotypeFactory, individualComparator);
+        this.solutionMapper = solutionMapper;
+        this.genotypeFactory = genotypeFactory;
+        this.individualComparator = individualComparator;
+        this.toGenes = toGenes;
+        this.fromGenes = fromGenes;
+        this.populationSize = populationSize;
+        this.initialStepSize = initialStepSize;
+    }
+
+    // sets the covariance model to the identity
+    protected abstract void initModel();
+
+    // y = A z, with A A' the covariance matrix
+    protected abstract void transform(double[] z, double[] y);
+
+    // updates the covariance model with the weighted mean of the selected steps and the selected steps, best first
+    protected abstract void updateModel(double[] yW, boolean hSigma, List<double[]> selectedYs);
+
+    @Override
+    protected Collection<Individual<G, S, Double>> initPopulation(Function<S, Double> fitnessFunction, Random random, ExecutorService executor, State state) throws ExecutionException, InterruptedException {
+        mean = toGenes.apply(genotypeFactory.build(1, random).get(0)).clone();
+        n = mean.length;
+        lambda = populationSize > 0 ? populationSize : 4 + (int) Math.floor(3 * Math.log(n));
+        mu = lambda / 2;
+        weights = new double[mu];
+        double sum = 0d;
+        for (int i = 0; i < mu; i++) {
+            weights[i] = Math.log(mu + 0.5) - Math.log(i + 1);
+            sum = sum + weights[i];
+        }
+        double sumOfSquares = 0d;
+        for (int i = 0; i < mu; i++) {
+            weights[i] = weights[i] / sum;
+            sumOfSquares = sumOfSquares + weights[i] * weights[i];
+        }
+        muEff = 1d / sumOfSquares;
+        cSigma = (muEff + 2) / (n + muEff + 5);
+        dSigma = 1 + 2 * Math.max(0, Math.sqrt((muEff - 1) / (n + 1)) - 1) + cSigma;
+        expectedNorm = Math.sqrt(n) * (1 - 1d / (4 * n) + 1d / (21d * n * n));
+        stepSize = initialStepSize;
+        pSigma = new double[n];
+        generations = 0;
+        initModel();
+        return sample(fitnessFunction, random, executor, state);
+    }
+
+    @Override
+    protected Collection<Individual<G, S, Double>> updatePopulation(PartiallyOrderedCollection<Individual<G, S, Double>> orderedPopulation, Function<S, Double> fitnessFunction, Random random, ExecutorService executor, State state) throws ExecutionException, InterruptedException {
+        List<Individual<G, S, Double>> ranked = new ArrayList<>(orderedPopulation.all());
+        ranked.sort((i1, i2) -> switch (individualComparator.compare(i1, i2)) {
+            case BEFORE -> -1;
+            case AFTER -> 1;
+            default -> 0;
+        });
+        double[] yW = new double[n];
+        double[] zW = new double[n];
+        List<double[]> selectedYs = new ArrayList<>(mu);
+        for (int k = 0; k < mu; k++) {
+            Sample sample = samples.get(ranked.get(k).getGenotype());
+            selectedYs.add(sample.y);
+            for (int i = 0; i < n; i++) {
+                yW[i] = yW[i] + weights[k] * sample.y[i];
+                zW[i] = zW[i] + weights[k] * sample.z[i];
+            }
+        }
+        samples.clear();
+        // the steps are sampled as y = A z, hence C^(-1/2) yW is zW
+        double pSigmaNorm = 0d;
+        for (int i = 0; i < n; i++) {
+            mean[i] = mean[i] + stepSize * yW[i];
+            pSigma[i] = (1 - cSigma) * pSigma[i] + Math.sqrt(cSigma * (2 - cSigma) * muEff) * zW[i];
+            pSigmaNorm = pSigmaNorm + pSigma[i] * pSigma[i];
+        }
+        pSigmaNorm = Math.sqrt(pSigmaNorm);
+        generations = generations + 1;
+        boolean hSigma = pSigmaNorm / Math.sqrt(1 - Math.pow(1 - cSigma, 2 * generations)) < (1.4 + 2d / (n + 1)) * expectedNorm;
+        updateModel(yW, hSigma, selectedYs);
+        stepSize = stepSize * Math.exp(cSigma / dSigma * (pSigmaNorm / expectedNorm - 1));
+        return sample(fitnessFunction, random, executor, state);
+    }
+
+    private Collection<Individual<G, S, Double>> sample(Function<S, Double> fitnessFunction, Random random, ExecutorService executor, State state) throws ExecutionException, InterruptedException {
+        // sampling is sequential, for repeatability, while mapping and evaluation are parallel
+        List<G> genotypes = new ArrayList<>(lambda);
+        for (int k = 0; k < lambda; k++) {
+            double[] z = new double[n];
+            for (int i = 0; i < n; i++) {
+                z[i] = random.nextGaussian();
+            }
+            double[] y = new double[n];
+            transform(z, y);
+            double[] x = new double[n];
+            for (int i = 0; i < n; i++) {
+                x[i] = mean[i] + stepSize * y[i];
+            }
+            G genotype = fromGenes.apply(x);
+            samples.put(genotype, new Sample(z, y));
+            genotypes.add(genotype);
+        }
+        List<Future<Individual<G, S, Double>>> futures = new ArrayList<>(lambda);
+        int iteration = state.getIterations();
+        for (G genotype : genotypes) {
+            futures.add(executor.submit(() -> {
+                S solution = solutionMapper.apply(genotype);
+                return new Individual<>(genotype, solution, fitnessFunction.apply(solution), iteration);
+            }));
+        }
+        List<Individual<G, S, Double>> individuals = new ArrayList<>(lambda);
+        for (Future<Individual<G, S, Double>> future : futures) {
+            individuals.add(future.get());
+        }
+        state.incBirths(lambda);
+        state.incFitnessEvaluations(lambda);
+        return individuals;
+    }
+
+    public double getStepSize() {
+        return stepSize;
+    }
+}
@@ -0,0 +1,163 @@
+package it.units.erallab;
+
+import java.util.stream.IntStream;
+
+// linear regression and KS statistics of the log-log of histograms, over primitive arrays
+// x is log10 of the bin index (0 for bin 0) and y is log10 of the frequency (0 for empty bins)
+// same results of LinearRegression and BodyOptimization.computeKSStatistics, but the sums are computed in a single pass
+// and the KS distance is computed from the prefix sums, since the cumulative prediction is slope * sum(x) + intercept * n
+public class LogLogStatistics {
+
+    private static final double[] LOG10 = IntStream.range(0, 1025).mapToDouble(i -> i > 0 ? Math.log10(i) : 0d).toArray();
+
+    public static class Fit {
+        private final double slope;
+        private final double intercept;
+        private final double r2;
+        private final double ks;
+
+        public Fit(double slope, double intercept, double r2, double ks) {
+            this.slope = slope;
+            this.intercept = intercept;
+            this.r2 = r2;
+            this.ks = ks;
+        }
+
+        public double getSlope() {
+            return slope;
+        }
+
+        public double getIntercept() {
+            return intercept;
+        }
+
+        // NaN if the log-log distribution is flat
+        public double getR2() {
+            return r2;
+        }
+
+        public double getKs() {
+            return ks;
+        }
+    }
+
+    private LogLogStatistics() {
+    }
+
+    private static double log10Size(int i) {
+        return i < LOG10.length ? LOG10[i] : Math.log10(i);
+    }
+
+    private static double log10Frequency(double frequency) {
+        return frequency > 0d ? Math.log10(frequency) : 0d;
+    }
+
+    // fit of the bins of the histogram from the given one on
+    public static Fit fit(double[] histogram, int from) {
+        int n = histogram.length - from;
+        if (n <= 0) {
+            return new Fit(0d, 0d, 0d, 0d);
+        }
+        double[] xs = new double[n];
+        double[] cumY = new double[n];
+        double sx = 0d, sy = 0d;
+        for (int i = 0; i < n; i++) {
+            xs[i] = log10Size(from + i);
+            sx += xs[i];
+            sy += log10Frequency(histogram[from + i]);
+            cumY[i] = sy;
+        }
+        // sums of squares of the centred values, which do not cancel out as sums of squares minus squared sums do
+        double meanX = sx / n, meanY = sy / n;
+        double xxbar = 0d, yybar = 0d, xybar = 0d;
+        for (int i = 0; i < n; i++) {
+            double dx = xs[i] - meanX;
+            double dy = log10Frequency(histogram[from + i]) - meanY;
+            xxbar += dx * dx;
+            yybar += dy * dy;
+            xybar += dx * dy;
+        }
+        double slope = 0d, intercept = 0d, r2 = 0d;
+        if (n >= 2) {
+            slope = xybar / xxbar;
+            intercept = meanY - slope * meanX;
+            r2 = xybar * xybar / (xxbar * yybar);
+        }
+        double ks = 0d;
+        double cumX = 0d;
+        for (int i = 0; i < n; i++) {
+            cumX += log10Size(from + i);
+            ks = Math.max(ks, Math.abs(slope * cumX + intercept * (i + 1) - cumY[i]));
+        }
+        return new Fit(slope, intercept, r2, ks);
+    }
+
+    // fit of many histograms with the same number of bins, laid out bin-major: bin i of histogram b is histograms[i * size + b]
+    // the inner loops run over the histograms on contiguous memory, so that the JIT can vectorize them
+    public static Fit[] fit(double[] histograms, int size, int from) {
+        int n = histograms.length / size - from;
+        Fit[] fits = new Fit[size];
+        if (n <= 0) {
+            for (int b = 0; b < size; b++) {
+                fits[b] = new Fit(0d, 0d, 0d, 0d);
+            }
+            return fits;
+        }
+        double[] logY = new double[n * size];
+        for (int j = 0; j < n * size; j++) {
+            logY[j] = log10Frequency(histograms[from * size + j]);
+        }
+        // means first, then sums of squares of the centred values, as in the fit of one histogram
+        double sx = 0d;
+        double[] meanY = new double[size];
+        for (int i = 0; i < n; i++) {
+            sx += log10Size(from + i);
+            int offset = i * size;
+            for (int b = 0; b < size; b++) {
+                meanY[b] += logY[offset + b];
+            }
+        }
+        double meanX = sx / n;
+        for (int b = 0; b < size; b++) {
+            meanY[b] /= n;
+        }
+        double xxbar = 0d;
+        double[] yybar = new double[size];
+        double[] xybar = new double[size];
+        for (int i = 0; i < n; i++) {
+            double dx = log10Size(from + i) - meanX;
+            xxbar += dx * dx;
+            int offset = i * size;
+            for (int b = 0; b < size; b++) {
+                double dy = logY[offset + b] - meanY[b];
+                yybar[b] += dy * dy;
+                xybar[b] += dx * dy;
+            }
+        }
+        double[] slope = new double[size];
+        double[] intercept = new double[size];
+        double[] r2 = new double[size];
+        if (n >= 2) {
+            for (int b = 0; b < size; b++) {
+                slope[b] = xybar[b] / xxbar;
+                intercept[b] = meanY[b] - slope[b] * meanX;
+                r2[b] = xybar[b] * xybar[b] / (xxbar * yybar[b]);
+            }
+        }
+        double[] cumY = new double[size];
+        double[] ks = new double[size];
+        double cumX = 0d;
+        for (int i = 0; i < n; i++) {
+            cumX += log10Size(from + i);
+            int offset = i * size;
+            for (int b = 0; b < size; b++) {
+                cumY[b] += logY[offset + b];
+                ks[b] = Math.max(ks[b], Math.abs(slope[b] * cumX + intercept[b] * (i + 1) - cumY[b]));
+            }
+        }
+        for (int b = 0; b < size; b++) {
+            fits[b] = new Fit(slope[b], intercept[b], r2[b], ks[b]);
+        }
+        return fits;
+    }
+}
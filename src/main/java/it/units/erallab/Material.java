@@ -1,26 +1,101 @@
 package it.units.erallab;
 
 import it.units.erallab.hmsrobots.core.objects.ControllableVoxel;
+import it.units.erallab.hmsrobots.core.objects.SensingVoxel;
 import it.units.erallab.hmsrobots.core.objects.Voxel;
+import it.units.erallab.hmsrobots.core.sensors.AreaRatio;
+import it.units.erallab.hmsrobots.core.sensors.Normalization;
+import it.units.erallab.hmsrobots.core.sensors.Touch;
+import it.units.erallab.hmsrobots.core.sensors.Velocity;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 public class Material {
     // voxel made of the soft material
-    static final ControllableVoxel softMaterial = new ControllableVoxel(
-            Voxel.SIDE_LENGTH,
-            Voxel.MASS_SIDE_LENGTH_RATIO,
-            5d, // low frequency
-            Voxel.SPRING_D,
-            Voxel.MASS_LINEAR_DAMPING,
-            Voxel.MASS_ANGULAR_DAMPING,
-            Voxel.FRICTION,
-            Voxel.RESTITUTION,
-            Voxel.MASS,
-            Voxel.LIMIT_CONTRACTION_FLAG,
-            Voxel.MASS_COLLISION_FLAG,
-            Voxel.AREA_RATIO_MAX_DELTA,
-            EnumSet.of(Voxel.SpringScaffolding.SIDE_EXTERNAL, Voxel.SpringScaffolding.CENTRAL_CROSS), // scaffolding partially enabled
-            ControllableVoxel.MAX_FORCE,
-            ControllableVoxel.ForceMethod.DISTANCE
-    );
+    public static final ControllableVoxel softMaterial = softMaterial();
+
+    // a new voxel made of the soft material, equivalent to a clone of softMaterial
+    public static ControllableVoxel softMaterial() {
+        return new ControllableVoxel(
+                Voxel.SIDE_LENGTH,
+                Voxel.MASS_SIDE_LENGTH_RATIO,
+                5d, // low frequency
+                Voxel.SPRING_D,
+                Voxel.MASS_LINEAR_DAMPING,
+                Voxel.MASS_ANGULAR_DAMPING,
+                Voxel.FRICTION,
+                Voxel.RESTITUTION,
+                Voxel.MASS,
+                Voxel.LIMIT_CONTRACTION_FLAG,
+                Voxel.MASS_COLLISION_FLAG,
+                Voxel.AREA_RATIO_MAX_DELTA,
+                EnumSet.of(Voxel.SpringScaffolding.SIDE_EXTERNAL, Voxel.SpringScaffolding.CENTRAL_CROSS), // scaffolding partially enabled
+                ControllableVoxel.MAX_FORCE,
+                ControllableVoxel.ForceMethod.DISTANCE
+        );
+    }
+
+    // a new sensing voxel with the sensors used by the centralized controller
+    public static SensingVoxel sensingVoxel() {
+        return new SensingVoxel(List.of(
+                new Touch(),
+                new Normalization(new Velocity(true, 5d, Velocity.Axis.X, Velocity.Axis.Y)),
+                new Normalization(new AreaRatio())
+        ));
+    }
+
+    // factory of the voxels of a material, by name, as stored by Codec
+    public static Supplier<? extends Voxel> byName(String name) {
+        return switch (name) {
+            case "soft" -> Material::softMaterial;
+            case "default" -> ControllableVoxel::new;
+            case "sensing" -> Material::sensingVoxel;
+            default -> throw new IllegalArgumentException(String.format("Unknown material: %s", name));
+        };
+    }
+
+    private static final Map<Class<?>, List<Field>> PARAMETER_FIELDS = new ConcurrentHashMap<>();
+
+    // the parameters of the material of a voxel, i.e., its class and its final fields of primitive, string and enum
+    // types, as the voxel classes have no getters for them; voxels with equal parameters are made of the same material
+    public static List<Object> parameters(Voxel voxel) {
+        List<Field> fields = PARAMETER_FIELDS.computeIfAbsent(voxel.getClass(), Material::parameterFields);
+        List<Object> parameters = new ArrayList<>(fields.size() + 1);
+        parameters.add(voxel.getClass().getName());
+        for (Field field : fields) {
+            try {
+                Object value = field.get(voxel);
+                // enum sets are compared by content, in a stable order
+                parameters.add(value instanceof Collection<?> ? new ArrayList<>((Collection<?>) value).toString() : value);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return parameters;
+    }
+
+    private static List<Field> parameterFields(Class<?> voxelClass) {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> c = voxelClass; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                Class<?> type = field.getType();
+                if (Modifier.isStatic(modifiers) || !Modifier.isFinal(modifiers)) {
+                    continue;
+                }
+                if (type.isPrimitive() || type == String.class || type.isEnum() || EnumSet.class.isAssignableFrom(type)) {
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+        }
+        return fields;
+    }
 }
@@ -0,0 +1,274 @@
+package it.units.erallab;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+// runs independent jobs in parallel and streams their result rows to a single writer
+// completed job keys are appended to a progress file, so that an interrupted or failed sweep can be resumed: each batch
+// of keys is followed by the size of the output after the rows of the batch, and on resume the output is truncated to
+// the last recorded size, as rows after it (e.g., a half-written binary block) may be incomplete, and their jobs done
+// again
+// a failed job makes the sweep fail, after the rows of the completed jobs are written; the .done marker is written only
+// when all the jobs are completed
+public class ParameterSweep {
+
+    private static final Logger L = Logger.getLogger(ParameterSweep.class.getName());
+
+    private static final int BATCH_SIZE = 256;
+    private static final List<Object> END = new ArrayList<>();
+    // lines of the progress file with the size of the output, rather than a key
+    private static final String SIZE_PREFIX = "#";
+
+    public static class Job {
+        private final String key;
+        private final Supplier<List<Object>> row;
+
+        public Job(List<Object> key, Supplier<List<Object>> row) {
+            this.key = key.stream().map(String::valueOf).collect(Collectors.joining(";"));
+            this.row = row;
+        }
+    }
+
+    public interface RowWriter extends Closeable {
+        void write(List<List<Object>> rows) throws IOException;
+
+        // the size in bytes of the output, including what was there before
+        long size() throws IOException;
+    }
+
+    // one line per row, values separated by ';'
+    public static class CsvWriter implements RowWriter {
+        private final FileChannel channel;
+        private final BufferedWriter writer;
+
+        public CsvWriter(Path path, List<String> columns, boolean append) throws IOException {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, append ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+            writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8));
+            if (!append) {
+                writer.write(String.join(";", columns));
+                writer.newLine();
+            }
+        }
+
+        @Override
+        public void write(List<List<Object>> rows) throws IOException {
+            for (List<Object> row : rows) {
+                writer.write(row.stream().map(String::valueOf).collect(Collectors.joining(";")));
+                writer.newLine();
+            }
+            writer.flush();
+        }
+
+        @Override
+        public long size() throws IOException {
+            writer.flush();
+            return channel.size();
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+
+    // blocks of rows, each block storing its values column by column: [n of rows][column 0 values]...[column k values]
+    // Integer values are stored as int, any other Number as double; the header lists the column names
+    public static class ColumnarWriter implements RowWriter {
+        private final FileChannel channel;
+        private final DataOutputStream stream;
+
+        public ColumnarWriter(Path path, List<String> columns, boolean append) throws IOException {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, append ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+            stream = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            if (!append) {
+                stream.writeInt(columns.size());
+                for (String column : columns) {
+                    stream.writeUTF(column);
+                }
+            }
+        }
+
+        @Override
+        public void write(List<List<Object>> rows) throws IOException {
+            stream.writeInt(rows.size());
+            for (int c = 0; c < rows.get(0).size(); c++) {
+                boolean integer = rows.get(0).get(c) instanceof Integer;
+                stream.writeBoolean(integer);
+                for (List<Object> row : rows) {
+                    if (integer) {
+                        stream.writeInt((Integer) row.get(c));
+                    } else {
+                        stream.writeDouble(((Number) row.get(c)).doubleValue());
+                    }
+                }
+            }
+            stream.flush();
+        }
+
+        @Override
+        public long size() throws IOException {
+            stream.flush();
+            return channel.size();
+        }
+
+        @Override
+        public void close() throws IOException {
+            stream.close();
+        }
+    }
+
+    private final int nOfThreads;
+
+    public ParameterSweep(int nOfThreads) {
+        this.nOfThreads = nOfThreads;
+    }
+
+    public ParameterSweep() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public static Path checkpointPath(Path output) {
+        return Paths.get(output.toString() + ".progress");
+    }
+
+    public static Path donePath(Path output) {
+        return Paths.get(output.toString() + ".done");
+    }
+
+    // the complete lines of the progress file up to the last size, i.e., without the keys of a batch whose size was not
+    // recorded; all the lines if no size was recorded (progress files of older versions)
+    private static List<String> completedLines(Path output) throws IOException {
+        Path checkpoint = checkpointPath(output);
+        if (!Files.exists(checkpoint) || !Files.exists(output)) {
+            return List.of();
+        }
+        String content = Files.readString(checkpoint, StandardCharsets.UTF_8);
+        // a last line without newline may be cut
+        List<String> lines = new ArrayList<>(Arrays.asList(content.substring(0, content.lastIndexOf('\n') + 1).split("\n")));
+        lines.removeIf(String::isEmpty);
+        for (int i = lines.size() - 1; i >= 0; i--) {
+            if (lines.get(i).startsWith(SIZE_PREFIX)) {
+                return lines.subList(0, i + 1);
+            }
+        }
+        return lines;
+    }
+
+    // keys of the jobs already completed in a previous run
+    public static Set<String> completedKeys(Path output) throws IOException {
+        return completedLines(output).stream().filter(line -> !line.startsWith(SIZE_PREFIX)).collect(Collectors.toSet());
+    }
+
+    // truncates the output to the last size in the progress file, and the progress file to the last size, so that
+    // resumed rows and keys follow complete ones
+    private static void truncateToCompleted(Path output) throws IOException {
+        List<String> lines = completedLines(output);
+        if (lines.isEmpty() || !lines.get(lines.size() - 1).startsWith(SIZE_PREFIX)) {
+            return;
+        }
+        long size = Long.parseLong(lines.get(lines.size() - 1).substring(SIZE_PREFIX.length()));
+        try (FileChannel channel = FileChannel.open(output, StandardOpenOption.WRITE)) {
+            if (channel.size() < size) {
+                throw new IOException(String.format("Output %s is shorter than its progress: %d < %d bytes", output, channel.size(), size));
+            }
+            channel.truncate(size);
+        }
+        Path checkpoint = checkpointPath(output);
+        Path temp = Paths.get(checkpoint.toString() + ".tmp");
+        Files.write(temp, lines, StandardCharsets.UTF_8);
+        Files.move(temp, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public void run(List<Job> jobs, RowWriter rowWriter, Path checkpoint, Set<String> completedKeys) throws IOException, InterruptedException, ExecutionException {
+        List<Job> toDo = jobs.stream().filter(job -> !completedKeys.contains(job.key)).collect(Collectors.toList());
+        L.info(String.format("%d jobs to do, %d already done", toDo.size(), jobs.size() - toDo.size()));
+        BlockingQueue<Map.Entry<String, List<Object>>> results = new LinkedBlockingQueue<>();
+        AtomicReference<IOException> writeFailure = new AtomicReference<>();
+        // the writer thread takes the results in batches: rows are written before their keys are checkpointed
+        Thread writerThread = new Thread(() -> {
+            try (BufferedWriter checkpointWriter = Files.newBufferedWriter(checkpoint, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE)) {
+                List<Map.Entry<String, List<Object>>> batch = new ArrayList<>(BATCH_SIZE);
+                boolean ended = false;
+                while (!ended) {
+                    batch.add(results.take());
+                    results.drainTo(batch, BATCH_SIZE - 1);
+                    // results of jobs still running when the sweep is aborted are discarded
+                    for (int i = 0; i < batch.size(); i++) {
+                        if (batch.get(i).getValue() == END) {
+                            batch.subList(i, batch.size()).clear();
+                            ended = true;
+                        }
+                    }
+                    if (!batch.isEmpty()) {
+                        rowWriter.write(batch.stream().map(Map.Entry::getValue).collect(Collectors.toList()));
+                        for (Map.Entry<String, List<Object>> result : batch) {
+                            checkpointWriter.write(result.getKey());
+                            checkpointWriter.newLine();
+                        }
+                        checkpointWriter.write(SIZE_PREFIX + rowWriter.size());
+                        checkpointWriter.newLine();
+                        checkpointWriter.flush();
+                        batch.clear();
+                    }
+                }
+            } catch (IOException e) {
+                L.log(Level.SEVERE, String.format("Cannot write results due to %s", e), e);
+                writeFailure.set(e);
+            } catch (InterruptedException e) {
+                writeFailure.set(new InterruptedIOException("Writer interrupted"));
+            }
+        });
+        writerThread.start();
+        ExecutorService executor = Executors.newFixedThreadPool(nOfThreads);
+        List<Future<?>> futures = new ArrayList<>(toDo.size());
+        for (Job job : toDo) {
+            futures.add(executor.submit(() -> results.add(Map.entry(job.key, job.row.get()))));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            L.log(Level.SEVERE, String.format("Job failed due to %s", e.getCause()), e);
+            throw e;
+        } finally {
+            executor.shutdownNow();
+            results.add(Map.entry("", END));
+            writerThread.join();
+            rowWriter.close();
+        }
+        if (writeFailure.get() != null) {
+            throw writeFailure.get();
+        }
+    }
+
+    // runs the jobs writing to the given file (csv, or columnar binary if bin), resuming a previous run if any
+    // throws if a job fails, hence the process exits with an error and can be submitted again
+    public static void run(List<Job> jobs, Path output, List<String> columns, boolean binary) throws IOException, InterruptedException, ExecutionException {
+        Files.deleteIfExists(donePath(output));
+        Set<String> completedKeys = completedKeys(output);
+        boolean resume = !completedKeys.isEmpty();
+        if (resume) {
+            truncateToCompleted(output);
+        } else {
+            Files.deleteIfExists(checkpointPath(output));
+        }
+        RowWriter rowWriter = binary ? new ColumnarWriter(output, columns, resume) : new CsvWriter(output, columns, resume);
+        new ParameterSweep().run(jobs, rowWriter, checkpointPath(output), completedKeys);
+        Files.write(donePath(output), List.of(), StandardCharsets.UTF_8);
+    }
+}
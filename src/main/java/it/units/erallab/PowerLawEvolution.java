@@ -1,6 +1,5 @@
 package it.units.erallab;
 
-import it.units.erallab.hmsrobots.util.Point2;
 import it.units.malelab.jgea.Worker;
 import it.units.malelab.jgea.core.Individual;
 import it.units.malelab.jgea.core.Problem;
@@ -22,7 +21,6 @@ import java.util.*;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 public class PowerLawEvolution extends Worker {
 
@@ -49,18 +47,14 @@ public class PowerLawEvolution extends Worker {
         Problem<List<Integer>, Double> problem = () -> empiricalFrequencies -> {
             int nonzero = (int) empiricalFrequencies.stream().filter(freq -> freq > 0.0).count();
             if (nonzero < 2) return 0.0;
-            // compute the log-log of the distribution
-            List<Point2> logLogEmpiricalValues = IntStream.range(0, empiricalFrequencies.size())
-                    .mapToObj(i -> Point2.build(i > 0 ? Math.log10(i) : 0, empiricalFrequencies.get(i) > 0.0 ? Math.log10(empiricalFrequencies.get(i)) : 0))
-                    .collect(Collectors.toList());
-            // linear regression of the log-log distribution
-            LinearRegression lr = new LinearRegression(logLogEmpiricalValues);
+            // linear regression and KS statistics of the log-log distribution
+            LogLogStatistics.Fit fit = LogLogStatistics.fit(empiricalFrequencies.stream().mapToDouble(Integer::doubleValue).toArray(), 0);
             double RSquared = 0;
-            if (!Double.isNaN(lr.R2())) {
-                RSquared = lr.R2(); //(spatialLinearRegression.R2() + temporalLinearRegression.R2())/2;
+            if (!Double.isNaN(fit.getR2())) {
+                RSquared = fit.getR2(); //(spatialLinearRegression.R2() + temporalLinearRegression.R2())/2;
             }
             // KS statistics
-            double ks = BodyOptimization.computeKSStatistics(logLogEmpiricalValues, lr);
+            double ks = fit.getKs();
             double DSquared = Math.pow(Math.exp(-(0.9 * Math.min(ks, ks) + 0.1 * (ks + ks)/2)), 2d);
             //System.out.println(RSquared+DSquared);
             return RSquared + DSquared + Math.min(1, (empiricalFrequencies.get(0) - empiricalFrequencies.get(empiricalFrequencies.size()-1)));
@@ -0,0 +1,232 @@
+package it.units.erallab;
+
+import it.units.erallab.hmsrobots.core.controllers.Controller;
+import it.units.erallab.hmsrobots.core.controllers.TimeFunctions;
+import it.units.erallab.hmsrobots.core.objects.ControllableVoxel;
+import it.units.erallab.hmsrobots.core.objects.Robot;
+import it.units.erallab.hmsrobots.util.Grid;
+import org.apache.commons.lang3.SerializationUtils;
+import org.dyn4j.dynamics.Settings;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+// applies a pulse on each voxel of a body (one simulation per voxel, possibly many simulations in the same world) and collects the avalanche distributions
+public class PulseSweep {
+
+    public static class Distributions {
+        private final double[] spatial;
+        private final double[] temporal;
+
+        public Distributions(double[] spatial, double[] temporal) {
+            this.spatial = spatial;
+            this.temporal = temporal;
+        }
+
+        public double[] getSpatial() {
+            return spatial;
+        }
+
+        public double[] getTemporal() {
+            return temporal;
+        }
+    }
+
+    private final Function<List<Robot<?>>, List<List<Double>>> task;
+    private final int batchSize;
+    private final double pulseDuration;
+    private final int binSize;
+    private final int temporalBins;
+    private final boolean symmetric;
+    private final ForkJoinPool pool;
+    private final Supplier<ControllableVoxel> material;
+
+    private PulseSweep(Function<List<Robot<?>>, List<List<Double>>> task, int batchSize, double pulseDuration, int binSize, int temporalBins, boolean symmetric, ForkJoinPool pool, Supplier<ControllableVoxel> material) {
+        this.task = task;
+        this.batchSize = batchSize;
+        this.pulseDuration = pulseDuration;
+        this.binSize = binSize;
+        this.temporalBins = temporalBins;
+        this.symmetric = symmetric;
+        this.pool = pool;
+        this.material = material;
+    }
+
+    public PulseSweep(Function<Robot<?>, List<Double>> task, double pulseDuration, int binSize, int temporalBins, boolean symmetric, ForkJoinPool pool) {
+        this(robots -> List.of(task.apply(robots.get(0))), 1, pulseDuration, binSize, temporalBins, symmetric, pool, null);
+    }
+
+    // if symmetric, voxels mapped onto each other by a rotation or reflection of the body share one simulation (valid without gravity)
+    public PulseSweep(Function<Robot<?>, List<Double>> task, double pulseDuration, int binSize, int temporalBins, boolean symmetric) {
+        this(task, pulseDuration, binSize, temporalBins, symmetric, ForkJoinPool.commonPool());
+    }
+
+    public PulseSweep(Function<Robot<?>, List<Double>> task, double pulseDuration, int binSize, int temporalBins) {
+        this(task, pulseDuration, binSize, temporalBins, false);
+    }
+
+    // the pulses are simulated batchSize at a time, each batch in a single world
+    // the distributions are close to, but not necessarily the same as, the per-voxel ones: see main()
+    public static PulseSweep batched(CriticalityEvaluator evaluator, double pulseDuration, int binSize, int temporalBins, boolean symmetric, int batchSize) {
+        return new PulseSweep(evaluator::applyBatch, batchSize, pulseDuration, binSize, temporalBins, symmetric, ForkJoinPool.commonPool(), null);
+    }
+
+    // the simulated bodies are built with voxels of the given material rather than as serialization clones of the body
+    public PulseSweep withMaterial(Supplier<ControllableVoxel> material) {
+        return new PulseSweep(task, batchSize, pulseDuration, binSize, temporalBins, symmetric, pool, material);
+    }
+
+    public static Controller<ControllableVoxel> pulseController(int w, int h, int pulseX, int pulseY, double pulseDuration) {
+        return new TimeFunctions(Grid.create(w, h, (x, y) -> (Double t) -> {
+            if (x == pulseX && y == pulseY) {
+                if (t < pulseDuration/2) {
+                    return 1.0;
+                } else if (t < pulseDuration) {
+                    return -1.0;
+                }
+            }
+            return 0.0;
+        }));
+    }
+
+    public Distributions apply(Grid<ControllableVoxel> body) {
+        int bodySize = (int) body.values().stream().filter(Objects::nonNull).count();
+        AtomicIntegerArray spatialCounts = new AtomicIntegerArray(bodySize + 1);
+        AtomicIntegerArray temporalCounts = new AtomicIntegerArray(temporalBins);
+        // voxels of the same orbit are simulated once, and counted as many times as the orbit size
+        BodyShape shape = BodyShape.of(body);
+        int[] orbits = symmetric ? shape.orbits() : null;
+        int[] orbitSizes = new int[shape.getW() * shape.getH()];
+        int minX = body.getW();
+        int minY = body.getH();
+        for (Grid.Entry<ControllableVoxel> voxel : body) {
+            if (voxel.getValue() != null) {
+                minX = Math.min(minX, voxel.getX());
+                minY = Math.min(minY, voxel.getY());
+            }
+        }
+        if (symmetric) {
+            for (int orbit : orbits) {
+                if (orbit >= 0) {
+                    orbitSizes[orbit] += 1;
+                }
+            }
+        }
+        // simulated voxels (x, y, weight)
+        List<int[]> pulsedVoxels = new ArrayList<>(bodySize);
+        for (Grid.Entry<ControllableVoxel> voxel : body) {
+            if (voxel.getValue() == null) {
+                continue;
+            }
+            int cell = (voxel.getY() - minY) * shape.getW() + (voxel.getX() - minX);
+            if (symmetric && orbits[cell] != cell) {
+                continue;
+            }
+            pulsedVoxels.add(new int[]{voxel.getX(), voxel.getY(), symmetric ? orbitSizes[cell] : 1});
+        }
+        BodyTemplate<ControllableVoxel> template = material == null ? null : BodyTemplate.of(body, material);
+        // one task per batch of simulated voxels
+        List<ForkJoinTask<?>> pulses = new ArrayList<>(bodySize);
+        for (int i = 0; i < pulsedVoxels.size(); i += batchSize) {
+            List<int[]> batch = pulsedVoxels.subList(i, Math.min(i + batchSize, pulsedVoxels.size()));
+            pulses.add(ForkJoinTask.adapt(() -> {
+                List<Robot<?>> robots = batch.stream()
+                        .<Robot<?>>map(voxel -> new Robot<>(
+                                pulseController(body.getW(), body.getH(), voxel[0], voxel[1], pulseDuration),
+                                template == null ? SerializationUtils.clone(body) : template.create()
+                        ))
+                        .collect(Collectors.toList());
+                List<List<Double>> results = task.apply(robots);
+                for (int j = 0; j < batch.size(); j++) {
+                    List<Double> metrics = results.get(j);
+                    int weight = batch.get(j)[2];
+                    if (metrics.get(0).intValue() > 0) {
+                        spatialCounts.addAndGet(metrics.get(0).intValue(), weight);
+                    }
+                    if (metrics.get(1).intValue() > 0) {
+                        // avalanches longer than the histogram (possible only if the evaluator does not bound them) go in the last bin
+                        temporalCounts.addAndGet(Math.min(metrics.get(1).intValue() / binSize, temporalBins - 1), weight);
+                    }
+                }
+            }));
+        }
+        if (ForkJoinTask.inForkJoinPool()) {
+            // nested call (e.g., the evolver already runs on a fork-join pool): the current worker helps instead of blocking
+            ForkJoinTask.invokeAll(pulses);
+        } else {
+            pool.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(pulses);
+                }
+            });
+        }
+        return new Distributions(toArray(spatialCounts), toArray(temporalCounts));
+    }
+
+    private static double[] toArray(AtomicIntegerArray counts) {
+        double[] values = new double[counts.length()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = counts.get(i);
+        }
+        return values;
+    }
+
+    // total variation distance between the normalized histograms
+    public static double distance(double[] counts1, double[] counts2) {
+        double sum1 = Arrays.stream(counts1).sum();
+        double sum2 = Arrays.stream(counts2).sum();
+        double distance = 0d;
+        for (int i = 0; i < Math.max(counts1.length, counts2.length); i++) {
+            double p1 = (i < counts1.length && sum1 > 0) ? counts1[i] / sum1 : 0d;
+            double p2 = (i < counts2.length && sum2 > 0) ? counts2[i] / sum2 : 0d;
+            distance = distance + Math.abs(p1 - p2);
+        }
+        return distance / 2d;
+    }
+
+    // measures how far the distributions of the batched simulations are from the per-voxel ones on random bodies, and
+    // exits with a non-zero status if any is farther than the tolerance (a total variation distance)
+    // they are not the same by construction: robots in a batch are translated, hence their positions are rounded
+    // differently, and they share the world (its body list and broadphase) until their avalanches end
+    public static void main(String[] args) {
+        int batchSize = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        double tolerance = args.length > 1 ? Double.parseDouble(args[1]) : 0.05;
+        int binSize = 5;
+        double pulseDuration = 0.4;
+        CriticalityEvaluator evaluator = new CriticalityEvaluator(30, new Settings(), AvalancheTermination.strict(), CriticalityEvaluator.maxAvalancheDuration(100, binSize));
+        PulseSweep perVoxel = new PulseSweep(evaluator, pulseDuration, binSize, 100);
+        PulseSweep batched = batched(evaluator, pulseDuration, binSize, 100, false, batchSize);
+        Random random = new Random(1);
+        int identical = 0;
+        int outOfTolerance = 0;
+        double maxDistance = 0d;
+        int nOfBodies = 10;
+        for (int i = 0; i < nOfBodies; i++) {
+            Grid<ControllableVoxel> body = Utils.generateRandomBody(20, 5, random, Material.softMaterial);
+            Distributions expected = perVoxel.apply(body);
+            Distributions actual = batched.apply(body);
+            double spatialDistance = distance(expected.getSpatial(), actual.getSpatial());
+            double temporalDistance = distance(expected.getTemporal(), actual.getTemporal());
+            double distance = Math.max(spatialDistance, temporalDistance);
+            identical += Arrays.equals(expected.getSpatial(), actual.getSpatial()) && Arrays.equals(expected.getTemporal(), actual.getTemporal()) ? 1 : 0;
+            outOfTolerance += distance > tolerance ? 1 : 0;
+            maxDistance = Math.max(maxDistance, distance);
+            System.out.printf("%s\tspatial: %6.4f\ttemporal: %6.4f%s%n", BodyShape.of(body), spatialDistance, temporalDistance, distance > tolerance ? "\tout of tolerance" : "");
+        }
+        System.out.printf("%d/%d bodies with identical distributions, max distance %6.4f%n", identical, nOfBodies, maxDistance);
+        if (outOfTolerance > 0) {
+            System.err.printf("%d/%d bodies with distributions farther than %6.4f%n", outOfTolerance, nOfBodies, tolerance);
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package it.units.erallab;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+// early termination of hopeless episodes, in the spirit of successive halving: at some fractions of the episode, the
+// partial value of the chosen metric is compared with a quantile of the partial values, at the same fraction, of the
+// episodes of the previous generation, and the episode goes on only if it is not worse
+// the thresholds change only in nextGeneration(), to be called between generations (e.g., by a listener of the
+// evolver), hence decisions do not depend on the order in which concurrent episodes end
+// cut episodes get a penalty, worse than any value of the metric, rather than their partial value; the penalty depends
+// on the generation, hence it must not be cached (see cached())
+public class Racing {
+
+    private final int metric;
+    private final boolean maximize;
+    private final double[] fractions;
+    private final double quantile;
+    private final int minEpisodes;
+    // for each fraction, the partial values of the episodes of the current generation
+    private final List<List<Double>> partials;
+    // for each fraction, the quantile of the partial values of the episodes of the previous generation that reached
+    // that fraction (i.e., cut episodes count only at the fractions they reached), NaN if they were too few
+    private volatile double[] thresholds;
+
+    // metric is the index of the metric in the results of the task
+    public Racing(int metric, boolean maximize, double[] fractions, double quantile, int minEpisodes) {
+        this.metric = metric;
+        this.maximize = maximize;
+        this.fractions = fractions;
+        this.quantile = quantile;
+        this.minEpisodes = minEpisodes;
+        partials = new ArrayList<>(fractions.length);
+        for (int i = 0; i < fractions.length; i++) {
+            partials.add(new ArrayList<>());
+        }
+        thresholds = new double[fractions.length];
+        Arrays.fill(thresholds, Double.NaN);
+    }
+
+    // keeps the better half of the episodes at one quarter and at half of their duration
+    public static Racing halving(int metric, boolean maximize) {
+        return new Racing(metric, maximize, new double[]{0.25, 0.5}, 0.5, 50);
+    }
+
+    public int getMetric() {
+        return metric;
+    }
+
+    public int size() {
+        return fractions.length;
+    }
+
+    // time of the i-th check in an episode of the given duration
+    public double time(int i, double finalT) {
+        return fractions[i] * finalT;
+    }
+
+    // the value of the metric of cut episodes
+    public double penalty() {
+        return maximize ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+    }
+
+    public boolean isPenalty(double value) {
+        return value == penalty();
+    }
+
+    // the results of a cut episode: the penalty for the metric, NaN for the others, which are not known
+    public List<Double> cutResults(int nOfMetrics) {
+        List<Double> results = new ArrayList<>(nOfMetrics);
+        for (int i = 0; i < nOfMetrics; i++) {
+            results.add(i == metric ? penalty() : Double.NaN);
+        }
+        return results;
+    }
+
+    // a cache of the given function, as Misc.cached, that does not keep the results of cut episodes
+    public <T, R> Function<T, R> cached(Function<T, R> function, int size, Predicate<? super R> cut) {
+        Map<T, R> cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<T, R> eldest) {
+                return size() > size;
+            }
+        });
+        return t -> {
+            R result = cache.get(t);
+            if (result == null) {
+                result = function.apply(t);
+                if (!cut.test(result)) {
+                    cache.put(t, result);
+                }
+            }
+            return result;
+        };
+    }
+
+    // whether the episode goes on after the i-th check
+    public boolean goOn(int i, double partial) {
+        synchronized (partials) {
+            partials.get(i).add(partial);
+        }
+        double threshold = thresholds[i];
+        if (Double.isNaN(threshold)) {
+            return true;
+        }
+        return maximize ? partial >= threshold : partial <= threshold;
+    }
+
+    // the partial values of the episodes of the generation that just ended become the reference of the next one
+    public void nextGeneration() {
+        double[] newThresholds = new double[fractions.length];
+        synchronized (partials) {
+            for (int i = 0; i < fractions.length; i++) {
+                double[] sorted = partials.get(i).stream().mapToDouble(Double::doubleValue).sorted().toArray();
+                partials.get(i).clear();
+                if (sorted.length < minEpisodes) {
+                    newThresholds[i] = Double.NaN;
+                } else {
+                    // the thresholds of the next generation come from the episodes of this one, all completed (or cut) by
+                    // now: the quantile on the side of the better values
+                    double q = maximize ? quantile : 1 - quantile;
+                    newThresholds[i] = sorted[(int) Math.floor(q * (sorted.length - 1))];
+                }
+            }
+        }
+        thresholds = newThresholds;
+    }
+}
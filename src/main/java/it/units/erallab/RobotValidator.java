@@ -1,15 +1,12 @@
 package it.units.erallab;
 
 import com.google.common.collect.Lists;
-import it.units.erallab.hmsrobots.core.controllers.Controller;
-import it.units.erallab.hmsrobots.core.controllers.TimeFunctions;
 import it.units.erallab.hmsrobots.core.objects.ControllableVoxel;
 import it.units.erallab.hmsrobots.core.objects.Robot;
 import it.units.erallab.hmsrobots.core.objects.Voxel;
 import it.units.erallab.hmsrobots.tasks.Locomotion;
 import it.units.erallab.hmsrobots.tasks.Task;
 import it.units.erallab.hmsrobots.util.Grid;
-import it.units.erallab.hmsrobots.util.Point2;
 import it.units.erallab.hmsrobots.viewers.*;
 import it.units.erallab.hmsrobots.viewers.drawers.Ground;
 import it.units.erallab.hmsrobots.viewers.drawers.SensorReading;
@@ -24,21 +21,24 @@ import java.util.*;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
-import static it.units.erallab.BodyOptimization.computeKSStatistics;
 
 public class RobotValidator {
+    // the task builds snapshots only at the given interval, instead of at each simulation step
+    private static <S, R> Task<S, R> sampled(Task<S, R> task, double interval) {
+        return (solution, listener) -> task.apply(solution, listener == null ? null : SampledSnapshotListener.of(listener, interval));
+    }
+
     static void validateGridOfRobots(List<Pair<String, Robot<? extends Voxel>>> robots, int w, int h, Task<?, ?> task, boolean video, String outputName) throws IOException {
 
         ScheduledExecutorService uiExecutor = Executors.newScheduledThreadPool(robots.size()+1);
         ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
 
         Grid<Pair<String, Robot<?>>> namedRobotsGrid = Grid.create(w, h, (x,y) -> robots.get(x+w*y));
+        double frameRate = 30;
+        task = sampled(task, 1d / frameRate);
 
         if (video) {
-            double frameRate = 30;
             int videoW = 1024;
             int videoH = 768;
             GridSnapshotListener gridSnapshotListener = new GridFileWriter(
@@ -103,56 +103,33 @@ public class RobotValidator {
 
         CriticalityEvaluator task = new CriticalityEvaluator(
                 finalT, // task duration
-                new Settings() // default settings for the physics engine
+                new Settings(), // default settings for the physics engine
+                AvalancheTermination.strict(),
+                CriticalityEvaluator.maxAvalancheDuration(100, binSize)
         );
 
         int bodySize = (int) body.values().stream().filter(Objects::nonNull).count();
         if (bodySize < 2) {
             return 0.0;
         }
-        double[] avalanchesSpatialExtension = new double[bodySize + 1];
-        double[] avalanchesTemporalExtension = new double[100];
-
         // a pulse controller is applied on each voxel
-        body.stream()
-                .filter(Objects::nonNull)
-                .forEach(voxel -> {
-                    Controller<ControllableVoxel> pulseController = new TimeFunctions(Grid.create(body.getW(), body.getH(), (x, y) -> (Double t) -> {
-                        if (x == voxel.getX() && y == voxel.getY()) {
-                            if (t < pulseDuration/2) {
-                                return 1.0;
-                            } else if (t < pulseDuration) {
-                                return -1.0;
-                            }
-                        }
-                        return 0.0;
-                    }));
-                    List<Double> metrics = task.apply(new Robot<>(pulseController, SerializationUtils.clone(body)));
-                    if (metrics.get(0).intValue() > 0) {
-                        avalanchesSpatialExtension[metrics.get(0).intValue()] += 1;
-                    }
-                    if (metrics.get(1).intValue() > 0) {
-                        avalanchesTemporalExtension[(metrics.get(1).intValue()) / binSize] += 1;
-                    }
-                });
+        PulseSweep.Distributions distributions = new PulseSweep(task, pulseDuration, binSize, 100).apply(body);
+        double[] avalanchesSpatialExtension = distributions.getSpatial();
+        double[] avalanchesTemporalExtension = distributions.getTemporal();
         // exit condition
         int spatialSizeNumber = (int) Arrays.stream(avalanchesSpatialExtension).filter(frequency -> frequency > 0).count();
         int temporalSizeNumber = (int) Arrays.stream(avalanchesTemporalExtension).filter(frequency -> frequency > 0).count();
         if (spatialSizeNumber < 2) { //if (spatialSizeNumber < 2 || temporalSizeNumber < 2) {
             return 0.0;
         }
-        // compute the log-log of the 2 distributions
-        List<Point2> logLogSpatialDistribution = IntStream.range(1, avalanchesSpatialExtension.length)
-                .mapToObj(i -> Point2.build(Math.log10(i), avalanchesSpatialExtension[i] > 0.0 ? Math.log10(avalanchesSpatialExtension[i]) : 0))
-                .collect(Collectors.toList());
-        // linear regression of the log-log distribution
-        LinearRegression spatialLinearRegression = new LinearRegression(logLogSpatialDistribution);
+        // linear regression and KS statistics of the log-log distribution
+        LogLogStatistics.Fit spatialFit = LogLogStatistics.fit(avalanchesSpatialExtension, 1);
         double RSquared = 0;
-        if (!Double.isNaN(spatialLinearRegression.R2())) {
-            RSquared = spatialLinearRegression.R2();
+        if (!Double.isNaN(spatialFit.getR2())) {
+            RSquared = spatialFit.getR2();
         }
         // 3. KS statistics
-        double ks1 = computeKSStatistics(logLogSpatialDistribution, spatialLinearRegression);
+        double ks1 = spatialFit.getKs();
         double DSquared = Math.pow(Math.exp(-(0.9 * Math.min(ks1, ks1) + 0.1 * (ks1 + ks1)/2)), 2d);
         return RSquared + DSquared;
     }
@@ -161,21 +138,21 @@ public class RobotValidator {
 
         // old phase
         List<Pair<String, Robot<? extends Voxel>>> phaseLocomotionRobots = List.of(
-                Pair.of("opt", it.units.erallab.Utils.safelyDeserialize("H4sIAAAAAAAAAOyaD3BUxRnAN8cluZCQJhdkSiVN0UskDsmVCgYNM0m4u2D0mcBdCP9GZO/u5fLC+3O+e5dcZAAjA4JQpMHrHEZOg0Apk7YoY4yKoIgNtQQo1OnQPyJWZ9QhmoLACJX27Xv73l0SJNLZ06nmzWRvv2+//X3f/nu7t5fOPpAcEEERIxUHeUYKFNMiZFnoLm7gAqLgFmSNRxDpYsHdSHtkwYl0PUv6ytLzjqw1AAMFRnsEXhIFlqVFCUynGMmqgKwYZNVBVgSyxqwDVpueL6VASpMQotmABAquxwhKDGudJTLe0pBfjvuu4eKOc1dcy3B0ZZD3SIzAB3bunvqzfZv6eg0giQJp9Zr6IbACGBS05TpoFEUxiuJg2q3jKu7sedEARlWBpAb5r5kCBkluRRbVCJugGi/FBCQ5XgCACf3J8BxUqGIqRBG2IItQ64ncLT1w6yiQVAWMAeZhWqlS3mxEqVxpolKJhbyvmOGbhKV0sYsWGcjKll4Kcm4vFODxJycX3rnaAEZXgUyG87P301KD4L2P4b2LQIYH+qWgSHsrRJ8cYc4iNUQEtNYo4ysPQ6ZqxPA+GwsDsll2nJWiko1+qPUXZKt4iRbroYfG5uY4c5eEOLJ97jXs1ciqIUejPs+kwC1faeRifDxEkWPLNNQyxR9WxDU1DpgT0w4mjGP4gAR5iYES7VVNalv8aqnS6ylBUesgtcdxB206Ov+ZrEAhawBAsTMqIaQNGKesWC27EHSz9CN7D95buPSKUZ5rdpDcBNkgHRpgVh3k3LS4pjOcm/7ke+sV9oFz2b0XLx1tUvg55WmdBaA81KhKZZ852Y8zuGO4LItLnrncUK1KBz4p6V597D4OS+fcleGJ5kPY0nze9krJqTpc1n+o8JR11cdYurLtkVkli1ZgD//JMK6M/vZmLL06baO/9qmVWHq3ef1yuCMVS31C3tki214s/SufWicU5GDp8sW07b+peRV7OM/RmeuZ/bjs879UPrBxVVSVXjcdK5n9zNZJuOzc+Ie6ej5aoklnerY8/fAvsPTvzjkpRyeP15hvTWXH7foAS33inG0TzT/FrTUFDrnnTrkbSxmXfr9rY4ELS6D0rv2HXo9g5vld++/uWlqKpYtzCxZQYyGWnj+bd2Gn14mls76r0q+bjVi6dLrhg4p5i7H0Zdm7lz2RT7UxeufMhBlv4PYd+GKDJzX7VxbsPfXw7t45NSZc9l7+F0dY/iouS+neWrh58kEtzjc5MXf37drYnv3DhK6WWVj68IEfRR7NuEdj7nm+5sMTdo2ydvHm1s9ycSxXSj7f98ebm7X2ubf2vhVYiClXs2ynzjgZXC9p5Z/3OD5qxZafFlWHGvclY8v3n3Ud7x4/HUv/PL1zzwu/fAPX+8GXy3Y05RzB9V4yBVvXrdqAy5JfcTqOF2l9/fiOt+n+GW9iyj+ea1jYbTmKZ4Fh3uwLxvxluOyvtz33u56sbkwxnj6Zt/RAWIuTe6nbP1/Q+mXzj2f+/d7l2gxJWbN909zLmJm5d1Pess4LuOzqjGDX8ncOY6nf2PHaliu9WDpTuG2mO78rJC/h7NjaRO8iHy2a3392+6XWx6Yb0NsZr2FUbay86AHKqKsqRX/JD3ov+L/WdqVts9rOCOW3Rx3aFy88/eDh/Kp7Jshbrh2YOBiqFEQPTYH0evSpvsEkMGvY7Rc7sA5xYKmMgUpDN3AiUGq/lhra3r+kZp8BjLGDbCjS0AnlV/n9MGSnWQnKIdeLjPJyXwjGsgzHSEoAUFFVstBnB0ZOfp/bgRl9VPC+IAtFO+T88gayEGQjpU0Olwno9oqOYnhat7ODHKRzMV6aonmf1KDEYAfpIh2QGCmIfNnB6IBebgepAT/aoux6rpICZjXn8sD6eoH1ylm0WcZt5w4+yLlotKOXHQfKU75A/Uwq61cz2qeeKTt5h/KUvbwFPU+Vmwbqy3+iyujgETsbYE8WbZ9H7eFni0KoJTn15N+aat/+k3IES6dZmqN5SdvCxiwCJqxCG3j8Po+IcuBNIii7oQG2uAZ3Cm4gMMu7lQgyYwsGuYgv9MtbaXb8VqrEsOvnnxTdccIa0TfSFShyKIExriq740HH/FqHs7qCGqitqh6oHa1obc4al0s3tDmqa50VlKrVBmaFCBz/89qLXxrxDUMe3RIw2atctRXVNocfPcq6X0B+YiDsEg2HBGHE04inb8vTd3Si+0eW8Iinb3sGftPTfcQhYYch+XR125DTRuyyq8YvySdg9TAHYk/IL4Gpw1196SdB+XCi3WVJIBn6/WyLBAomDb3SKRyqklB4g/xcOzwJ3MQqN0sWMchbptHT5Mc9xTJFAo9OGnzBFecHf2e6puprXe7FVVSvUAY0A6sGtferDZXhTwfoVgflsuScEWXMSsFcNBWUb3AomYeS1ShZg5LHULIWJetQ8jhK1qNkw/BQQyKgoxIBNSYCmpwIaEoioKkEoTrqCXK8Jwjz2gjzwoR5EcK8dsK8KGFeB2FenT7IBOcfQV4bYV6YMC9CmNdOmBclzOsgzKvTB4Xg/CPIayPMCxPmRQjz2gnzooR5HYR5dXonEpx/BHlthHlhwrwIYV47YV6UMK+DMK9ObzTB+UeQ10aYFybMixDmtRPmRQnzOgjz6vQgCc4/grw2wrwwYV6EMK+dMC9KmNdBmFenQwnOP4K8NsK8MGFehDCvnTAvSpjXceO80LD/bYE0CbjyVbiLUeJRWuLVWlKPkgaUNKKEHXoPncBb6KSbvqnfK0Y8jXi6rqfv6ERP+A9J34OpMeLp/2ZhJf6H0++lw9B/AQAA//8DAOu7w5ZwMQAA", Robot.class)),
-                Pair.of("random", it.units.erallab.Utils.safelyDeserialize("H4sIAAAAAAAAAOzaB1QT2foA8CESDUQigUAkGo0Go1kj0Wg0GDVRQEURC9jWGiBCNAQ2CcWyVuyuZRUWrLtW7L2jYe29sVhWn90VC4KiItj+THI/1N33dt/7n49z3ttDzmHInbnzu9/cOslkQz7FtJipJgarX4LJYLX46c06o1EX4RcTazHHRcSV7YmMM+v94iKG6yPLEr3ofceH5mvYdc9MY1CMEMo1Ms5kNccZjXqzlVKFGKxyOyQnkLwcktOQ/FNuizyg/L06hKqaGJesN1qslOTPjASrwSjvZDZEqZPjy+L2/6u4PyvOL9wQq++YYIq0GuJMltXrWiiy5uafZVBOIZTLMNj9DTWWYthp3z+h6Sj86CgOuYi927c8vpNBVQmmnGLK/pJCKIa17CrcQ4brEnWOeEMMFmtZvBRF8ei/MtyTPuhg2pvNupF0juQJl4QZx3VLqlBOwZSzxTBKT5/iNDfJmd6WnVTPfpJRZ4r2M5gS40bo/cL0ZoPOWJYzKkQXGxGli9NdWCCTtpzMoFyDKY4hNt7YTW+NiYvqajBFDaCqR+rirQlmfVR7c3RZhJ4DHCHSoLy7vX3LmoHjyGQwRQcYdZaybNzPctl3lWWqCfWlMwabrHrzMF2knmT3+Cx7mJV2yvIL/0l+R2Shulg9XeecEKr+v8wUZog26ejISU4X+srs5ZEdn13qZ6Dnp72/F7wNJotVZ7IadFZ9lCNL+Mh4x1F7Q1VNMEMFOWqcVNDcc/2WuVukRgZF2fM520Nw+aKd3D+dFRiXEGHUj99+qIt0xFvnsr4WSDETdcYEffIX2UITYiP05ikbUoXsBbdn2m3Ne1f3Zt6jWth9T221HdGN1jXOJKmak7Zq3dTPHSnbM5djaY0Ln5JU0avU3PSUaEdK89oymXVv6SxyXo2czA2lC7aTnLcsddu9yf2O5MzvVn9tjW1fk5zcKmtrXZqzxpHKZgSEcVL03aCEiT6PGi+YTc4rerZuAadBV3Iec+/Rr8RDOpAU1eOg7yTxCihv0p7+HeN2ktTU+V6lkzr+SJQP4448KLCSK8r23LnuTWmrheTYm3VPv8/st5akSla939rENY8o++8fLXjsQ649WzA1uXfSIT+SqiqqOyN9EoOkXH49eLzR4/0ksnrs5ev4xT2J8ny21WXjotYkdW+WR6OHxzqT8n62bb4VFnCJnFerd++DDb2OQc2PbHzzQTG5Bm2VnZLEWVMnQb3MmLDhirYGOebda25e9s1OoGx4EpV6PIYop1fMeuZe6yC0WFuXUztkJDKtB7Xp8vtDV0iqtm+r0IGHwskVUY1U27zHtyHnvXooservTIWWviib+UO1UJLTPWtP/aF9ckmK6Vead0SoIDmrvr6t67zjAEk5e03MrfLoA6Qe1ND9sj+InOdkVefNTBpLjnk9GedyJf0uOeazwCXl7rafyRUt/bFh8cvYNBLZ/VU9Vn2I3EfOYyv2BteL1ZOcLzy/Pem/tBOU8Hqw5OywcChBO3pnQXfSJ7Tu0qirO+7dgdqN3vlK68+D/tLoKlvpA9fOuDW2NT+2LilhkvjFxrrfaaH0g6nSOBmXKA9bhxfdmNaOpAolVecfDWBC6fyvglLZWUR53XXa01o1nsAVpS5bfP7aRxg5JYsi+O07ktSRhbGJLf2mQ11PztUKip5CLxi3wrqpVRL0yLpHRiS57SEl3NXs25R7vCZJvVkd3ipQf4OYd7dszypl7CCpvcqhcYP7bCAma3u34oTRZPzZ8oPm7WxZ7xDJ+Timc4hL4H1Qbud2HTPDSEpnv17fUu1dD1p6d63FnadsISnP43t/mXXqEPSQ6Dpn3mc/gplopLffyZak72qrKy4Lm0XMhlrKbBxcxBkAOZfeGTKmDeR0CphY+3Gr9TA2x8+6vSL/JDmvlOEa0utbCeRsZerA0owjx0pqpWzZ8eoNRLbocei+s4+JUv3dptTz28kcme22tdu118b+kLPd1C66UVXJMVaLeZvcdpG5J7tuzz7R70+sJCnfnsGrTwynSC3dGJRxumFwCin9SZNGJc0Hu5OcQj9No6CP+eRYwQ9zGlCCWuSYV4Z66NNLCeTY7fR5ad4mDUn9drrnU23weVLCvR9GVrvDJteguXxTlJRbBKPRw1Xa/wFrOEnxa6eI2+frSMolb+yEBqXVSXmiDsYNP1X5CHW2d2/PJYvINWRzjAbR+DqPoAZv7TLMcL5IUo9buwUU9JxMSi9e9KT1tgJYSYqbj3VrcW4bMXk3ihumenBgztKvbaB41Qzmupu7v/llPOmt2dxHE14uShKQVM1DTx6uvPwKat63hVEUReYzzZOPP7w8sCUC5qyMo/tEhzeSVM4E1YwX/skQmdvyzgHGbIjs5f688Q/nQ70U1tw8dMtHGEchLqd/vW+GthUs71E0qxc570NKW5vz/qcwa7w+NiZy7nJYnf7xjH3iFJlRsl3D40NCdhRC6R2SQiYkBkGcXpNrL/QLhZ7lKfSMDBxJjm0Zn9T26rgHRKliCs7bEEZmMM3zw/VMA/PnkvN8MtwvyOelwghP2O/Tv/0gyNnByu3yviqMxrjE3j1SWOTY7Vif5p3NEhhjmsGXilebYSbKOExtPkXGtKZ0//q0yQvPw9z68/VtBR3I+m67duJpE2PD+7A+vHianiK4BjkLH3dM/4X0SNvLCXurybgykpOzru51Rp4LjHdu0uqf3sF87brv/aFuhoMQ2epLF4IUpL9keyQO6rvz+lCoz6v5C6src2D0T83ULg7jQms28Od5rj0AvdW99EhRWzHMPT+2e/3+Kz+ol+lrrpzaGgDt1/JSVHdVBjlvZcrKhHY7kmEuOHipRaPQpuTYPS/q+bwRv5HzuB3CvrlTADP7k87UuDEPMyGyRa7mGfdJ/8xmHMjIHi8gx2xv18x775cLq6jbkElzenoboGd9X7Vhg2ArOUYFL5EyDqvJsZuWBmHvsnLgiiLSewpHdSHmWQ+rcvyZEpJ6t/nW6KQ+Kpjd3IZdS50yA+plwbGUtQ3WQqvMdK9bk10bZpTMLiEaagK0UWzmuH6CMdDSodt4d3Ngdnuoe/Tct6Q1zDaDT667cID0LM3bB0+/OtUVVu1XMYfizx6+SnJ6MVZ+n/mRzLSad7ESf9P5SBLZs+Y8bbB7I6gJ6bG1ec+awDzhf0Huuucy9JfTbdNXPINZmJ9l7nbojitRXkUv2qTUCUmqyOrcNYW/HVrlx10jmzJuwGyzZd/R8cHQP90mDn7rvvwn6HWpmsTp08eTY7U59VPf7iErrFaQGJ/1kw+5w82u1frMB87JftB7Fi0M/2p4Z+ghN12P+wz5AVp65aWYWaNgJnqxZFDXBUNhtqm252Kt0dFwv1T3QI30Mz3mkWMSr3YvpbWaQGRxLULra8j9klYYVvvq6N3roB2sr6PEaVuhlhpvun196XFyzL3PrKXPB5J5Setdp8r8O2NIq2Sz3WeWito+hnbvsS2nXfgyqPnjbj1+rQYrUMnyaWquUzeYpZ4HJw2PgLt0ly1DVNcjNpNjnv8Y4OnSdSZpzVxBkOel/HzoE/LdHVJaQE+uUSdy38BcGEdF7lGd0xbVgRF3/P6jvPxhJHX/zRgb79Ftch5ji3ZFTIaIHHt4kTGKspFPKNlOVQav6Z1cBO1QELbbU0Jiya7Rt/7C07XIZxLb5BP5032CyQjXPDgW3+HYC7iDqNmBMea3A17kPPdQ/tY6uu4wxrrWbhkzzRtyHmkTe1o3Da6v5XdLzXVgFXVfuMPvRDLMWd5953cpKZXBnGyMpp7UhjtVRrprQFv2BOifzVJOJqyPgJp/myW3zSlfRd+4933FYUDbhudsXf6R9ALNU4l5yo2uBqiJYV59TrSE+rydvV4SOxzu512vyXbdXj8Z1pVU1e43Xm1h9m66QHLn8ChyTDSt7ndjvE+QFG/xQP7dxKswigVPq/ueGE1Mnq85uc3dM5D6md+zVpPmMALSXIfldYdPmFdLz+U9V5SfdySW6np4NZSQ0cuaM7EHjI7EqDMxq89DDf7gmzxUCPemxbF920Q7kzbS7FlQFOLWZxr0rG0zmkYUGqCNhhW0c+83B3rWzYQEy1jS6zSPmJfXeM7wh/n6TNqY4oEjYEZZ5tlqFw/uW53nLvHvMB/updwXBW2uHQd3a0VeggV3uncHxXXq8kZuZM7Suv7cY+bXg0ykvF2DX7S+n3EGZpQY0c3dM8kdoNZz+4bGHTVwr1h13rwIThcy4jRZP9fZFD3iAsxZqRmKmDwPktOHXfuJYg6Z9TWls8f2+mZqA5IqWbVqjCRbB3PP4eaXFyYMgWO7RFPenX8Gc0iSv3/2hVKS4ndv5s4+mk7O+5UV1LJ5K3LnaHt/rrZN884Ks/70mg9ts8k40joZF7d9Upf0F9ub7AkfMue/IDk/ej3KOXQHUi93N520qSF8dspZFTB7eC6pec2F1c1+3DJ3EMxSDYsy3+Q2h9nmTp8C72ewOlVxndKRtyIZZrc5L3uXjIUZzLl61HXRCgXUZ73ufpn7A0lkr7vfDJ1xFe6TuTF56lMhIhh/36f1pWq2JynKsixYuygKeuuAnJbfeEAbsRc2PjnXG1q6hnSjwRK8EcZth28nX1cegRL2NH7eMT4dZlqtqlvxc5j5nl3pO2hrHVg7nDNzPszqDlHz8x7P6XEZ6qV0MMsSoiRjxXZtFW+9ries6NyF95csPwzfT1Bfj0wsTINPkW43R6R1zSc9xHZgZt9rdYsHEvM3l8KzzWuGQWqTaWqrWLiD8AhudvpsVhxJOTfvcnHaw19g/Ts3ad2F4fCJ/d7thzO72uCuyzWozcaXj6BemJ0Ovj6QVkzOqz7l4fV8npKUd6jjTNXgG7/CzDB64PoUKXyWYRXmvOIo/wE9xES98fB3h7nn6K0XezJhPHDYjAJLManB7Jo+Yqe1JW1gjC38OPTqBfik79wpKyhcQj65aYqKPs5LmA59vsqtnVu8n6+FnBbR0csSC/TWHWMvlk4g9xOaws3PI2LWpMHI8Wm0VXboIsz63i5pzNZw1xwrOTFyTkNyP2H7zatp5o5h5HN4dv3pNXzj82F9Z5X0X3t+4jVYj15kRIpOwbcjglZNqk/ZCPN8SdrgTpcXwx3ZAdHcLrOrk7sLTW7Tm4kDl5Heavswcnk/nzSYywX1p5+KelIMs434SsI5aSTMgz0yQko6kLttW+G9DN6VfrB2vHjZKVnyjowV2135JePZkrvQI0O/O3EqHWbvGqv957wtLp+lTja7M3OVlJz3pEeLTvXrwOeON+PGzPrlDnxX4hp3fs0Zb/INjy3n+7AdKZvgDqnqMtfGXUwHYDxwe6dfMcJadepIyvzdrRpBL+hf8O3gxlMg5/rZK7w6j4FVrf+59LbXX5PSr88891MW5yvokVVOWfrXITO07coAWzPzXlhlHsjXF+yr9S059vRh3NT2S8iqbbvcaXM3tyi4z2JcZZ/Jf0XugjQv5qaGDkiC790Y80XhxxbBN1juR/w3SqLg3tTt3dpekxsfhX59fkO3G4PIPabtdltT23UGaDF3j8JBiWJ9ssVMcT9990t/1x2tN3vc/XFl8YSpKgb97T/5jpg+jX5iQJW9cXK0UdXyhwh06rPvneMrXxX/+neeOMGTMni4pYsw6vvQj7ZeLR5yokFw59oMihFIsWJ1yR3jzJH6EIo9jP7veAhhpTr95RM0UoD8DwX4dvwEqZP/g4d69rMPVEteWTi0exaDcgukuDqzXtdLZzXEddMlB+qNVl1ZyMPMBvvzma8pntEQa7DaA9DZd3U06qIDKedYncUSSHnQ/9qbohOMOnOgLjbeYIr+muLSOwPKwjVYyvPb94UYTPryfIGUJ70vzBClD9Gboq0x9hgCKbZZb7EarAl0WYGUq6X8eCBVzRJPP2UKLH/XMYTycLwLi9QNGxZnjCp7Sz/v+uyJXJApITZMTz+U01yg7C9tf8d/J02h4w38L3+jyWluf2n2ZtCvhVrWl/u1Ikeafnb46fEeKckXHtXR12PqYY5LHsmslnM9MfzURftTVLbeqI/Vm6zwFMptAMUiu+hncJ8/qqPFssATzZTmP2pg37DfVwq5QMqDosq6C+fTnEQX8fnB+AQzxPApgzrzu8dNml+Sp5c/CxtLz1NbrZRbWHBg0JCgfuFBvULbh3y5Nzj0y72u9r0BvbqHhZVnDAgKDe/VPsSxFxpmrJkK+n+Pvc+HxucXRpe4zUqxAoPDwtuHBgSVD3T6wNoK6Bu0u4nebE+gtzvoaqPf7KI3e+jNPnqTBUXSCVtlNP86msrG+h+KprKp/meiia+cCiuj+ftEU9mNK6P5G0QTn1x229/wD7fBn35I2T3eWvbRzPEpg/r0So63Ui3+6meV5R9Ryu6a4XeSVoqpi483jrRSkkZ//Lmg9I+7rHR4vyvnn4dnpbyM9l8t+poTTL5KvbLsFdHMt5mVmtjo9z+e/Kwc8n3JP931b/1w9LMTHT/P++IyyK7fXe+/zmj/HoZN0b8YpN+5k2ak7F/uO62i+wr9ZjW9WUNv3tKbd/TmPb35QG8+lm0YdAsz6MwMxl+jjIpAq1QE6lwRKLMi0KoVgVarCJRVEahLRaCuFYGyKwKtXhGoW0WgnIpAa1QE6l4RKLciUI+KQD0RUaAYTDTPTmF6LGSPjexxkD0ussdD9vjIngDZEyJ7ImRPjOxJkD0psidD9uTIngLZUyJ7KmRPjes51g8WXnxMZI+F7LGRPQ6yx0X2eMgeH9kTIHtCZE+E7ImRPQmyJ0X2ZMieHNlTIHtKZE+F7KlxPcf6wcaLj4nssZA9NrLHQfa4yB4P2eMjewJkT4jsiZA9MbInQfakyJ4M2ZMjewpkT4nsqZA9Na7nWD84ePExkT0WssdG9jjIHhfZ4yF7fGRPgOwJkT0RsidG9iTInhTZkyF7cmRPgewpkT0VsqfG9RzrBxcvPiayx0L22MgeB9njIns8ZI+P7AmQPSGyJ0L2xMieBNmTInsyZE+O7CmQPSWyp0L21LieY/3g4cXHRPZYyB4b2eMge1xkj4fs8ZE9AbInRPZEyJ4Y2ZMge1JkT4bsyZE9BbKnRPZUyJ4a13OsH3y8+JjIHgvZYyN7HGSPi+zxkD0+sidA9oTIngjZEyN7EmRPiuzJkD05sqdA9pTIngrZU+N6jvVDgBcfE9ljIXtsZI+D7HGRPR6yx0f2BMieENkTIXtiZE+C7EmRPRmyJ0f2FMieEtlTIXtqXM+xfgjx4mMieyxkj43scZA9LrLHQ/b4yJ4A2RMieyJkT4zsSZA9KbInQ/bkyJ4C2VMieypkT43rOdYPEV58TGSPheyxkT0OssdF9njIHh/ZEyB7QmRPhOyJkT0JsidF9mTInhzZUyB7SmRPheypcT3H+iHGi4+J7LGQPTayx0H2uMgeD9njI3sCZE+I7ImQPTGyJ0H2pMieDNmTI3sKZE+J7KmQPTWu51g/JHjxMZE9FrLHRvY4yB4X2eMhe3xkT4DsCZE9EbInRvYkyJ4U2ZMhe3JkT4HsKZE9FbKnxvUc64cULz4mssdC9tjIHgfZ4yJ7PGSPj+wJkD0hsidC9sTIngTZkyJ7MmRPjuwpkD0lsqdC9tS4nmP9kOHFx0T2WMgeG9njIHtcZI+H7PGRPQGyJ0T2RMieGNmTIHtSZE+G7MmRPQWyp0T2VMieGtdzrB9yvPiYyB4L2WMjexxkj4vs8ZA9PrInQPaEyJ4I2RMjexJkT4rsyZA9ObKnQPaUyJ4K2VPjeo71Q4EXHxPZYyF7bGSPg+xxkT0essdH9gTInhDZEyF7YmRPguxJkT0ZsidH9hTInhLZUyF7alzPsX4o8eJjInssZI+N7HGQPS6yx0P2+MieANkTInsiZE+M7EmQPSmyJ0P25MieAtlTInsqZE+N6znWDxVefExkj4XssZE9DrLHRfZ4yB4f2RMge0JkT4TsiZE9CbInRfZkyJ4c2VMge0pkT4XsqXE9x/qhxouPieyxkD02ssdB9rjIHg/Z4yN7AmRPiOyJkD0xsidB9qTIngzZkyN7CmRPieypkD31f+4l28GqZQyP/rOnXCjKaW6SM72Nr3xV/IuudKe1mguU/aXt7/jvpCl0vIH/5W80Oc3tL83eDPq1UMv6cr9W5Ejb3U30ZjvdWZx2kM7itIve7KE3++hNFhRJJ2z/nVFVRvOnLfbfFVBlNH/SWP9d4VRG89czYWWTVUbzN4imshtXRvM3iCY++f8AAAD//wMAQaOeugS1AAA=", Robot.class)),
-                Pair.of("box", it.units.erallab.Utils.safelyDeserialize("H4sIAAAAAAAAAOxYa2wUVRQ+3b5b2/QlGGJ9UR6tsCuvUoG4XTotrg6tdosBGoW7u7fbgdmZdeZu2RpFQCkU0BKsUVQeCcQQQvSHMVGDwZAoRsUgiD8gBuIfjYLwQ8VIiN4zM/toC1TMEE2cSfbMPeee+93vnjP37Mw9cB5ydQ2mSswdVySmu6lGZJkE3d1RXVODKreEVI261eAKGuJKO9qOLD/vLb7zi40ucIlQFFIVpqmyTDUGDaLEPAaQxwLypIA8CORJe+ueplR7rgh5PWqCyjqDidfDiDNJ9izQpPDcRIzzvn803hnTuTukKG2JKyEmqYr+5v6Z0w9uPX/UBVkiFHYlzU/CanAZ0DXXgUYWbmRxuHD8GF/9kXddkO2HrG7+WyWCi/FVlIkrSA8x+YqSzjhfAMjhP4x3JXaaMD5NI73okVh7vHr7EbIjG7L8kKNLT1FjSNUqHFTFB91tDJKJEnFLSo+6kroDVJOIzD3DIokGw0Qlxwan1Navd0GRH0qlaExeSFm3Gn5YUsKdcEuIxFhco2GfFuEMKztNigjoaTPyy9NQajpJSqRJJjp3K8/wMkzc6bZkvIjsVxjVukiIWu4VGe4Bhjjcv/oq/iazVhKlGPNSEe65plNAiigEmVuehbgyYz7LkLHUDMDKtHU4whhJ0RlRmEQYDZsuHb0xs9eIel5cSwbIjLgVoK1fLt5VptfKLgAzoQaFwiF5KkuPEtR4UKZr3jn8UO3Kyzn8WRMgt4fIcZoY4tYajwap1nfg5eriwbObDWzvx6/3L3/p5AIDv7Ixu/ZSw4RPPJZW+ejJt3d1njM170XX+N3iwHSrr/CZncE9j4tJz7eUPWxxvakd+mVw06Zvnsi3xv2w5tC+lqrNlnauYO/uvguSpV2ev+T7PKXb0q78FP1t7AclFkpf9Xv10zbusbQdp08Nnvn2acuz/1LplP3nzljaK3eM+3z2okkWl/L4orPa8VPWuJ/Hvbhz5x/jTO0jKCBXvo7+bvX9OTBn07yDYGkXjt43tmj+sQQPbXk6ZviMRKhW8d3uvZfWbmhw4a6xYovDqngyABt1BkpeavONzNeoRSRZ/JL1ivCcPobV6tc3ln06wf/g7bwQClAQJYkWVQtREYq78G4+VwwWjFoUrQk8IyaoaUkDzU3cQJ02Rn+Yn9h7cXnbQReUCFBONEraCd9gC0lCoDIjnHKXJhlbbilUyVJUYgYBYphaZBIRICfKd5kAFXjzKZG4TDSBRGN8Wy+FcjQ2cbqSnvI3bKKk0JSfAJVoC0hhKlIlwroNDgIUa1RnEovjXAIU6al+AfL1GBYOIdVqEaHCbAVCpKtLlcO8iSUso8g2K/FogGKd9R4D42pcYt6zvBfNRvKeanhPzDAu7/vb8XqtsWCovfEuU8e/g3TFtmaqSVZfXI/yiKYmenPzT5zu6fjsK+OPsZjKNEoVliwsJZ1QYJmwrGZWX0TkxHs08N5QgmsCw4NiLRAqeA3RoDS9XXCKzM4YL3DlmQXO4LDvhR+nzjjueTVV3lYj81kMSgJ+oXlZ8+KO5vZWnzjU6m8dai0yrE3tbYFAyrGpubWj3Sea1mRiVmvQ/I/3XubWyFwYzljPoEDwBzp8rU3NxoafehOeCcSdjmJ2HGUDhgsbc1DMQ/EAisbklKg0OWwcNg4bh43DxmHjsHHYOGz+P2wS/P1+0oj33fQhWFuM8W8w83MC0lcixmDmaEdiqW8R/nqcPONikEtiMbmXwcTJI496akeaGNIbNs/V6TG4VTZOnGq0uFIzi87iV3BazTQG6yYPP/jKmMf6Zr+q6W8d+mUMNI9WhizDMg1b77UdjTQWA572YKssmcUKo6MWHxVs1KG4F8WzKNagWItiHYrnUDyPYj2KvtFBXTcDNPtmgObYCJqC6rcPr99mvC024w3YjLfNZry61KJtzIeNeFtsxhuwGW+bzXh1KZI25sNGvC024w3YjLftxvESoxwPo/6feYNw2DhsHDYOG4eNw8Zh47Bx2Dhs/qWzrL8AAAD//wMA4JjVATkmAAA=", Robot.class))
+                Pair.of("opt", Codec.decodeRobot("U1IBAgAIAAgEfwz8CAgICAEAB2RlZmF1bHQAAAAAAABAv/IRzfb3znZACawmAEB4aj/vUmzpDG3PQBBtBUJ9Ak6/6je4hc9Lbb/yYkaVIRLEQBLzQ7o32Va/8MQp2S+D6b/7ooBHN1t+P/8MBH+erhs/uzWOcFSafz/ed4t9YaUHP+1vH+wtQ7M/8SVMiW8mEz/69gmkrU+7v/NtZQ6Lab4/9NdGXY6DnsAIzzdQn50oP/IZcbbH6GA/8uHHmZx6kT/8rFEGziwZv/PFNGwWqOS/7XJRoiESMEAIc8RiVTE6QAz3xqiOJlNAADs5vsTAmD/zqL46tms7P/ZVJllMFGE/sewf9aZkUj/sZ/50qXcEP/ffaORBV14//T/e+mOY7j/v1eEcPMGev/mMYwcRpyRAB8iqzVFPCL/gJfnMbG7+QAa4nSmTLMJAAMNtch2qKr/q7MkctnlHv+VdGpiCDEhAB7CxT+XSREAGiF6Tge8dP/s39LzLG3c/9mKdzcVzWr/+EEPZ4VJpQAF/1LBF6IE/7i1OeGq8Bb/ioFPQuBk4v+PfprCylsFAD/17pXYTzD+3CHWBiYOMQAW6UkXQLZg/iqXKZfA8w7/do2hauCTOwAJXUPUEJXu/2iejr8cQuEAE39Mfa7+VQAFtt7hwWG+/6pMeQtxKfT/8BoakkFX6wA6zkB97rPU//jx1tn3VyD/wBKG9mfvNP+EpokJiJbY=")),
+                Pair.of("random", Codec.decodeRobot("U1IBAgAUABQAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAACDAcQfwfQEAB2RlZmF1bHQAAAAAAAGQP/0KEDEWejRAB7RnKKorqEAYg7FADTvxv+4JxpYr8Oy/8/WV1ZiEZz/2c4UI456MQA/TqKz6lLO/33MfPvjVjT/tTSKpD7JaQBEDqRvSj6fAAkNTDoRlTb/zghnpK5SOP/PuqpQOJUtABbnFKiNfQkAAUL4kgyOjv9+DuFlGb7W/h5MV+oNGoD/+f8Tl73TxwBO1qvj6N5o/+KrskqhYqT/5pf2xLQrov7vkxe/qGezAGod4VXfCLsAGIB+KmIMCwAnavsco6rtAIQuiqhf3Ub/xjnQJrZs6v+OMEijnxkg/wb+v31ND0kAbVVW+JxXGv+55K97l96BAA7UmdoyHgz/zioGs10APQBZSkOjA3kdAG6zrZJXHaL/Lo4zuEBu+P/Y9Ccq0LFFAEgCu1v3C10AcJDdOXMJUwAAoOLIWgDw/9ecmdGXhh0AP0SyLlwdOwBC8uCJgVtXABS766MQdMkAG9uBhSLS9QAQVgtUD6f5ABOUPYdS7RcABdDvoi3d+QBXrfwnXmOLAGZQJhOKywb+eoCf39G2WP+SlUKX+Y7pACzK5SSFtZb/yE33JOZ5HwAH2XibNZlRAFUB7te9P8UAQKWTYtOPhP/NntfVAORTAEyjYCzUZh0AC3346F20fv4Mj8q0fjUBAC76VKW8sET/nOlTz3Ig+P/AmBpPFQwVAFRcqRZULvL/2S4jsGw/rP+SVn5zP2f8/7fmbYhdBRj/Emm12Ni6JwAWF1UAa8+xAFn+jdK43d8AJH8Rrdw24v+I/uq7Vxxi/+KZUN0Rl3D/isLO8+gK0P7k1YG9eVqxACLNN93V7S7/tRZG1NiHCP+poSEwJROQ/4uDVS3yKbMAL9qs2OxYhQAS3G5xIhrBAE8e51IzKwkAGZx7M/cDpQAd5Fi7JNmhADDLWHTFijr/2qCtJ8w5bQAee4V98PGhAAUOCHOo3q8AGgIzgo+3Jv/oCCkxSfSZAATduQgg/f7/5G4SwtPX4QBOb6k66zerADPyulc+zNMANsU3Z9mxZQBM+h0phegbACDSRrg22tcAfUVZn/cikwCRRSabIagA/3F2ZyydJhL/rLSj5M14QwB0uPyhF/+2/75ePJQAaG8AVmTtg7NJ1v+CYkZYWbj+/5stR7EBJzz/jl3kH4QvqP9beIHfV8zJAEgopWeUIakAXHIQjQe1hQAnofoEl+gzAIEJsrKED/0ABublRnZsAwA5saSCAHum/+d+2aYoE0b/qOg1D71GFP/eb6zqy7/G/9zN+DTTOskAU3PcnlRIOQBtlqSUy9TFAA963cdSAGMAR6YH0m3cawBjC6+ek1vXACCQ0bCBkUT/r/5f0vbBiP/WZxbogw60/04E4ivI5eD/3DaJIQ2zAv/f0u+iA55NAF/AYr2Cw/8AJTAnL2uRywB8aolDzjFK//oQ9vwS77D/z9sZ8Y5CiQADd7gvIyuHAClRwTEy08D/3QndMgXZFP/UVhRyaLk5AExMdE2NEeT+wgHc92H/lwANuSeisU1Q/8cMhblztkEAZmRDQL5GVv/h1uxlZQV0/8UJ0EUr9BkAEb3ZVUIQIP+BtGTNIcia/9j9e0vemcj/kmcMAr8psP/q7q5aFms+/8sHbsu9Cjb/ZyOwtbCfkQA/y7JiEGtm/8vDqRpjU6r/0gbkHLBEsQA6qH9sC6AlADBF3pqH8R8AKuv3CTWm+v/am0tBFMg7AEnZdV7XbYD/32O2aDDXTwAaHqECcUxFAFyU5FBOpvb/5EPrE8z0jQAagPvb9Ki5ABImn18qxQ0AANtJkTziZv6SEpHU+tHjADb7SNChOML/jFQDxkWvmQBFCU3Hh77y/60gAf3znqMAGmwpyiuRiwAK9mcCAGqi/+6eR/S7V1cANX4OPURZpP/OSBiclSXTAAEmdKQLDOz/ecyVT/LzTQAZimFEdekq/zRJ0NYDM+b/8r997d1Y4wAwNZtmVhoq/+ZTGhKklqUAOixAfGAscP+OoSkw/AIFADG2of1gafEAPTrIU4tMAP+dh6fEk+TpAEl7JqtC9Jj/75ewqykuWP/VownDNw9hAFQKkkqj/ND/8bSY5bs9jv+4zFEBJECg/8ynGqejuLUADOdAvCrjWwArLPZij7rXAF7xyTcLhCr/1Z5uuNWEdv/N0BEuEF7PABqC2eTAC3MARsLrFgEksQA2CXvsQoqHAEpU/domJgEAcDiKV+7i4QBp2cLyhGVrAGzrM/g7JWL+km5pUKmpIQBHeCscZX5fADaTSaIx6wL/ynV1LlGBywAe40Rt7Z/5AH70PmMxQkcAmFT70KRstwBJvNE4iP+JAHVMc2Hu3qkASdPZkI5axwAorruDbnsdAEFaMnvFc8EAWHgOT4XzYwAsQi/ogPepADFCy0z5Un0ADxw1Q2gc/v/miiDsRAU3AA/FJd2piQkAJsF8422KvwBPdWxMJS4s/1RpFE9Lt7T/1L7dChDTTQA8eY7pc1by/8xBkSJabHr/jx+Tp6O1mv+T4fL8U6eBAArBAo2iZIL/n0QJ6AL+MwAEDXqdVePNAEe9TtxMmi8APVyKayxunv4XI7YkZSTA/5cZwQsbyJkAYQgJ85r0VwBBOF7EeYU+//EscNmiIFkAYxDxty2GIP/U2jZ5yHgDAEJq0Lsh408AWV5NK+fosP+BsZwDrHFRAApgKQz0LgcARMYTJdativ/n7vC+/jw5AG/gQV/UOAkAQVNOxov+qP+wmcobcS2nAAWYVVsg2Hr/gwKsmbWpOwArZLLbgq4VAGZU4t/gVPb/0MJQm4cN6QCCIH418FshAFJxcF+J22D/8GuwMJMh7wBQkcng84szAFMEXURstM8ANlgpm6E/sv9j6zujxMnvAFMRtAEvDpkAUmVJ004JQwAd2ZMxops/AFpckeGAdwj/3bVc8ZwQVP7iU80wNVohAD7KKMGLwaUAYZu8+EFiPv+PedXVzfrw/6QXWpxOKOcACzJZ891xrv/WfEze2FOlABJCdOUKTYUAQm0WvHG91v/MVGpThT0/AAgqHoigN1kAKwVCLWl1uP7Ze8jrkmcxAGmgg3reLG0ATs6wrRj8QwAaRkWIOSk0/vMEermdr0EANlZkyaOgSwBkLHOsyjzg/+o5+UnGHJT/5paV8JsBhv/LDM9aadV8/+bYghvzP7kASdzk5wND6QBdPMRALxZi/2ghFNjM3DL/9zhy/P/x0P/uJGOe/jjBAAWycPesfyL/4wIH+qJPyP/8V6dPC4fI/9Lcwg64nPj/TpUOOatVrP9CmMaCwkF3ACyfzqPjVM0AJ4VbvFu58QAMKhkYUo3hAFo/0Vfl+n0AEDGTbIKMywAYhTy6ou0S/9k/eTorYakARaOg7ykwgwBGSllcAGEHAAHOfSUCbZMAUW9M2cRIQwAuaK8mQFtZADymtaXNJrb/5Qn2F2zXEQBG4K/FGcJhADEA4TffxvL/u11ddsR5IQASo0/6MTzLAF+jqj1DWaz/6XghzTDWmv9mlFKthUalAEZrknaLDu0AAWnl28JaJwA3ea5ZL7Ti/vYtX2R/3XD/mCfDNMxhTP+auboc3bTjAEkkxy828b8AEM0rRiOfUwBvOg6rQasG/4+Dni0u/I0AKRTyt9OnWQAVHvva9lvfADIbn2+0UNT/CRos4Xtzav9h7XKuEKTJACPDT9Q413T/TbgD4EjkQP/zF3/K4qNBADgsC73P3SMAYGSMBqfk8QBqa/2DY0BTABEe8RVQmpD/z8/+RdYn6QAPftbAW8anABHMgxdYmcz/0tH7R+oGzP/Cv8WJop5ZAEhkosSzC0cAQFgmWBTqNv20myHmPJ4C/5hUwqLRmtMAiiQ8kcO0twAj5WanPgtk/5fKZYyDK4sAaNy0Mhq2qP/mWXkfWnAA/vSCQSo4MwD/VMN52XJ9kv/55olgZlnpAGiKJymTr90ATI9d1ziljP+lQmUz5QmC/8OOZFNdYHr/y9Ed4Jvxqv+Iv0mzN+eI/+k6NyMqYpkAPpjmP+/fQQA3JMeGLpSm/61A0RyIecj/4f3yM1OEFQApvz6fMFrq/05JTtISucsAGnworSm69wBcRVZjXbD2/ysSEk7c3KEAOWe99XiuGwBerjqMVSHy/9FnOmD3b9j/bi86hvA4qwAwDynNZHm6/11u/MXK5wj/lL6vvuht9v+znb4dBnVS/1kevTQ1kx0AC2AvM7fWvP/KQlU5bd9dAApMgVMabukAQxDmtJmSzwA38qVKFK8U//M+sTdxdWr/gPW49qmn3QBAS8F12I2U=")),
+                Pair.of("box", Codec.decodeRobot("U1IBAgAFAAT//w8BAAdkZWZhdWx0AAAAAAAAFD/Fm4lgk9VHQAMp9zglxi9AE1HVr59b7D/wAiOgTI8yQAl9nmKjXUxAE65uo3RYNr/0lIqK1l4HP+iAv6hGFIs/7AikoIbvaT/7QlnnBm5oP/3rbfYXug2/hh24NjGIo7+d29qU3918P4n3Diyq7N8/lx4ayzdVJ0ARdVXgctLav+4ajp6e+hrAAAhh/dRt+L//jzqKPLwAv+/NMBcKQtA="))
         );
 
         List<Pair<String, Robot<? extends Voxel>>> phasejumpRobots = List.of(
-                Pair.of("opt", it.units.erallab.Utils.safelyDeserialize("H4sIAAAAAAAAAOyaC3ATxxmA10K2ZDs4+AFOOnUhQQ14prFKTCjgBFnVyYngYlPLUQMMNifpJJ99Ol1Pd0I0Ca2TAScQXpooFRGYiBAaQjJ51NAhkxbzSCg0BAp0gkk7BbeZFBq30Dw7kLS3d3uSbBMcOqtkkvhmvNr/33+//9/X7WrlZ/tBbkgANzNilcQxYqiKFiiWpdxVrYGQEHQHZY0nKNBVQXcb7ZGFRqg7sKjfUjj+9Yd0QEeCAk+QE4Ugy9KCCKaTjGhWQGYEMqdAZggyp61DZlsqX0OCvHAwQrMhEdx0JYYkMqz5DoHx1kR4Oe4Zw8Wd4a6qiQnQdRLnEZkgF9r6zNRbXlnbf1gHckiQ79PUPwFLgU5Bm66AhlFUwSj25k8cZ512YIcOjHKAnFb5bzEJdKLcijFkGxWm1HhJJiTK8QIAjPBPhpfCQhVjFQRqCbSIdByrWH+A2jgK5DiAPsT8lFaq1C7Ww1SudINSiaU4fxXDhYPtdJWTFhiKlS29JBVwe6kgdfTR71VOW6YDBQ5QxAR49i5abA165zCcdwG4xkPxoiTQXqvglyMsXaCGCIHmBmV85WEoUo0Yzm9jqZBsVpxhpahko+u0/qJYByfSgo/y0Mi8JMPcKUKObF9xGXs1snoqQMM+LyLBjZ9p5GT8HAUjR5b5sGWKP6TIaGoGsDStHUwYx3AhkeJEhhJpr2rStIRXS5Vez5MErYPUHkcdtPaNezaNCVWyOgAUO70SQv6AcRqTrkUEJTdL//xXe2dXtl/Uy3ONALlhipXoyACzeingpoXlz8YqCh89vVJh1xrLC6795bmDCr/Ucpa80CHde6Mq7d4280hXy3JNOpPcseFHniiS9vhP7rv28BlV6hk9XvzZ7H3HEeWDw33nfmiYoEq1eVMmLd148mlU9qcJjP711lsQ5VxJ89E1c59B0n+7pd3Nf9uCpA9zyhbHHp6DpP0TQcc60I2k89XT5qyYuA9JD0Z7Eoa+bcifbnbz3K09tyN/Fz+mv7+euBdZXvhrsr27fDIquzDjz/zMT85oba/8C/92y3pEMRy8/sFZ4VIk6VfM8r1MzUOS8bk7H7A5V2llxN2eI/ZOJF3TdNL8R7sRSWDzrGXPL3gBeTi2emOobUUCSSean6pYx6KoLXt6Oy+cyj+B6o1q2F928OO9qOzNx27//fFDjUj6tOWsnoge0rx/S7rYvfMHWtRTK3o95G+RNLa4IL55+2GN8lJNb82qcUh6L8q/1HNoPOqXd1eeNp5tNqPRBHte1e2c24vK/l176f45j63V2n5q0ZFw5/uI8p/y/i2u+Z9o0vZfJzu3a7Pg8fD+S44kgaRdY6Xlm7a1I+mjrfcZ36r7UKvXZze8vU6zPH39xveK+gzarLthpmSr47Wxfa1odvXCd5CUSzON+xeakJQ/458TbtuEZpbl3R1P/f3Sws3auN933Wvu99Go9OSRp9r7X2zQ+rq3W8pfrY1m/pMvkL/YXY7q/WOzqaNYsCPpzRdPOFf7JyEPb5w+kdzl8SPpVX/Z+O/snY6kf91vfdla7kT1Pn2nzRbwMVqL6nfeFttQHZGXcHF6bcJ3kZ8WSvqe2PJRR+d0HXw7ozUMq5XJix7AjEuh5KVe8oPeC/zn2q60bVbbGSn57eGC++IHG1p+913Hnd+Wt1wCGANUpC4oeGgSFPrgp/oGE8Edw26/yIF5iANTXRpUE7mKE4FS+zeGyJbzixpe0YHRBCimBJpqpORX+V1UhKBZkZJD9gmM8nKfD8pYJsCISgCUoqpjKT8B9AH5fU6AEvhh5fwSSwkEFeDlDWQ+KIZKmxwuE0rZKzqS4eiUHQFKoc7JeGmS5vxiqxIDAQoFOiQyogR9EaAglCongCHEwy2KSOXqSFCi5pweyucLsl45CzfLjO3czkkBJw13dMtRoDy189TPHMt5NaN9pjKW49XKY9m1Hj6P1xoH6msnqDI8eKTPBsiTSdvnYXu4uUIwsiTXcPytcNOhPyhHsEKapQM0J2pb2OgFwIhUcAPP3OchUQ48LADLVQ2wyTm4U1ADQYm8WwmgKL1goIvMQl7eSoszt1IlhqdXnbu5+pg5ntpIl8LIKRGMdjoIe4v9niZ7Y72VHKh11A/UFihaW2OD05kytNnrmxqtpKrVBmapAOz/99rLXBqZDYMe3SIwEg5nk7XeZufho6z7efgnBsQu0nBQCI54GvH0ZXn6mk50fmQJj3j6smfgFz3dRxxidhiRT1eThpw20pddDbwon4DVwxxIPxFeBFOHu/pKnQTlw4l2lyWCXIrn2SUiuGny0CudyqEqEYY3yM/lwxPBWFa5WTIJEme6lb5VftxTTFNE8MDkwRdcGX7Qd6bLqj7X5V5GRfUKZUAzkGpQez/bUBn+QgBvdWBujJzTw0yJUnA3nArKNziY/Bgmy2CyHCadMHkIJg/DZAVMVsLkkeGhumxAR2UDqs8GNDcb0LxsQA0YoSnUGny8NZh5Ucy8GGZeHDMvgZnXhZmXxMxzpQYZ4/zDyIti5sUw8+KYeQnMvC7MvCRmnis1KBjnH0ZeFDMvhpkXx8xLYOZ1YeYlMfNcqU7EOP8w8qKYeTHMvDhmXgIzrwszL4mZ50o1GuP8w8iLYubFMPPimHkJzLwuzLwkZp4rFSTG+YeRF8XMi2HmxTHzEph5XZh5Scw8VwqKcf5h5EUx82KYeXHMvARmXhdmXvLqeZFh/9sCarJw5atwm2HiUVri1Vrig0krTNpgwg69h87iLXTO2C/q94oRTyOerujpazrRs/5D0jdgaox4+sosrOz/cPqNdBj5HwAAAP//AwCQsv42cDEAAA==", Robot.class)),
-                Pair.of("random", it.units.erallab.Utils.safelyDeserialize("H4sIAAAAAAAAAOzdCVQT194A8CESCEQigSBIG42CSGokGglGowYEoSigBVSUVgwQITYJGAKitbb66la16qv7vqCoj7qiRUGD4F5XsCouFbHuUgGVRUQ/Jrl/1Pa91+c7f77T7zvkHIfcmTu/+587d5kl55hVTjFT9FQ3tcErVac2pHip9EqNRhnrlahN0SfFJjWuiUvSq7ySYsep4hoT4fS642PKFewOp2cxKEYIZRuXpDPokzQald5AyULUBrEJEhNI3ASJaUj8JneK2L/puzyEskpLSldpUgyUx78zUg1qjThIr46Xpyc3xt37z+J+qzivSLVWFZiqizOok3Qpm7d5S/IWlJ9hUBYhlM1YWD2emkIxTLT7v6HpKLzoKAps3Nr6+Rzfy6BaBVMWiY3/JoRQDEPjUdiHjFOmKc3xhqhTDI3xUhTFo/814o70RjPjp9crJ9I50qcW8ZcfV65uRVkEU5Yp6kkqeheLBRMs6WXjTh1NO2mUugQvtS4t6XOVV4RKr1ZqGnPGhyi1sfHKJOX5RSKhz3QGZRtMcdTaZE2oypCYFD9YrYuPplrHKZMNqXpVvJ8+oTFCx2hziDQoHmI6v42ngWPOpNYl+GuUKY3ZuG/lMq1qzOQC9aXUBOsMKv1YZZyKZHd4K3uEgXYa8/P/SX5zZGFKrYquc04I1elfZopQJ+iUdOQkpw19ZKbyyIq3DvUt0PHN2t8LbdW6FINSZ1ArDap4c5bIicnmraYTZZWqhwoy1zipoAVno9bapwg1DIoy5bM0hWDzznmyf7NXQFJqrEb19Z6CQcLP6y0b21oAxUxTalJV6e9kC0vVxqr0M7IW89mLSueYbIWxZP68u3x7k++oqBs6ouDs/mUkVS4fcVJR1dacMha1c+w91ecg2XaL+wNVz2sgqSfT+yff+/VHkvP+hMIeK4etI6kbrfM6fzVlkjmVT2333rBTS3L6fljUitF1RleS4hZ9WCO1DSX7XemV+Xl639lkm4W70+R5fvkkxeRYHbdMzSal19iumdxt2HmSen5h6YuCoG0kJ0tH1fRe6k223ew19eOVM9eT1E677Rq7NtdJqnpng+Pt+khSeq11WMJXj5xI6uXl8z5Ht1QQkzPQ9gzjRjBJ2W18cXr2eoglR1nGuji/FqJ+VvlgqNVlopRnf/DF7Cwrss2Fuk4FfnKf7PdoZ4Nt+LpXsN/2wcfsJ3uROmPdXzZ6yQLYj1oYIaiOeAF11r3dsn5jBxHlpeegyOzsfaS8OzVp3SyqT5FtF+c5P0nz/45sO6fzeeFy82uy7Vy9oGTeHHdi2kgKeverDYP6/CJ/784JN8l+G3ZuntstyZfktEpMLxuhmUJyzvHa+INNz0QSdWvLUesH/Z3UkvHgvpSzxq1zyTaGTdDwxFkOZL97U9jZrFFQwgXx7tmFSeT8GatdbKZHHz9A9mvjPfjntKQrJGUt5OwY3ns/UarWnHhUeiwGznufSdXXoF0b748qaGuVQ5H9LGMqF01L0JD96g8VdBhpFwM1aKi6lqL4maSeOYRfGuO3Cup6bhJ/zrPXxKzbPXTVy85WEEuYxLOayiHbjlV6v+i8aBzZZr+ngJp5ZwMxy77Odbd6tgbOUbL1kREVHhD1S/beJ136Qis4sU6XtT+dpBytd6/rr51A9tvr8LT7jNaOxKy0fFJmscoa2tkPvQ/2LiWlGy9LlyVu/+QEyfna6sVkh7RFcG5Df7pkp6iG1Pqt4lNrRpLyLPfPO9dwYQxRnknndt28bgVJGdV7HDNc4YzpAxN8yr/+GOLMzHve+dL3ZFt+fsAzXh2fbGsVxni8qaYSjn1LVq8sb9LqjHc/youPFhwmdWbhsmhkFxcujBonnA16z1wS5zL7im9zz0VB6yn7bum1ezBO2FduyLgbCEdb7e+X+Il/OElVHP7lYr9ej0l5VZNubLGd60K2NTguPOv5A4xgtbmVwvp+0MdsziiDrNIvklhaze+8o6xnONTSMe+7+fLWMC7NcOxw8Vc1SbW9W36H0zcNtvGuz7hkjCcpxvbCul19YdR40K6T3/OrtqT015II38ibm8m2p9drn7Q7Op3s5/R1jedGlzPQjy6vOheVakNybvUMXPLbJNKujRdTP7L4h9PnZD/rvd8PWZcbCrXUrXWethRq4sl5ZyrjQh8Y67ZMFpXkPITewXGqObL/Ntl26/PCse2GFpPU82MJg6Lbw4h5M3F/bodcGFFKArhOsf2+JdtejLzSL9CyPdl2v1NyKb/3DLKtpsu1cydUJSR1rf7H8E26ZBj5Etaf6jOatEjFz/ckYVw/0iIVN/5exJatlUFPlXY77WEHJeQM2NSr7m9VJHX+leWS71d1JCXMvFtyL3/CArLt2uPL4bfuPoRxQsvx8ut4l9SSrXLgyXjGNZKz8LeP7KVd86CPLTt6efo90s58eWVVyedidkOrywsZn/kjtM89dZzSYhbMsE+3e0eo792HfrSy4IulmaTnGMv69qzo5LEBesC4eQ0JV5ZBLTm2EYc2QK+qcwkdU6HfAnU2du7aw9n3oa8cP8R6sfZDOAbvLdFMmEUVW/N8Q/sNJq1c8Wqbg58uD+ZiG/UgdXQZ2c945KurIbdzfEjqFav/+bFW46HVuQWefJkGs3a7yoxOh9uSnIpbi4/vHhdI2rVx6ZpFtfc+6w4j0dzvblyvCCGpB7uOD3fxhjZ/uu+kX1J9BsAcVzxylF/WXDi3nNYL+62wh/Flq2hYYUYAicWhx7Ukqzm/Qa/69NiqwiFMaJ9HovtXML+B0fQUN7etLYlFUb7454tbXgfAuDQgYk33QXFNY0iFgD2aC9vqlNkC21bEvDLknGFefQXMR7K0zjP8XsAYMuUTJzf3L0Ep/0x4cq6B7Hf+UPx6yyUCkvPF5EnLbt3pCaN3++o17ccfhfFlfHJR+iSYj35ddqDug+nWMKIM1xZsOgD1Utp+WKczfWEGYodFDT579SbMMjP1o+oiSbvOZ4bbieqb+uavu5c+L/3oFkldWhk607qmE4mzobvv3s6njpFth2/MXh0vgv7A/CBrspPlbzBqTP9l0IOfRpDUgaoOh7dGkREl37qPPLb6U2hLlUHuFd+yYGytkm5a1X9yL5K6fvMjtr8czhFv26yrw+VnYLTpGNKadeYi9M0tOV9m9X8AOYcLZ80eagujlOThFtdTZGZW1C1e1Xr9TwpoL6GfTTzRLwdaiEayPj4wEHrHo7Ivoxo8yX5P1qw8NpQi9al4vsS4dMaaX6BFHowd1P3QCBjdyhf2a7/PFY7vTHHixD71UPP2fp6M0UVkP24bhQ9jth7a4JNdXY/YPoKWldWh5E6dE9Ru6tkJOwedhHmluM+cymJog3aruyysPScD5ejmO+VamEWrR6ufiWeRGSjfZv4P027bNvXwYdlpYXcPwDE8m5A9g0VmPOPdkwU+vFZw5fjTk8G2PpEJ0DsW7cldVBUAZ2z3jFR2XSlJPe643Kvku+Uk9beFrbiFA3yh96/Im/bwSBLZ9ow732b2cnLFqfjte3a8Y0cSteLe4fGPf4xiQXsRd+VER8Ac3nr7lqyaHcNJysWnTXbaSDey3+2M/MSqa3tJCWdmxhxJjITRpvZ0JePOSTIfKY5mfCtz2+YPY4hsXXlDNcy3j7Y9c4iYAv2oWii76hDcH85DZu7M/CBy9evLOtcxNOA2uSrx/dB9kHWGGxOOIT53WLcvoJbqNmmdgnYEQ+spma8u+jEDxoKi7aec50Bkr8uqKz+6AjX4OjPMaHPgPJzp+VX9Zy12gBGscIXv4GiY8c4PyfitgfqEbNuTk3vAcASuJ6jRRwUPh5DrLMWFy8MuFvoyofe3HWMzp6oOeo6XctUPzFHQkhevG8IcqILWGlfyuk0O6R2KGv2es6M/h8iozM6JzBcqGHu+uyLShsJ1q93H2r1ONdDmLawK1pZWjiVxnpi2Y2VVQTeo3biedqsbSAvxtZo4WDXX8jUoh6eur52khRlhbP+b/NrBpLyra7uvvdsDRrDS1bsL5qbDnFosL/CZv3gf9PDgMflBgnswV628/vGpTiRlvMi8mBVZTEG7Ph119bk8E/bbuY7hXcaD/TKWbO7XGY7d6jVPJOkJ7ZMaVabrWQPXWeXquqEOejg+i2l/Dzqs2QMlfKZtd2pnZxil+k7or3RKhxaZEcCccpb093zO8akXVgXCiHLUftqHZzcIoLy0l+PmD4XZt1X6I0OvrYeh9aTGqe++guN7uHH7Mi93Bkld+3LODWnTlYBgcla5R0kPGHvaPhywKovEYsyPqd11IAxmUUfPcfOWjoN7WCqmT/SNptmJurS8/NND5ErHWF8wtORa2n6YnQpK63LWw+jGPna5YbILE87tTe2zXb4bYXSL3NBpow1pu4qKNOtPZ+Q8JanKl21jds48R0p4mutUvNmGbDPWHJt3p8ts0qvybQ/sHTrgPlzJ3a8ftT4rxwLGicrnr3sUukD/22TzaZSYjAX5rOqSQ8nXyahoLM1Zmd8/cwvEWRWkLOJcgWPvkPvo4cKdUGd7j5Yc10Lt1rV/3sYrXQc1aD8p8dwmKM/ZJijNrf06GIW7R1D528h9sfHRbsvYS23KSepesD4uRmgJNXE/tcfGSbOIYqOMGrQ8C0ooyc0uX9/hCMn5Ms9H4t97JZyH7aclj3IyoJaop/8Y5S6COS7Q8tXVO22gJmI3NGzYS+4KFE+7yaJXi5xJaqNLQHWQA+kdvtYHK6qj/iGGkSG8zeis8eRqRlFXfeW07+w1ML5Y5Dz8YAc8HWl1pKaPxWNyVvKt+hziX15QQ/Z78OyXGPtem0jONtyiso59t5KoX62KmVdj7Qql3woe/sVKqAmGTVWx/b6u0ObZV/1Wr4b7joZvUj7rfhfurn9scA+rq4FjsKpdcm9FHKldY84Xd71jF0Gv+iAiKftBJqklY8WsAk//faNJqrBN56dCGcybPE9RhkAB87TN5cwlriFtoSUr/lb78iDcb748W1/4dBHcTxedLX1amANPeCqGpA+9rSqDOcfzzHTp1RI4vqIuOVdmkHs844WB8qBvrOG5xvHveTlbs2HMeu6YcC1s01fQyhWD7T4+C1ecFlGPd3gegvPgsHy9Vn71PLQ666Ufdr8Dz7Pq2C9jLr2Gq9EzLrt2R52Fu1bHb3rtr2u/DNpLyKsemZnd4Wg33tdmFw6BnuqyZHdoSTuSOjkwbkWGik1SDV2z0reevw79iCeIf6Ig17TGF4WXryTUbobW86RcG34Bnvc8uFfasP8OuefKt69Rf98psallfR12VCOAu8GS8WtHCJrGSKtoz7xe3rEwathHd3FnknsS39aSr346KIe2WxXneydcNwNG4br0I73uwMjH96/NeiqRwFnZNqUiYHwdtE//D+J9Ijyg31b2SH3iDldr9tMUA5Mq4br1+cIbfis7DYf2Oc6JO+ThRHJEbO/UbL+Gb2GW6Vx0Yvl3PKh5SevB3f1g3jz14qXf69XwxKWseLr79INwJe5cejWUqyNtQvF8yrDJUzNq4WwOyFxepApPT9FT3DfPfuln3QkqvUPZuoyaqTNlDPrpP3lGTO9GvzGgGr9YmM+KVdNLBDr11nPn5P+1z3/y2gVeF8EbHmWsRjWcfr/zfFXMic7BH3/IoBgBFEurTA9M0sepQij2WPqv+Um8gQr609dIpADxHwpwD3wDydPf482Wae+D1ukZFWOG5DEouwCKq9SrlOFKgzopVJkeoNIYlI0hj9WrTS8pRlE8jVqrNpgCUJpWBWqUCQGUpVaZkhJAOdB//HQJqRqlPkCpTVbrEkZRXHqlf2O46pSm/KZ1IWqdqilfAOVIr4tQx6tCVLoEQ6IphgCKrVelGNSGVLqsAMo2pWl7AGWdkky/aglo+hYYQjmYv0XEKceOTdLEN36lX/q89VpqoC5VG6Gi30wpzlOmj+9I818LRYX5C/xt+qIo7mn6KPYvpz8rfFnvrvcVmNP0C7Q377hISe7wvoo+Ht1QfVL6RKZ18bW0yFMXTK8S2SqNSqvSGeBVjF00xSKr6BdRb7+vosXGwNP0lOK9TrB7xO8rhRwg5UBRjc2F86Zj0kW8vTE5VQ8xvMkg3zLvYbeeReJlTS+EptCddZeBsosIDhgYMzAqcmB4mF/Iu2uDw95da2ta6x8+JCKiKaP/wLDIcL8Q81o4MVP01MD/uu+93TXePjC6xN0GihUQHBHpF+Y/kB5aLLY2Q5ug3e30Yk8qvcymq4v+so9e5NCLA/QiD4qkE8a/VjS/Hwv/UsG1RPN/JZqWZtQSDX4zamlH71FXLZX1PpXVUlsttfX/Mpr3uPH9K3zSG+94uvzhDuDNDymHJBsa70rNN1jUm096soHy/rOfVTbdnTXeMMDvJA0UU5mcrJlooDw8//hzQeEfVxno8H5Xzj8Pz0A5aUy/WnTXp+rcpSpp4ye2h3sPAzXN8/c/nnyrHPK85J+u+o9+OPrWjuaf571zGGTV7473X2c0PYdhU/QvBulv9qTRUaYXRRab6JZNf9lMLzLpRT29eEkvGujFK3rxunHBoNsjg87MYPw5ymgOtFVzoJbNgTKbA7VqDtS6OVBWc6A2zYHaNgfKbg60dXOgds2BcpoDbdMcqH1zoNzmQB2aA3VERIFiMNE8E4XpsZA9NrLHQfa4yB4P2XNG9lyRPT6yJ0D23JA9D2RPiOyJkD0xsidB9qTIngzZk+N65vmDhRcfE9ljIXtsZI+D7HGRPR6y54zsuSJ7fGRPgOy5IXseyJ4Q2RMhe2JkT4LsSZE9GbInx/XM8wcbLz4mssdC9tjIHgfZ4yJ7PGTPGdlzRfb4yJ4A2XND9jyQPSGyJ0L2xMieBNmTInsyZE+O65nnDw5efExkj4XssZE9DrLHRfZ4yJ4zsueK7PGRPQGy54bseSB7QmRPhOyJkT0JsidF9mTInhzXM88fXLz4mMgeC9ljI3scZI+L7PGQPWdkzxXZ4yN7AmTPDdnzQPaEyJ4I2RMjexJkT4rsyZA9Oa5nnj94ePExkT0WssdG9jjIHhfZ4yF7zsieK7LHR/YEyJ4bsueB7AmRPRGyJ0b2JMieFNmTIXtyXM88fzjjxcdE9ljIHhvZ4yB7XGSPh+w5I3uuyB4f2RMge27IngeyJ0T2RMieGNmTIHtSZE+G7MlxPfP84YoXHxPZYyF7bGSPg+xxkT0esueM7Lkie3xkT4DsuSF7HsieENkTIXtiZE+C7EmRPRmyJ8f1zPMHHy8+JrLHQvbYyB4H2eMiezxkzxnZc0X2+MieANlzQ/Y8kD0hsidC9sTIngTZkyJ7MmRPjuuZ5w8BXnxMZI+F7LGRPQ6yx0X2eMieM7LniuzxkT0BsueG7Hkge0JkT4TsiZE9CbInRfZkyJ4c1zPPH2548TGRPRayx0b2OMgeF9njIXvOyJ4rssdH9gTInhuy54HsCZE9EbInRvYkyJ4U2ZMhe3Jczzx/eODFx0T2WMgeG9njIHtcZI+H7Dkje67IHh/ZEyB7bsieB7InRPZEyJ4Y2ZMge1JkT4bsyXE98/whxIuPieyxkD02ssdB9rjIHg/Zc0b2XJE9PrInQPbckD0PZE+I7ImQPTGyJ0H2pMieDNmT43rm+UOEFx8T2WMhe2xkj4PscZE9HrLnjOy5Int8ZE+A7Lkhex7InhDZEyF7YmRPguxJkT0ZsifH9czzhxgvPiayx0L22MgeB9njIns8ZM8Z2XNF9vjIngDZc0P2PJA9IbInQvbEyJ4E2ZMiezJkT47rmecPCV58TGSPheyxkT0OssdF9njInjOy54rs8ZE9AbLnhux5IHtCZE+E7ImRPQmyJ0X2ZMieHNczzx9SvPiYyB4L2WMjexxkj4vs8ZA9Z2TPFdnjI3sCZM8N2fNA9oTIngjZEyN7EmRPiuzJkD05rmeeP2R48TGRPRayx0b2OMgeF9njIXvOyJ4rssdH9gTInhuy54HsCZE9EbInRvYkyJ4U2ZMhe3Jczzx/yPHiYyJ7LGSPjexxkD0ussdD9pyRPVdkj4/sCZA9N2TPA9kTInsiZE+M7EmQPSmyJ0P25O/vpZtAq0aGR/8zpWwoymLBBEt6+d//x/fv+6FLttiqOE+ZPr4jzX8tFBXmL/C36YuiuKfpo9i/nP6s8GW9u95XYE6b3O30Yg9dYxbZpMYs9tGLHHpxgF7kQZF0wtgSzb+OpuXEtUTT0oxaovlrRNMyj/z3ddVSWe9TWS211VJb/y+jeY+r9L/CJ/1/AAAA//8DAJviQVAEtQAA", Robot.class)),
-                Pair.of("box", it.units.erallab.Utils.safelyDeserialize("H4sIAAAAAAAAAOxYa2wUVRS+XVpou9D0JSGRBoEFaYXdlJcIxu1mZ4tbhha7GwWqwt3du9uB2Zl15k7ZklgpyitWixWNGKX8QINI4oNogkBAElOCSihEo/GPj5D4IpL4IMIf75mZfbQFKmaIJs4ke+aec8/9znfvmXt25h68iIpUBc0RqFuTBKq6iYJFEUfc7UlVkSMys0RlhbjlyDoSZUor2AbWXvQ6p3yy3YEcPCqNyhJVZFEkCkWLeIF6dCCPCeTJAnkAyJPzVj3+bHsJj8Z2yGkiqhTNvBGGRgXRs1QRYkvSKcb7ntF454Vzh4UkadSkKBVkSX39wPy5R3de/NSBCnhUEs+YH0NdyKFDu24ADSzcwOJkyfSJvoUD7znQmCAqaGe/DTxyUDaLcn4d7sAGX15QKeOLECpkP1jvKug0YHyKgjvBI919rmb3AH51DCoIokJV2Ej0IdUbYFA1GzRVHyRiKeEWpA55PXGHiCJgkXnGeJyMxLCMz+6aXbtwiwOVBlGZkEyJywltl2PLBCnWhsZHcYpqCon5lARjWNVmUARAT4ueX5aGMsNJkBJ+EavMrSLPSzcxp0mZ9cJiUKJEieMoMd0r89xDFHCYf801/A1mzThJYM3LeDTtuk4hISFhYG56lsDM9HimIW+qeYBVOetwhImCpFIsUQFTEjNcwp0po1df9bGaklkgY8XNBdp5ZmV/uVorOhAyEqpTKBmSp/LcKE7WIiLZdOhkU+36q4XsWeNQUQcWNZIe4tasJSNE2XrwhRrnrq+f1rG9J458/EbNd4/q+FXeVRuu9u/rfsDUjs2+8P6ed8+Y2k89z3ndWpehHf91/IzHew8fMvu+6L+9r/1Im6kdv4o+mzxlv6m9PSnZ3vDHakNrKB586PNA/AMT5fvDy36p/2al6Tn4zmBJ5M8rpnZ28LfyxNQ9pnZ6QHZ8GN1raj837eh/LfCmqV1ZMWng2W1NpvbD4qnbS6e/ZWqnBj96ZNPxA2a8C8+/GA74dmU8L9TPdM740tSmbTzqevjyiTRb2orcmsEzkiBK5bd7913u3rbIAbvGXFsYVs2SgaBRp6OMzW6+kfkatYhkil+mXmGW0wehWv3+yppTM4L3T2aFkEPFSZxulJUo4ZEzDnfjuaJo6ahF0QzgGRHA1ZgDWpK+iTqtjz42Lr3v0tqWow40gUMVWCG4FbMNthynOSJSzCjHFUHfcqtRtSgkBaoTwLqpUcQJDhUm2S7jUCXcfFJCE7HC4WSKbevVqAKMfkZXULP+uo0XJJL141AV2EJCjPBEStB2nQOHnApRqUA1iMWhUjXbz6FxagoKB5dtNfKo0miFojgel8UYa0IJyyuyAUlLhgjUWe9ZpF8Nq4x7gfeS0cjcsw3v+Xn65T28G66XG4qH2hvuMHT4O8hVbDOSK1N9YT7SCkVOdxaNO/9VR/j0oP7H6CQiSRKJZgrLhDZUbJqgrOZXX0BkxDsU5L2pBLtCwxfFnCCqZDVEQWW57QIh8jtTrMBV5Bc4ncP+Z36cM++c56VseesC5gsomhAKcoE1gZXhQGuzjx9qDTYPtZbqVn9rSyiUdfQHmsOtPt6wZhLTpaDAP957+Vsjf2IQcSFFxVwwFPY1+wP6hp9zC54JwJ0L4m4N5CJYLmgsBnEviPtANGRCguK32dhsbDY2G5uNzcZmY7Ox2fx/2KTZ+/2dI953c4dgLSnKvsGMzwmUu9IpiuaPdiSW/RZhr8eZMy6KinAqJXZSNHPWyKOe2pEmCvSGxbk2PYpuE/UTJ5eiSa4FZAG7IvWueoo2zxp+8JUXx/xmv6bpbx365Q00jlaGTMM0DZvv9R31NDoRnPZAqzyTxUq9oxYeFWjUgbgLxBMgNoHoBrEZxJMgngKxBcTW0UEdtwJ0zK0ALbQQNAu1wzq8HRbj9ViM12sxXp/FeHXZSVuYDwvxeizG67UYr89ivLosSQvzYSFej8V4vRbj9d08XnqU42HQ/zNvEDYbm43NxmZjs7HZ2GxsNjYbm82/dJb1FwAAAP//AwAtn1pHOSYAAA==", Robot.class))
+                Pair.of("opt", Codec.decodeRobot("U1IBAgAIAAgEfwz8CAgICAEAB2RlZmF1bHQAAAAAAABAQAgXCg+n6sk/6UzxgXV7Ir+pOs+eX4Yiv+GhtZxRY5K/wWfYww/N4cANH3R/SsPTP/XN4upCByBABjEnfp3YqD/cIGkEzGgyv+oSXtCPUKq//7R1v17kpL/2ARR3lYlLv8QjAIGRALS/8DM2S4ojw7+DksCbB+KpQAJKXlCmwD0/+/hlMJlEe7/x46FrtBcoP/E53XA6/eE/6SnfcOVfmUAHyRmDPnYTQASKPma6YVlACK1IgkNTjUAERFVjz0WHQAxU2C/VRQhAAKI+ha9bsD/Sjp1zaoqbP9RepR2RbKk/wdmH8doJ1EADT8QUyfjCP9eWPcvTylI//l/pBESSykAEGnX7tLY3QAc0HdljTL5AFREKmKKrzT/XsjvZO40WP/OScLLAyh+/7IvgCOleL8AAwcUCtlDZv/JA/H1LlpBACNpgz3aH9D/5F+2kVlr9P/mrt6GHq9M/mnbE/EmhRD+5FXWGn6lrP/emfAjbRvY/+eJFB+WRRD/gGZ3zDuIHv+EhOnVDRnBAAsYOSjNd50AFZWlSxF0kQAk57iA8nzI/7LWl6Pxdor/xfBjGYvQIwAZM2mvtsU9AA9m0dQmOjUAJo7BMl78Xv+uiJIERckW/17HUU45nJz/O4NShuWNnP8VnFB8ewjg/731BukEXU7/+52pDbWZpv+FOtjyVnDM=")),
+                Pair.of("random", Codec.decodeRobot("U1IBAgAUABQAAAAAAAAAAAAAAAAAHADwAIAHABgAwAAADADAAQAAAAAAAAAAAAAAAAAAAAAAAAAAAAEAB2RlZmF1bHQAAAAAAAGQP7/Zj43mHRA/+VBXws65mD/tO1fJP/IWv9IZEzmBNr0/4RGtAPsU/T/vhT5w5+S3v+h3wzGbVaC/3Qy8JX9+esAArjSisG23QBzSAwIrhitAEdIc9zUKTb/YN6dreDyJQAEkFXyNQcBABQ4GxwR1tD/3Cp58LVXQP/XRl/rCR6pACG4A9zmXND/fN4FIm4ehP7ANrmwND9w/9rD9E+P7VL/4B05nf+sVv/zX0DbFqPBADkUKzQLdSUANo/rMiaG0P7hh4gjUj/hAAfTx6VAG17/ttBt7iawGQBgA3ABGUeg/67D9ClKg/kABrkvGEHwuwAjomF6WkAZAAJFTIPZT+kARMBmYPWZKP/woSlS0tLa/5fd2LQH2yj/UjRfvdkOOv89uNvoY34A/z/sg2Y2LJEAJMsI5PfhOP/V7wLWwd9+/orCmjC1vQEAGaHjiV2x+P4suo60JM2jADARaoUqSSb+9tnPOv6mMwAIJR1ZoiBI/534LtAha37/RL7KJw2+qv/YYCYVbx7rADzRL1XZv2MAHKQ6vVjm5P/KeyOvgxl9ACDp69tsdEL/oWsIWBrgAwARf8ZSCZ2w/+77CH1kNXz/8dPLbcz/VP/QSUtZgQZxAEYxvHYv0/7/5slCc/CUGwAdOMij2ALi/xvE0+iWUasAQs8IAh+WiP+KAuyQG9J6/5XAHxFfwJkAI/Au17yc8QAHIoG6suXhAEweyoD5td7+1EvMwhgwTP/EE7+IBnAe/7a05vTngar/XNZhorlHIP/8G+nwSdpQ/9U3L1g0/9j/1oakvyp5ZQAS5jc/90WC/9DWMK6agmr+/abMTpBrfv3JGZzbtgEhAE6e89SXWk7/AwET0FPkdQANOAuyl9/G/5aisN6w0JL/mKrxkWyDBwAEYlFknGBHAAMgXdHIouz+YEPCKu89YP+fijpfb54lAEPGipOZGyD/2Q0FoUUNSP/DB3tQ9N+y/8nrdqAqMGD/9E5HOKK23v/i78Sn7PfpACc1hRwZ41MADjyWv4jNSQATGNObAOwxABYYTH9TkaUAW5u3lDjx2QAUU3IbWv2RAAq7D+bE8tD/pGSJB9doKv/8yU0BU36Y/89z47xnFhUAVgPcooxjNwALXnM9YdQk/qShGlu56bL/UdSoBqxVrQAe1k0+gu01AEC0MvG3g7L/v0BcApNE6v/yofCzZuOo/+w4V98S547/ha8NmGVDTv/XGZ0pbHlS/32i5ux+7gD/ZRBEVYj2Kv/pZ2D1GBB4/6CJw4B05hr/3J9vPyGXZv9v7t1KlbnDACGehyjpeWT/V5zJOEUFgP92S0gs4nzg/9DUtzCYNHj+4QqU3+YPyP9D+BJaTnCG/h+bZ58B3kD/b7NdS4ebqv+htDi5BIeZACmFFyWQC2z/D7ioQNSu8v+2YxdeF58hAFOLycM9fsj/2vExxp7dYP7P5DuDTCBA/8640U2nn6L+/m8J7l6dIv+I8M/AiJqLAAWqN/WfYmL/3Ew8vTf2Tv/kYTWDwcqi/22aMn8G06MAAx74I+p8cQAo0qFsFPIk/qbxATT1Ltz/+qhJBbry3QAlpSmlb4hy/xH/aTOO4Nr/+CD7QZgZxwAIjRsn8ditAGfGkIsEWNj/hlceyaka0v5eelPjnXTC/14yO3dzwTL/pscdWGDQKv8w8et51NkJAANNZWkGsjD/0DgyRPZoQQBOpLFXDpETAEjHbbwaL7kACXMacw08Fv/XEWz7wBYRAAcoRuxYKMD/tldXUqP9EQANCU54wSmNAEPHwIAteEUAD+WG0IAoDv9hPz3SN+/DADzh2JYZB+j/9flEVIyR9QBDtXSnJjHS/0L5koQSWID/6fHqY4eUzP/Ee9p4eccXAA3Fw0nh6Xz/kmLr5G4UHQBZWbcKluow/4B5VIs08BsALTlhLztrfP+KHclr5VOrABVINLPu7gD/kspf14CrhP9abTYcH9yK//TBAtSXKxj/B3YmdZCzmQAUbrHwVBO6/74XeSunLV7+68h/BqVjswAc6O2L2XBy/8Uck8IoIt7/yNaWcPnw3v9zfKgtDO4RAFKqI2lY7zb/hIUwMCM3Uv+iouH2sPulAFFYpiIlQCj/7MuqoGsr/P/mVnAyhyz9AE01decg9uEACbDKhZEZGQArr4n1Y/Sg/756bxlAABj/1lr+Xhp7eQAC9Ykowvlc/2e2RPR62Gr/xzdNoeTr7P+IQQSgCXtJAEQ8/NgKJckAB77ErxArrQAOsH9nl+RVABXXOd7BKyUAE0zqL8dMRQA2dJ5H4zzhAAcWm5e1t8b/2Xmn0L4gMwAmPrYLjCrc//lW0dk7mukAA9He0hggYv+bJwjYUA0o/y+9LCjZUZz/tlLO7lPJEv/KyhnUL+eC/7CGZLtmOmb+DkQMRw0JAP+GavILqxG+/9BGPCYmZjj/ukwtkEyHxP+fBcey3WAjABy8rDltTiUAMrqis969WQBg2D7R2WSM/46TAaPLbtb/Nh1/EaFS0v/jM8QLlyVQ/xaSKOCOqQz/0OKDt/fa0P+uq9BJTfow/9ik42hJJPkAFp7uHwEdOQAjPIU1E48FAHCRKB6QjBT/nZLtVLXtEv/mlbRVHr0k/9dmPadK3pEAQ0q7KF4tUP//i9vEq2Jm//6dOvwm60EANj/I+iJUSv/XDmkBLW2A/0E+k7v0AUb+zuLu6dMRkQABexSDqTx0/0ddV1MNABcAFFmAJi/L5QBQuYZytBVo/2ZWgTwVFZUARY9n/D7hGP/dys85ea9BAAKclaAX6ZT/gjtgsbU0mQA1IbbUV99JAAQbCn+DxZr/Igq+b8sItQAVjMw2d/W9ABnlLZYwE/0ANwYGh+Hptv8xmPt8d+Es/2p8wn+YxgD/gnbLCjHgQP9M7wjaPlbZAAklgwEcg58ACm9xIyiLnv9QF1KxU0wC/8sxY2vU7p0ACsKACNOIUwAKklqY9JdBABv8ULDIziUAAWuJuM/dsv+1p+VASci1AAYKSR8Fss7/yXW0ZyrAlP/s8dz5hFXg/9KREBX7OycAOx4HRnEYav8UQghzOoiBAAHb8ao9QccADeOt0N6nBv/91Y2nm/ue/6qOumC4kAr/bfYvdNZ8cQCB8rO0m2TFAAxbqQpyseL/AX/ixuk7uQBMoao2XavhAAF86W91xxcAA1pntXL6yv/vCUNnbdrlAFsLg+bih60ALxtf9fBgFQA3fbfSxQKNABFSiIqMJZD/wdgdchrjzP/H8Fl+wh8+/87sV06YJ87/3xo3lJ4mkwAq6tVBC6JA/6Ptaoay4AT/j8fX/McMYQBClCVxYL0PACPbZvnDcur/guJvAPqeoQA3yR2HSDthAAB+76+qRsEADtcXZx20Cv/ke9Q8ueG6/wBB6aM+lGEAXCUd2Ix6gP/4wUwDAqmi/67IEYtYP7b/nSXJjXykEP/DodTGjeohACWFYSpmsbr/Zu7TtoR/EP/y8NjJDOZu/+67MMuu4pL/3APOrWiQsQApGBP7a5Q9AEGKi/aK1az/zLThbnSwXP6MYRPZHEgBAB73w9lirL0ARUg9erHF0P/n22MxAiZ7ABQG46huv8EADxPc6AeyQwAY6vh3XkPc/6fTeXxA3pUAPEdLiITypv/6cX433BxpAB+FJVnubiEACCfLTELYrv/8L2kGdnVS//YRzXTDmoj+3/SRO+fcAQAb4lueaYwS/uHvmNGKUIEAbU2+06acsv/CIwihDtl6/ww8l8yk4ukAUKCykID8VQAnXp5YaTBZABD+D+Py9yD/8zvvD85T2P9LO4PPDuOg/8E94UONl4j/2KM2FNdrZQALSJ7jYhoW/0UU7R4QHuT/HkxS4qbQAv/UTZ9tOpX8/4z9LDUjOfUABWOyvKL7wQBKZoW072tC/6weXHDDlFb/5C/xf1v8gP80YsbJYzmlAE4Q3ufkemEAQTP4xp6cwQASj6G20w08/8RiWsk3ZGT/JRWOapGULP/0rrHip0NxAABQgZO8/X7/6w9fYZ/imwAXv7W1S0aq/6efg/bnl28AQ92mTImjwQAOATsVsIFk/2XGfVyCiIEAGWyi8NzRiv/MQWyckBTZADDJ/y707dD/yY0DlUm6GP/T5eMQ35e5AHUP4rPMyMkACqn7wRHH5v/5DG2Q2Uya/5/Exde8kyUAQgj9Fb/HNv/WR3UGbIla//WoVEU/qecALNHW0Qf2KwAIl0siZjhRAEzIMSzBBZr/K+vxB/52av+LThSSFveZAF+DaTRFuAD/1flV8gaT4P81Cp5nSZVI=")),
+                Pair.of("box", Codec.decodeRobot("U1IBAgAFAAT//w8BAAdkZWZhdWx0AAAAAAAAFD/Au8upHeNeP1l3+5+kgVE/vSzltp6yzj/rjJE/LnV+v/MMJX2PubM/2J8bkmi7Wz+/+wDVHB+oP7AYbWhA9lpACNFX1kVmur/ouUvvMeFYP9Gx0Qli+fo/0NH0EGchnj/Kx28CwWOgP+xKiZ+lRas/+lAYx46HSj/pOiGICiOvP8jRxV2Av6q/5ZOWVEVBlD/p5TEmCyXZPyJ6vCRc98A="))
         );
 
         List<Pair<String, Robot<? extends Voxel>>> phaseEscapeRobots = List.of(
-                Pair.of("opt", it.units.erallab.Utils.safelyDeserialize("H4sIAAAAAAAAAOyaC3ATxxmA17L8Nn7IwclQXAgIghOQ6jpJSZhWViWZyCimsRwnwASzks7ymdNJOZ2M3DbOy+FRQvB4EBWoCDwlnpQwk3FS0iGlA3mBE8cphfQV2gmhGGIzNDC4BBtTenu3d5JtgkNmlUwT34xXu//++/3/vu5frbz7LEjxc2AezesCLM37dRQHGQY6dPUeP+d1eAWJ08tROq+jgXIKhSokO7TirCFr2ntrVUBlA5lOL8tzXoahOB7Mt9G8XgTpMUivgPQIpI9p+/UmJb/ABlIbvUGK8fNg9vUYAZ5m9As52rUg6BP8vmc8v+PM6appD1UeYJ087WX9Hbvu/P6+1rM9KpBkAxl1svhR0AxUIlp7HTTyQoe8eCNjZqHx7kN7VCDZCpLqhb9VNqDihV7k2RpgI5T8tdF+XvAXAJCO/gR4AaqUMEaOg01II/jkkaIth+C2ZJBkBWo//VNKbFK2So1SodGtYiMGsm4dzTZ6V1I6O8XRkBE0XTbocbigFx7eNLf47mdUINMKcmiPj7mf4uu9rkU061oGsp3Qxwc4ymXk3IKHBcskFxFQv1icX2EaciQlmnWbGOgX1PLjtESRoHSLPF6QsbI8xdVBJ4XVNXHqdh5xBP2ia+hLnlVCD4XGPMcGZnyukp12sxB5jjUzUM9Ee1gQ19U4YEFMOppQSLN+HrI8DXnKJalUN/mkWnHUUwOcPEDSiOMBan3/4e15/mJGBYCopxZdyBgxT3mxVmZvwMFQT7zyRkXxystqYa2ZQUojZAJUcIRaZcDjoLjVu0NFWZuOrxfZhn7+5a7bHg2L/IIDYGjVbwb/0SKVDJ9enVd6OvyYVCrLOxxybuuEUmn/pfOPTato6cbtNMwDKUU/GMR13aknCmsHt+DS/k/ShkpPncYUcLX3x4ztbWzh6qn/Nut0J3Fd0g839pj67sF1xzstOy5XLMClT864tup7GFw6P2f2K2c3b8MWPtDsvVpS9Q4uXe6PPpS3vhyXuoqPMRezj+B2/SUtJ0+pH8R1fS8+MNtT0YDrBuidM19LKpOt1x6bu7z3cexZ6qwn/nX7um55JC5kNhcdXIg1L23sa5x+cRiPRPaHVLtxSgRbOJNu7ji6PRvXZZ1+dS5cKo/g8SPP3Zz1URMuvT65Y8PzN7+Hmb27Ju//49PLsL1JLR90DesPYs0rW/1nltzXijWHOtUpXVc6ZM+Sz/yytHQWLmW8uqXFnr0da17U7NpjLOuV5+HAi9E7il7CzNPfGXhh8+p75d6CaQ23D+7Epdzlll9/FyzCfVDnvFWcqjXhdr2/p5Oez23DFi58lLvWvHcHruuZb1qaeWgdLp26YNv2iC6AmaoNf3ZOKbxV7t/f58042PFPXJr6vcofVejz5R4Nte4b+tkJef4G+zoH+3H/DFf6up/1D26S125d9u8uuTtx3ccrS/KtTo0yLsE9v62/Re67+8CKpnOyhXxH4ccnmn6O/RzeNeXeD/ecx6W3//0XrfX4Z9hC8kD344tmyqvnYtXA/OHpb+LSyefWfPrXA8o+2prb2pPrwb4M71sdqXpkKtYc2L25cMbfaoPCFs6P7U30LnJTnObEjp2fPblmvgq9nfEeRs1uEjY9QJkakZKqvORHvRd8XyhcyWFWjoxQeHvUoLj4n1/Vds2y3jdVCLlmkO6BwXIv56RsIKsOfUpvMB4sHDf8YgP6MQa05THQguANnAjE1n9IC+48t2LxPhWYZAb5kKNgFRRe5ffDoJlieCi4XMfR4st9KbiJoT00LzoARVE5A91moPYI73Mz0KAPI+sOMJAzQ49PCCBLQT4SmgR3ab+iL8psNEspemZQgGR22kXZKNbN14s+mEEWR/l5mg8gW2aQ6VfqzSDN70Mhyqzkym1AI+XsTlhX52VcQhYFy7hwbmEDHjuFIrrhMBCfsiXSZ5LhnJSRP5WM4Wip+Bj2bkHP1rL0kfKy6VIZHTxiZwNsSSvHedQf9iecN9iUknb0WGP1u38Sj2BZFEN5KJaXQ9ikZSAdi1AAj4/ziCg43sgBww1NsNY+elBwB4FGiFYcyIltGGQivtInhNL8+FAq+vDChv55pUf0YSWQNiPPIQ8m2a1mS63l4WpLVaXRNlJqrRwpzRSlpqrFdruiaLJUVlcZbZJUnphmDli+9N6L3xrxHUMWHTxIN1vt1cZKk8WHHnHfLyG/MBB2hYxDBe+EpQlLX5elb+hC901s4QlLX/cK/KqX+4RBwgaDwunqtjGnjdhl12IfL5yApcMciD1BHw/uHO/qSzkJCocT+S6LBynQ52OaeDB7ztgrneKxIh65N8rOtd3jwWRGvFnScgFWexd1l/A4SrQlPHhqzugLrjg7+DvTNUVf6HIvrqF0hTKiG1g0qr+fryhOfxZAtzoolyfk1CgjfQl9EC0F8RscSh5CyTMoWY2SNShZi5J1KPkFStaj5NnxoapEQJMTAVUnApqSCGhqIqBpBKEKaiM53kbCvDbCvBBhXpgwL0KYFyXMayfMq1EmmeD6I8hrI8wLEeaFCfMihHlRwrx2wrwaZVIIrj+CvDbCvBBhXpgwL0KYFyXMayfMq1EGkeD6I8hrI8wLEeaFCfMihHlRwrx2wrwapdME1x9BXhthXogwL0yYFyHMixLmtRPm1ShOElx/BHlthHkhwrwwYV6EMC9KmNdOmFejQAmuP4K8NsK8EGFemDAvQpgXJcxrv3FecNz/tkCSBFz5itzlKHGKPXHJPalDST1KGlDCjL2HTuAtdNLkr+r3iglLE5aua+kbutAT/kPSt2BpTFj6v9lYif/h9FtpMPg/AAAA//8DAAh08+BwMQAA", Robot.class)),
-                Pair.of("random", it.units.erallab.Utils.safelyDeserialize("H4sIAAAAAAAAAOzdeVQT1/4A8CEQDEQCgUgkGA2C0Wg0NYhEU02QxaWICtRqrdYAEaJsJgHBHdxwt9YFNyqKKz6ruPNsg0vdd6vUYq37AqK4ACogPya5X9S27/W93/nyjn+QcxxyZ+587nfu3GWWnOO2Uopp0FMddcZOSfE6o6GTVq+JjdVEdIqJM+gTIhLq1kQm6LWdEiJGayPrEqH0uuMjS1XsVmcyGBQjmLKPTIg36hNiY7V6I6UI1hllZkhGIFk9JKMh2bvcBpl//XdlMGWbnJCijTUYKfG/M5KMulhZb70uSpmSWBd3t7+L+73iOoXr4rRBSfGRRl1CvGHj1i7yg4tKzzIoq2DKbhSsHktNphhm2uvf0HQUnegoDtt5uvp1Pb6HQVn3paxi6v6NC6YYxrqjcAoerUnWWOIN1hmMdfFSFMWj/9XhLvRGC+On12tS6RwpaZeEK45r1lhTVn0pG4NuvJbexWrROBt6WbeTh3mnWE18dCddfHLCGG2nMK1ep4mtyxkVrImLiNIkaC4skUq6zmBQ9n0pji4uMba/1hiTEPWZLj5qGNU0UpNoTNJro/z00XURugyzhEiDsgHm81t3GjiWTLr4aP9YjaEuG/e9XOZVdZmaQ31pYvvGG7X6UZpILcnu/F72MCPt1OUX/kV+S2QhmjgtXeecYKr1v8wUpouO19CRk5x29JGZyyMr3jvU90CXd2v/KLjq4g1GTbxRpzFqoyxZwlMTLVvNJ8o2SQ8VZKlxUkGLzg35zskgiWVQlDmfjTkEuw/Ok9O7vQISkiJitVN3He4nGVNlU9fWAihmsiY2SZvyQbaQpLgIrX7mtqVC9pKbc8222v71c7lfppvZd1Hzta6Df8nfZUmpXoYOmLn5zX6SutLC73juRldLqsD+dIU6YtxKsp/T/piQFT/mWFKm6zu0I5omJ5LUE69W1+La3ic57e3yB3ZJ7EcUly/KhxylKFLCiedDzn25fgxJvR7j+dZ/7Tiyn0jnlz9t2FSSaur5uu1nJ+cThTpdNEH+rBXZxvglfDO32pmkXEPkJpnmRxJL5St964tdbpP9RBEHAra9yiQ5rRQdh6S19Sel35Sw+2cnBpFtjm5f2R+9vwTKc81988z2J5KzOmuxZG/Pe2Qbu+ob7ulhi0jKbUrLXm0+cySl3/7eLnVS7xSyjXVJe2lRnxBSgvPMdHe/nLVkm23rFunfuo6EGqxe+PiiKphsa3bGZZaioDtJNfG9dTp6MpvkLBsR2YnaeQWOfa3zsKMHrpOcXOnwNKFvOEk56D0+f95cDvX5D+Vmb2tSS6qfk4s5257OJdt47d2KRkTNg9Jdx36yrzwHWkF+90H8hJ5kv1uMz/s59OpM9nP5McJrUzopoaBpdKeulMAG6nNGXsfMBYfJfoUxqbJ9JYPJMZyZO/Pa7NPjob0E9vJve9sHzJE9vzDpMkjOGp3tniixhGwTrmcOSJpdQMzKjG/yvcVvIc6aQ8FLiy6SnOw10gEbj94hqSa3dx6+8YYNOZePfbLf9ii06zle//C8mwctpGOp3brqvSTFoYqYyTfGQ+/IKKrcFz2BRPbmy+bdJqaPhbOi+qfLSq0LSS0ZZtvW/Ro5twWuhya7He62HcxeletO/4OcW9OBizW+k8JfwrHfPzOl5/IBpLzTm4a7nL95iaR+HXS2V9yDzST1JsQ9feLFIGjzHeYeH/rgLRx7atjp1ltToK+0GJaxYOXV+h7w095VTycR5dSTAUlxmz8hStWqB1M1u38mOblvPL7TJo2GnjrC0PloZ9JeTC8lxcKigyqoQQ/XYe22e8OZLvxlpasmCmq+5Ny2FMUzaJGGoJL5vbaRFH/NgEn8Chc49tHJtxePfwDlja743iX0M2itQ9PvK+bfJKX/WiVpIXRZT1IPEoa2sK0hZ0XdzPlNn0c5TUjKfazvqo6B0Hps2xzZNNh/D0kJVugXdUjVE+XCBE0I//bvJFW98/vakpd94dx+d//+OsanJJbyVrtzhTNWkG2vf0oRtbUmY6vq8vzgtKKfhpASmN+Js6UtxTDSOm3ati4JWpbIZkXptJXNyLaFA37+ZnZfOL67b7K6SWxgjLzYtmWnDvMuk23lra4Nm6tbCXH+5v172sR4Up+OEUt5nWOOkf1eqdwWvOrVGvr07asVi1ccgbGnJKi6aH8N1LzN5GNN5pNeVWDVtmtfxbPJMFv0Lkz5bA6cMVbt3nXBN26Q0s+22e0erehFtnnMWLtA3gWifhZiU86fZ4CaZwUez4hwItsunJ4q7NqjgihXRxwacfMFtJ4XZ858/vjeCIjs8+FHR/UhZoHTsrk7HXuMgrNy7Hzw7K0PoY/xXKSdZ5Mep5qz4fCRgV85wbjUa3lptjeZLVT37218PnmHLZyj7Rt4PxhdYRxc3S17Jm8jKaHil9IJyk+HwSj84kTV7Fv9ybbnJcN9Z7YkNa9uGdC7lNeHRK3Kv1Fg9/u+HGhnTfwvLT70lCjM7d0Zht0wZrlcLp6529iG7Pd4Wup8Sn0D+kpwq9tfhn8OY5ZWkuNqPRui7ue8d9W4n6Be4qefby8n9aJ2OOe8bMxsqM/Sp6mHFtdak1RJhs+uNuNhtq8OHjR+awHM026zRtX0O9ULts3blyxuDSNt1cwtPQZ32URST+7tvna35FtSE0VTCi+U9FtKFLt9rR7F5VeSWKgsTq4gg8xHqoo3+72NRS1hfvhxecDV9eVkPypdqahwU5OUdQ/WufLN/nAeKnsEpz+uP6KVcXlbTsIoXOGXH/c8iwG93yDYYBNKZljTpV7UosT83WS/t80ddh0rriYl8L5nRma0hpo4tuzklysPQ1tq5W7Pz5sZCec960xB/91PoBdf6b0y+zXp/Wpr7/E/6ARkvDbVTlbEFJSTtqQ6sp55Y+2nZJYx/Xyid5R7WBkce9Cx01mTSA2q9r9c7VHDu0ByZgrtY2aEZkJ/X1RV47D0JdTStrxvZx8g45KqNjos/1gxmfEKbJ76Puvg3BRqfl50zZUmp6BvtnkSw+/eDOrMLSMw230dzCu/Jbx6ujARaskljTN8CPScZuqh4pNvybWbacKtjtm5VeQcqZ52FK9/2YfM6Grn8q6qGfYh0JIzFtwYZtMV+kPo5Ce7V8O8Yjfn1ukNLo4wvmROeLhWQWIp4BQe7neVTcorcP701Z5zG1oQxRj3RdeqBefIfizbVpw7W3LhPGRXTQocQ2rXdD96rp/f07Uw4x0vtu4vPQ4j0aweszrNXgKxjFvGKUn1gto94VEemwM1/zIzMu/pd9CLXUdvSe+z7xWM+lsKO448FQp9s1m+Xd607dCPAoKWr3XdDHU99O7QNUPHwxF1NFby7EkvNj06L7ZeyiJXuKaCduHJC2+eIak3L6Y0bzVXB336+uorqbFTYf6bt2NGy3+SeUXd4gpv1XTvzPp+O23Tr9vI6K26U+H7mWkXGUNUDxyb9PReRWZmU9Xx384dGO0L7fr7btqb3nAdwrMfmGOISoNzW5gdOL6I1JK6yY3Vsvt3IZZ1Hae3k5Wnkm3NZ5ryPt9vDcfQM726cMYUqJeZ4tPjW9+Fcd4mMWfuTTIfmb7hZam+XVsAY+vW1b7udq3grLw94ig9cIBsq9wZTUXtTYDylhw7rXoA1yH2TgdCZDxSg6ry6ui9whnLob30DDhWsXQ+pGo9DuTFBECcO6Zv0qXCHODY9FFlZuIaGFtl5yc+OgL3QHY1tXuYzVbDMTxqz2Bt7AxtYvPNWXM2JZP9HBMi7xaugxJurxP0O5hBxoICBnN7zZzBFZCavn9CvxZJ0KseHHtadvkVjGfOJ47/2AlMu8AyxZk0FZjZlV/n5cL1hJ065KDAE67Zm5UvHvE8MxF6gMotfHjGb2DyLhX2XEXuZdQMP9vroelCUnplaUDVLWNHkrpW3HHCobmdYD7aWr7Rod3X0F5Yb7LuhJE2WMB/OPJujAe5jlTdXvddXtEta2hLXcs+GdaTjG5qr+XTuj9xLCUpj4sJh8/tGQhnOinkXD/pIegdfavynOLVcHwTJ7ydwYeUTaVDSlJe/V3Izkh3PpuMLwXcDptzJos9yDahJq1H8SO443t8Z7uPw/5BJLV3XuCt2Veg9zO63/t66EmIzHnjTf+waSehlnSyIMmedBJZ9dvF/9R/BdfexWk3/bV66GNzapq9nsOFezwrf0osPUfGCbVbqNxhEA/uJl7lhgzcnvEcztEXC9Kqh4Nyc/WI857tlsGYVSP6fdZ8cgdmunHFo81YP0g9c07s/PZEc5K6ukc/qDLte5Iq27BicPDVxzCGOLs/vzQLrgRe/n752LlpcFdXnFvj0CW0mKQur+uee2kkqQmVJje41GEx3L+X5N2o7RAEdxqss8MH/di6EEaG/LU/Hw+cRo7dekiR4WVYFJTnFhbR/qECevjZ119ID5LriQJXzW8uxT1rybY7l9NCBuwkZ9r0tj9FRTvDvYyzwwyf4e1gXnnutLCXTeeTMHMdPT9idArMD273rpRN7UdmJ9XdBcrp13zJ9W4B6/HwXQc3wn1Vadosu8pYDpxpf5fb4+4KoLygid5eY7qQ/Wwvd935ym0BSTFHWZ8v2Ut6gOmuR/Mxl1MXwhm7N+BKyWIyept2fBLdtWw4C9rn08RBxrtwH1dYdjlY5PYrlFcZrT+S5QQzUIooyXc09FSrNVuiSh7ANR+DdfD8Vy7TiVKVZmxqu7UYju/k+a2Zw2FOtTqRf8djhR5qqV2gVZUD3PtaOTfNrt56kGyrEHeINYrcoZX7+l1fFDCH5Gx6tjShopg881BbO+dEHq6Eedrx18mPeJl3oLyDHV7vLGfB8cn9tnnlLyap8yZPefvtWaSE2iuLB819MRBqft21aU+j4HrQfVPhGdcX8JSDZa/tKXSCawZq/+HV02qfQQkit2EcDbQll73SLinX4Sr23uuVe/x+JmOr2kkxJSypJcx/z3ffnuFeTfpDgc20ebNcBLdgrEv44dm3S5ZDSzaUOgyZCaNUsyf+vHV51yGWOTsmZG09S1L8C88O9GxCeo5p1bJitcF4GJTxX/QXfeUHpb9dpNj8KAhGvmn7vBZmSaGv/HagS9m0qTBmTfxmzc5fYSZ5cX5fkF0/mA1fye/k6CXLYD56vCemtuM4iLNddsaIH0jUppvuh32LM+HpSEuHCWHNkmBcsrXNnXllHLlXMx0NvsAbXkvmFdPFLicr81uugLab6JBSsxOuGWp9t9xzPLcStq23PlVugPbZ/NSx4IeJYaSE5m2nCnptGwXH18WT+eAwzBYFNat/EM6Fe65Trey/ORY+HnrAyUluKeMvwfjyyZZJlcuhtZbNs7MRzbsIY8Gyr6/maeCe8nXu7siINdnQJtrffZhDTYdzOyImPP0szNp31hzwzX0A9yQuO24c3zuVXEOrytXpM2ecKIQ57tqu2fZX4VmCw9lu07eU7YP5aIUpq30cqRe1QOmY1aIInmS8ZLivrWkHs2/TzmM3ZEfCdRZzow1zYzIpXfWL+NOxQ0rJ0wPTm4fDx/lPIVfUpltnW/T45Wn9yFe9eVPRAu8Ug57ivnv2Sz/rjtbqnW+vzalMm6Vg0E//yTNiejf6jQFV98XKUte29S8R6NR7z50TG/zzn7xugddE8GZHExGrHUy/1ylf/fWJNn37tGBQjACKFadJCUrQR2qDKfYo+q/lCbyR6v23r49IAbI/FeAV9A5SpvwXb7TMe//QJCWnbOSAgwzKIYDiavRaTajGqEvor0kJ0MYaNXUhj9LrzC8nvqR4sbo4ndEcgMa8KihWEx1A2cRpDIYAypn+4xcfnRSr0Qdo4hJ18dFfUlx6pX9duDpDfX7zumBdvLY+XwDlQq8L00Vpg7Xx0cYYcwwBFFuvNRh1xiS6rADK3lC/PYBqYkikX7EE1H8LCqacLd/CIjWjRiXERtV9pV/2vPc6KjA+KS5MS7+RUl2gzB/1UMtfK1WZ5Qv8rf+iuuxt/qgOrKA/K9WsD9erRZY0/eLs3bstUpIXvKeijyd+oD4hJZXZ5HJRcvipi+ZXiGxtrDZOG2+EVzAOwygWWUW/gHr/PRUt1gWerKdU/9UJ9gr7Y6WQA6ScKaquuXDedUi6iPc3JibpIYZ3GZSb5xd39L4ky6x/ETSZ7qQ7jZRDWN+AwK8Dh4QHhob4BX+4tm/Ih2vtzWv9QweEhdVn9A8MCQ/1C7ashRMzWU8F/r/73vtd4/0Do0vMM1KsgL5h4X4h/oH0kGK1pQHaBO1upxe7kujlbrq66C976cV+epFPLw5CkXTC9BcD0EcV38cVTWNtNdZWY219DNE01lZjbTXW1scQTWNtNdbW/662/jeflLo7n7Z/uhN490PKAYnGurtTy40W9e6Tkmikuvzdzyrr79Lqbhzgd5JGiqlJTIxNNVLidn/+uaDkz6uMdHh/KOevwzNSzWLNv1r00ifFe/lofeo+EZ29Ohup9HZ//PHke+WQ5yV/ueo/+uHoeztafp73wWGQVX843n+d0fwchk3RvxikvzmR1kOZf7hgtYFuovSXjfRiE72oohfV9KKGXrylF7V1CwbdsBh0Zgbj71FGQ6DWDYHaNATKbAjUtiHQJg2BshoCtWsI1L4hUHZDoE0bAnVoCJTTEKhjQ6BODYFyGwJ1bgjUBREFisFE88wUpsdC9tjIHgfZ4yJ7PGSPj+wJkD0hsidC9jyRPTGyJ0H2pMieDNmTI3s+yJ4C2VPiepb5g4UXHxPZYyF7bGSPg+xxkT0essdH9gTInhDZEyF7nsieGNmTIHtSZE+G7MmRPR9kT4HsKXE9y/zBxouPieyxkD02ssdB9rjIHg/Z4yN7AmRPiOyJkD1PZE+M7EmQPSmyJ0P25MieD7KnQPaUuJ5l/uDgxcdE9ljIHhvZ4yB7XGSPh+zxkT0BsidE9kTInieyJ0b2JMieFNmTIXtyZM8H2VMge0pczzJ/cPHiYyJ7LGSPjexxkD0ussdD9vjIngDZEyJ7ImTPE9kTI3sSZE+K7MmQPTmy54PsKZA9Ja5nmT94ePExkT0WssdG9jjIHhfZ4yF7fGRPgOwJkT0RsueJ7ImRPQmyJ0X2ZMieHNnzQfYUyJ4S17PMH3y8+JjIHgvZYyN7HGSPi+zxkD0+sidA9oTIngjZ80T2xMieBNmTInsyZE+O7PkgewpkT4nrWeYPAV58TGSPheyxkT0OssdF9njIHh/ZEyB7QmRPhOx5IntiZE+C7EmRPRmyJ0f2fJA9BbKnxPUs84cQLz4mssdC9tjIHgfZ4yJ7PGSPj+wJkD0hsidC9jyRPTGyJ0H2pMieDNmTI3s+yJ4C2VPiepb5Q4QXHxPZYyF7bGSPg+xxkT0essdH9gTInhDZEyF7nsieGNmTIHtSZE+G7MmRPR9kT4HsKXE9y/zhiRcfE9ljIXtsZI+D7HGRPR6yx0f2BMieENkTIXueyJ4Y2ZMge1JkT4bsyZE9H2RPgewpcT3L/CHGi4+J7LGQPTayx0H2uMgeD9njI3sCZE+I7ImQPU9kT4zsSZA9KbInQ/bkyJ4PsqdA9pS4nmX+kODFx0T2WMgeG9njIHtcZI+H7PGRPQGyJ0T2RMieJ7InRvYkyJ4U2ZMhe3JkzwfZUyB7SlzPMn9I8eJjInssZI+N7HGQPS6yx0P2+MieANkTInsiZM8T2RMjexJkT4rsyZA9ObLng+wpkD0lrmeZP2R48TGRPRayx0b2OMgeF9njIXt8ZE+A7AmRPRGy54nsiZE9CbInRfZkyJ4c2fNB9hTInhLXs8wfcrz4mMgeC9ljI3scZI+L7PGQPT6yJ0D2hMieCNnzRPbEyJ4E2ZMiezJkT47s+SB7CmRPietZ5g8fvPiYyB4L2WMjexxkj4vs8ZA9PrInQPaEyJ4I2fNE9sTIngTZkyJ7MmRPjuz5IHsKZE+J61nmDwVefExkj4XssZE9DrLHRfZ4yB4f2RMge0JkT4TseSJ7YmRPguxJkT0ZsidH9nyQPQWyp8T1LPOHEi8+JrLHQvbYyB4H2eMiezxkj4/sCZA9IbInQvY8kT0xsidB9qTIngzZkyN7PsieAtlT/vdeihm0rWN49D9zyo6irBaNs6GX////+P4//dAlWm1RXaDMH/VQy18rVZnlC/yt/6K67G3+qA6soD8r1awP16tFlrTZ3U4vdtE1ZbWb1JTVXnqxn17k04uDUCSdMH1c0TTWVmNtNdbWxxBNY2011lZjbX0M0TTWVmNtNdbWxxDNn2vrf/NJ+T8AAAD//wMAxIJKNwS1AAA=", Robot.class)),
-                Pair.of("box", it.units.erallab.Utils.safelyDeserialize("H4sIAAAAAAAAAOxYa2wUVRQ+XdrSdi3pS0KiiI8KtMpueBSRGtqm08LK0JJuA0hN4O7u7XZgdmaduVu2PhBQQARSghDFgBpFNKbBhMcPFGPSYGpECcIPgo9EIP5BG16+EhPwnnnsblugYoZo4kyyZ+4999zvfPecuWdnbk8/5OgaTJKYL6FITPdRjcgyCfk6YrqmhlSuCasa9amhZTTMOy2o61vaX+Md9+VLHvCIUBBWFaapskw1BjNEifkNIL8F5E8B+RHIn7bW/fWpdrUIuZ1qkso6g/E3w0gwSfbP1qRIdTLOeT86HO8Md75WKUYbE0qYSaqi7/lg2pTDW/q/8kCWCPnttvopWAkeA7r8JtDIwocsevMfGF03ve+gB0YEIKuD/1aI4GF8FUXiMtJJTL6ipDPOFwCy+Q/jXYqDJkydppEutEiuPjF2Rx/ZNQKyApCtS09TY0rZCpxUxifdZ0ySiRL1SUqnupz6glSTiMwtIyKJhSJEJce3PVwxfa0HCgIwSorF5XmUdaiRuZISaYM7wiTOEhqN1GlRzrC0zaSIgP5mI788DaNMI0mJ1stE52bFGVaGihuNseNF5IDCqNZOwtQyL8kwDzLE4fZjr2NvMmsiMYoxHyXC/Tc0CkpRhSBzyzIfV2b4sxQZS80ALE1rByOMlhSdEYVJhNGIadLaFTdHjajnJjQ7QGbErQBtObbozSK9QvYAmAk1KOQPyFNRepagJkIyXbW/9/GK5X9m82dNgJxOIidocoBZUyIWotq6nu1jvdt+2Ghg1xYtGPOT8uFlA7+05uPaudnCtdNW78ir87fvgm6z9+nFPeTMu03PWWNXz+6t3LnslNW7vH+h/1S01+pd8QfWV7yx3OzV5r99IX5ugmChXLjr9JOfHRhjWR7cOef7zQXnrd6lK4fe6+nbb1n2z71fO+edaY317s052lbqtcauXpr187VxH1m93e/88cuBo8/Y3he+fCxwZqrlPWt26Meeb67a8579bl/15iPWGMy6Z8pvrNBeQ+7GfVWvrE/y0BanY4bPSJRqJWff2v376vUzPLhrrNjitDKeDMBGpYGSm9p8Q/M1bBGxi59drwjP6QKsVr/uXPL5g4E5d/NCKEBejCQbVS1MRfC24918rhjMHrYoWg78QxyUN6aBqpO3UKeN2Z+MTO6+uLT5sAcKBSgmGiUthG+weSQpUJkRTrldk4wttxjKZCkmMYMAMVSNMokKkB3ju0yAErzVKdGETDSBxOJ8Wy+GYlTWc7qSnrI3dKKk0JSdAKWoC0oRKlIlyjoMDgJ4NaoziSXQlwAFempcgJF6HAuHkGo1ilBitoJh0t6uyhHexBKWUWQblEQsSLHO1hwH46p9wrxn1Vw0G/Y91ag5OdW4ag7twOv12ryB+tp7zT7+HaQrtuWp3K6+uB5lvqYmu3JGnvy2s/WLr40/Ri+VaYwqzC4shW2QZ6mwrGZWX0TkxDs1qLmlBJcHBwfFWiCU8Bqiwaj0dkEXmYNxXuCKMwucweH9zecnTT3hfy1V3lYi8yoGhcGA0LCkYVFrQ0tTnThQG2gaqC0wtPUtzcFgyrC+oam1pU40tXZiVmrQ8I/3XubWyFwYepzOIE8IBFvrmuobjA0/6TY8E4g7BcUjCZQzMFzYmIniMRSzUNTaLrFT77Jx2bhsXDYuG5eNy8Zl47L5/7BJ8vf7CUPed9OHYM1xxr/BzM8JSF/JOINpwx2Jpb5F+OuxfcbFIIfE43IXg/EThx71VAxVMaQ3yM/16TG4UzZOnMq1hFJeRav4FZpcPpnBmomDD74y/Fjf7NdV/a1Dv4yJ5tHKgGVYqkHrvbGhkUYv4GkPtorsLJYYAxX4qGCjEsVDKJ5HsQrFahRrULyA4kUUa1GsGx7UcztAR9wO0GwHQVNQG5zD2+Aw3iaH8bodxtvqMF5latEO5sNBvE0O43U7jLfVYbzKFEkH8+Eg3iaH8bodxtt663jJYY6Hsf+feYNw2bhsXDYuG5eNy8Zl47Jx2bhs/qWzrL8AAAD//wMAWgIW2jkmAAA=", Robot.class))
+                Pair.of("opt", Codec.decodeRobot("U1IBAgAIAAgEfwz8CAgICAEAB2RlZmF1bHQAAAAAAABAP+p0ssgncZjAAPp3qfnchD/v/y0z55h9QBDQlWOdsWG/+PF9H0qEy8ASbFEFHTf5v8sG4hZf+Zm/v+gH+jPm50AA/+VCbEzFP//m/n4uLuRAAT2PzUPpOT/gsUWg+0o7P+jrZJovzWw/8Sgms+2Wnb/UErn/MVLJv/vqnlcQi0a/yCnbbPYM0j/qMYTk5gRVv+mrUSZtSmo/9GmkI7oBQD/gX9ssXuV/QAYlgOMqictAEPMKfh3GRz/4j+l2IPb8wAzaZaFBGpu/6whEptOfDMAL57YsYVphv+DSjhcL33m/wRWmjaUXzD/lqhW/z4NbQA2E1Mj8L8a//Zpz61lIkD/6sQQFyP2mQBAD65czMyVACbaZhFMMnz/2Eqq1QUDlQADAq54rHa+/5xv0qJaGOkAGAB9qKvmkQA9eRaMeAEvABA7EKQYkQ7/lu2kBpQ+SP/PfD4hEuaC/zThDWgrHib/m80ydXS51QAKN1WMaFiFADdktIsam3UAcME4+Si8RQBD6kLz6e+I/6vnpsfnqJT/96cuMc/mUwABmDLf4Z7E/4WsxEUljEkAQA3i1tGgYQABnwGB58BFAEWIW4eJ5fL/8qho62rXxv8Xu1iRJ4PfAA/TLf0sjVb/2UvQ4/CDDv+SOh+/XwJjAAJoPkM0PbT/8vIabUl0cv/SslhYi2F8=")),
+                Pair.of("random", Codec.decodeRobot("U1IBAgAUABQAAAAAAAAAAAAAAAAMAMAAAAwAwAAADADAAAAMAMAAAAwAwAAAAAAAAAAAAAAAAAAAAAEAB2RlZmF1bHQAAAAAAAGQQAr58jJBmBlAF2UWVti6sz/0Uk+GqPq4P9UcQcerphbACsv2QGJ3mkAQuGhOmb6kv9ywZV4MdnC/7iQf2W0n5kAKCbpQNHBKwBNX9VjEAAA/yPJYzlqjaz/5ayP+Q6B3QCBpQbqDW4BADCP5J0vJjcAAy9t7MvEfQALYVKgR/BJAFk4yvy9hvr/3+HIi0TTiwCBiuUSs+JhAATgtWIEnQz/gKQtNoXBGQA8ZXArE5pTAABar+vEGxT/8npIptj7lwAv7kRHLW5DAGX8eQiVLD7/irwl5fUd4wAjSZdKQSE5AEoaCG0GkoMAGIhyCkxZgv+78j+zRP0zAFcwThzjAOsAHN+HLZ34Lv/BeYy4AsdVAFqASW8S53MARLF2BHTdUwA1yIVXyGDJADK07qDMDvj/UduoOrO+LQBQqGdteZIzAFRZxMLf1pMAKujpRF28+P+ECVUoNQjFAE75iJKeCMsAMZy42ABoEQA+Fsi2YjsI/12h5L7frVr/Mi4bZict6QApFQkMn4jVAE2A+V79piL/9aQa1ZCYpQB2jBU91icA/94iRujMm/sAK/cFMldvRQAudLE+mxONAB+Kxwt76C8AKl3HuuAbEQBCKJK0j5LJAAS3tCaL8tkAOANsFdt56P9WI2/e3Z3u/+loYOXyCcb/wP7sTmmUTv5RbBicb2WDAFsF+GcI5rkAOQveiy606v7nR/Td9VPRAE+bMfz6XTz/Lp10Tz+DSP9pRzUJt56g/+k4bgnzRRr/3K4vHWef+QAt5U8siqnhAAhxbiI6a1kABOMW2m+99P8ruT3VtqDC/+5vngGG01EAR+iGfZXVqP/leczHEMYu/9CnqHdu8P0AQIRZbKK4zP9fX2JoWYWRAB+vOrHg48cANc0brjUKswBedT30X9hNAE2p24pJ65z/5avavE1JLP9RZguY4jeC/2vspHB0To7/nb1kcBv17QBUS+kjppAdAG3E3my1FKUAGJcOnVkO1QBqZcpAreXK/0HthThfi37/8sa//6/RJv/Cf5uaiAjw/9R+0qx2Fmb/5xXggJwMZP9ONTIHbxVhABZ8moSweJj/0EKesonW2QCAEme2DmhU/j0/UkYlJ4L/k+p45KQRrP9EnHi4rjNO/9R/ZW4tpmr/83TPfgXxuwA9ilRQxaMY/+D8ZjvhCIsAV4tb2kpnDwAbrRvzbuP1AEwR+xgeNwMABJzZJOPF+QBdH13hLiqzACP+2okze3r/NJbQbZzhCwCGFoI4yNGs/8U4E9ReMc0AGCEXHiGIQP9DLgB02Pfa/1l7BXuDzMz/zzMxV7OVeQBNVXcRmSGvAEJaLsQ89Zr/wxs9MiarowBYUEywxiWA/iqXCw1BcEMAMQpftoTMSP+blpvJ+sAZABa6lFL10FkAUnDmhhhSmv/bY7Xs7PFvAB/PI+4nhTb/y6103hh5uQB5ER+0USF4/ut7ACd+3pEAaB0PSksHvwAWuOgJztP7AE9PqhrR0JT/sg3mNAEDewA1MH+JaVFXACmUppBYDiUAFShK2m3fFwBBuhM8qMmZADc4SlmuJMz/t73nBkv8DP+uINbMlerg//ExReqrASsAZh2b9SspCP/yMt3YmIsA/+4apPVY0pz/u5bTZ5OuTv9t/19DrSpXACbcf6W2690AAng6rGohUP/b6uDN02x5AD76XRNaj9cAAgjs49hlAwAM9CM71qEO/9vc9TILsMz/tmm2yqcl7v/ZBum3yngJAFXMapQRSoL/SQgCQcLq0P/4YDbPG6vzAFK8FY4giuD/GlslamsLowB8bCheyhmPAB57MwE207j/01UeaofmZQAMzer1pGk+//344aMD1Fj/DowXeoDzEv9TIR2QbU/BAD0bGy559kz+49Jwh/RTQv5gdCmiFUpi/9ZD7/Q2V9MAArLKTiblJP/9nU7rG6tHABO838SsSDEAAjGf91QfKwCEl7mgXOhW/9hmIRaEboj/a3W/4749wP/4TgQ5dWBDAFUBZJsn+AL974S2hq/tAP+8tJqP0SFZAEvU2P4UKTj/siI7eWwQ2P7pSfu60nNRACYrhy6UTD0AXmHvooDiiwA7XwkrWCwDAEjz4tc6lHD90bVc2+47OQAgGHw7jqatAA6H7fUVr8L/mZ4tBQe+gQAHH6gNNLMdABoc9hy6JlEAJd5YO63kkwADIIfVspJi/9Jhjsu+fpEAWaqmCSLf4v/mp1y1gylLAChW6CbKDrsAZREaXoBaov/ZZ5FmdWXrAEi109xQKib/pzyYDlQiNv8AoVHaP4My/+vN/GB+LaUAN3JzVeWyAv9qMsIUeuyZAHNUUm4QzmD/8jIOn2qx+P+P2N0u/s1U/5w8HPjObZL/7x93OuWo3P/SvOWXgM/RAFApQpHNkgUAS16FFetskQAfenC/m5IC/oi2EKC/1eUAYhr+yVbgDv/o+gvzXhX/AGYYmy3oi5D/zBHCki+DDv5EUnj+ToMC/8qqcNxsJH8AA/sMPLLm5v/exZwBktm9AGJTGyz/nP0AKELlOLxTMP/X8Z7YdhZdACD5ExvaVjUAI/yG5smhEv/qwhKdpeRZADwzp95hwncAQL8986cOaQAn9/7UFFZw/8+kqAgimMb/5qOCHiqd2wA9vY+TXokS/4qIaSryIxMACBa79ilb2wAKEuHtKHHU/7+fG7/DT+EAVEsjHvi52wAlF8DjMgT+/4qH3X7KrtkAJQE68GiOkwBX1kl7ymHBAAT8ZVF2I3UAVFNLXPpvlQAJBBtxSgh0/9+1E++F0LT/Z6i17wYsuwA2q9aYNKF8/9Aj6nuNTJsAX6GDkaCEwP+Kin7Lb4QNAFDbwMFs+0EAkl4M67g/tQCHRb8LOtVDAAHVOzkoswb/pSfuyEG5AQAl8e/6FF0BABPcNeHWyMUATsWMbFwvUwBErqKR+JiFAHWGBPerpQz/s4641DbhRP7aMReGJ1STAAjrlX1nJ7UASpuBDU4PJQAJpL0YptYK//P6Su3JcRr/qgeBDZXJVP4r9FfmKEaDAAUMAJizOUkAZUjINURR6P/irTlCuiPJAAVeOgfxdVT/gnF7PIyiWQAb9IN+HjT6/3tUhJXFBPr/xEnAx/sgYv9a1clH3ga+/8KWZVkzW7EANEhvy0ocDP/Tf08bOgz4/6qv9DTRS6j/Tojqr0mDtP2GrTO0NkgA/67Le/ytG/kAIzV1RviLXQAe6oNTHRYPAA1jbc/RTZD/0GVNiKug4v/LN+VcsvKfAFmHdE+o+/7/j04FOT7FAv/5NAABnEnhAEg2FNV0oNj/yEI9CBDHJP/7Ez15qeM5AGeXV8IBKVj/kjjuE2Tf9wAjsXbO8ptI/7YGHCfdsDkACQxPid+QaQBJGfDMkazTABtM2sfgZjsAFZgPP67Ymv+QhGGvTeY9ABuVP1euSab+wMGc28F0IwBHvcFF05Kg/1/DTTCAZ2kAS92dyw54Qv/R4IHU3auVAAZ2pZOvnxcACCLzPXBOEP/uBdAwGqurACMnPqphdosAByLrjIZlyP/4oRQH7DcRAARIMofyqvD/2JitsdCAbv/w3QdyQRIpADM3tb/bqkEADEqRjwvcAwA/afukUmOPAAbwr+bH1CD/XMkGsJLqSP8+/IzIqrp6//9WSUYvzUEACotmD72T1wBun18wW89VACAplPh0QD0AAuMKcg//xP9cgGVsOYafAE7YsNHjcQj/l+Zq1QdR1QBA4f1N1HmS/8rTihRv8A8AEg4yHExrhwA1vvfGTlJfAA3PtDViGUMAV7kMUorLcQACKsHueqs1AF9DxuT4H7b+blupAc3TCwAN6V00gXEG/8v6QOKjpRsAAg7ckj54sP/TduTTwg4A/7HyRnbHaRL/zz7dGCUq5v/gy46RyKZY/8+y1aP8td8AVKKGIXr1Qv+AbwjfqmNFAHg17UxV1UkAGBquG1Xdzv8RM0BRd/7a/0TTJ97oemcARcA14/bE3P/83qeUPzprAEaMDyvVzxcAYysZM6HBTQBgngBpCrGY/9DQjBefCMD/A/Zy9HYumv8ofCpHGVHq/9Ml9GXh60kAHMKl995e8P/CMCQQgjNE/8pZf1rJh9r/5q7RjYp2hwBMq5OikAITADV5oVILNMb/jnbk3q+ceQBOw3se2gAw/9UCChoXI18AX2bOJCtYpQA3NOYSp8LdABJm/niptN0AaOw+eHNvnP/QCG6D9KN1ADDFxpaFj9EAFpgQFpnYeP9gmPHFY7Vi/+uhdd0N/Tr/hzRw92O82P/L8qKfbjjM=")),
+                Pair.of("box", Codec.decodeRobot("U1IBAgAFAAT//w8BAAdkZWZhdWx0AAAAAAAAFEAQVhjrbq/yP7tASwRE/9k/xJdQlZ0Aj7/wpmHhpU59P/7iriqcatc/8rNXL9dnwj/zL0mHKZ5rQAmi73DjJ0S/7xvZXMW0GD+1nEjdjQrqP/Hzuaesx7O/7UsicuMLOj/CrgXLWxMLv/7xPuz/H7q/pKP49LTLez/zV4rOSeEzQAFHYuWs2v6//nzcsjuNxEAAPh4y9nQNP/IGi7I1k4c="))
         );
 
         // new centralized
@@ -192,11 +169,11 @@ public class RobotValidator {
                 String[] data = row.split("\t");
                 String robot = data[0];
                 String locomotionRobot = data[1];
-                locomotionRobots.add(Pair.of(robot, it.units.erallab.Utils.safelyDeserialize(locomotionRobot, Robot.class)));
+                locomotionRobots.add(Pair.of(robot, Codec.decodeRobot(locomotionRobot)));
                 String jumpRobot = data[2];
-                jumpRobots.add(Pair.of(robot, it.units.erallab.Utils.safelyDeserialize(jumpRobot, Robot.class)));
+                jumpRobots.add(Pair.of(robot, Codec.decodeRobot(jumpRobot)));
                 String escapeRobot = data[3];
-                escapeRobots.add(Pair.of(robot, it.units.erallab.Utils.safelyDeserialize(escapeRobot, Robot.class)));
+                escapeRobots.add(Pair.of(robot, Codec.decodeRobot(escapeRobot)));
             } else {
                 firstLine = false;
             }
@@ -0,0 +1,25 @@
+package it.units.erallab;
+
+import it.units.erallab.hmsrobots.core.objects.immutable.Snapshot;
+import it.units.erallab.hmsrobots.viewers.SnapshotListener;
+
+// snapshot listener that needs a snapshot only every given interval of simulated time, e.g., one per video frame
+// tasks of this package build snapshots only at those times (see SnapshotSampler); other tasks send all of them
+public interface SampledSnapshotListener extends SnapshotListener {
+
+    double getInterval();
+
+    static SampledSnapshotListener of(SnapshotListener listener, double interval) {
+        return new SampledSnapshotListener() {
+            @Override
+            public double getInterval() {
+                return interval;
+            }
+
+            @Override
+            public void listen(Snapshot snapshot) {
+                listener.listen(snapshot);
+            }
+        };
+    }
+}
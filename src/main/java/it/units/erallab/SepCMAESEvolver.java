@@ -0,0 +1,65 @@
+package it.units.erallab;
+
+import it.units.malelab.jgea.core.Factory;
+import it.units.malelab.jgea.core.Individual;
+import it.units.malelab.jgea.core.order.PartialComparator;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+// sep-CMA-ES (Ros and Hansen, 2008): the covariance matrix is diagonal, and its learning rates are scaled by (n+2)/3
+public class SepCMAESEvolver<G, S> extends LargeScaleCMAESEvolver<G, S> {
+
+    private double cC;
+    private double c1;
+    private double cMu;
+    private double[] pC;
+    private double[] c;
+    private double[] d;
+
+    public SepCMAESEvolver(
+            Function<? super G, ? extends S> solutionMapper,
+            Factory<? extends G> genotypeFactory,
+            PartialComparator<? super Individual<G, S, Double>> individualComparator,
+            Function<? super G, double[]> toGenes,
+            Function<double[], ? extends G> fromGenes,
+            int populationSize,
+            double initialStepSize) {
+        super(solutionMapper, genotypeFactory, individualComparator, toGenes, fromGenes, populationSize, initialStepSize);
+    }
+
+    @Override
+    protected void initModel() {
+        cC = (4 + muEff / n) / (n + 4 + 2 * muEff / n);
+        c1 = Math.min(1, (n + 2) / 3d * 2 / ((n + 1.3) * (n + 1.3) + muEff));
+        cMu = Math.min(1 - c1, (n + 2) / 3d * 2 * (muEff - 2 + 1 / muEff) / ((n + 2) * (n + 2) + muEff));
+        pC = new double[n];
+        c = new double[n];
+        d = new double[n];
+        Arrays.fill(c, 1d);
+        Arrays.fill(d, 1d);
+    }
+
+    @Override
+    protected void transform(double[] z, double[] y) {
+        for (int i = 0; i < n; i++) {
+            y[i] = d[i] * z[i];
+        }
+    }
+
+    @Override
+    protected void updateModel(double[] yW, boolean hSigma, List<double[]> selectedYs) {
+        double h = hSigma ? 1 : 0;
+        double decay = 1 - c1 - cMu + (1 - h) * c1 * cC * (2 - cC);
+        for (int i = 0; i < n; i++) {
+            pC[i] = (1 - cC) * pC[i] + h * Math.sqrt(cC * (2 - cC) * muEff) * yW[i];
+            double rankMu = 0d;
+            for (int k = 0; k < selectedYs.size(); k++) {
+                rankMu = rankMu + weights[k] * selectedYs.get(k)[i] * selectedYs.get(k)[i];
+            }
+            c[i] = decay * c[i] + c1 * pC[i] * pC[i] + cMu * rankMu;
+            d[i] = Math.sqrt(c[i]);
+        }
+    }
+}
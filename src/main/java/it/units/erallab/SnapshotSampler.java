@@ -0,0 +1,48 @@
+package it.units.erallab;
+
+import it.units.erallab.hmsrobots.core.objects.WorldObject;
+import it.units.erallab.hmsrobots.core.objects.immutable.Snapshot;
+import it.units.erallab.hmsrobots.viewers.SnapshotListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// builds the snapshots of an episode for a listener, possibly null, only when the listener needs them
+// objects that do not move, e.g., the terrain, are made immutable once and shared by all the snapshots
+public class SnapshotSampler {
+
+    private final SnapshotListener listener;
+    private final double interval;
+    private final List<WorldObject> still;
+    private List<Object> stillImmutables;
+    private double next = 0d;
+
+    public SnapshotSampler(SnapshotListener listener, List<? extends WorldObject> still) {
+        this.listener = listener;
+        this.interval = listener instanceof SampledSnapshotListener ? ((SampledSnapshotListener) listener).getInterval() : 0d;
+        this.still = new ArrayList<>(still);
+    }
+
+    public void sample(double t, List<? extends WorldObject> moving) {
+        if (listener == null || t < next) {
+            return;
+        }
+        if (stillImmutables == null) {
+            stillImmutables = new ArrayList<>(still.size());
+            for (WorldObject worldObject : still) {
+                stillImmutables.add(worldObject.immutable());
+            }
+        }
+        // a new list for each snapshot, since listeners may keep it
+        List<Object> immutables = new ArrayList<>(stillImmutables.size() + moving.size());
+        immutables.addAll(stillImmutables);
+        for (WorldObject worldObject : moving) {
+            immutables.add(worldObject.immutable());
+        }
+        listener.listen(new Snapshot(t, (Collection) immutables));
+        if (interval > 0) {
+            next = (Math.floor(t / interval) + 1) * interval;
+        }
+    }
+}
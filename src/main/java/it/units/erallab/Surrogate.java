@@ -0,0 +1,269 @@
+package it.units.erallab;
+
+import java.io.*;
+import java.util.*;
+import java.util.function.Function;
+
+// online surrogate of a fitness function to be maximized: a linear model of some features of the solutions, fitted by
+// recursive least squares on the solutions evaluated with the real fitness
+// after a warm-up, a solution is evaluated for real only if it is promising, i.e., the prediction plus exploration times
+// its standard deviation is not below the given quantile of the last real fitness values, or if it is picked for an
+// audit; otherwise, its fitness is the prediction
+// errors are measured on the real evaluations, each predicted before the model is updated with it
+// the model changes only in nextGeneration(), to be called between generations (e.g., by a listener of the evolver),
+// with the real evaluations of the generation in a fixed order, and audits are picked by a hash of the key of the
+// solution, the seed and the generation: hence decisions do not depend on the order in which concurrent evaluations
+// end, and a solution whose fitness was predicted may be audited when it is evaluated again in a later generation
+// predicted solutions are remembered while they are alive, so that they can be told apart (e.g., in a checkpoint)
+// solutions whose real fitness is known (e.g., cached) are never predicted, and each key is learned only once
+public class Surrogate<S> implements CheckpointedEvolver.FitnessState<S> {
+
+    private static final double INITIAL_COVARIANCE = 1e3;
+    private static final int WINDOW = 200;
+
+    private static class Evaluation {
+        private final int keyHash;
+        private final double[] x;
+        private final double prediction;
+        private final double value;
+
+        private Evaluation(int keyHash, double[] x, double prediction, double value) {
+            this.keyHash = keyHash;
+            this.x = x;
+            this.prediction = prediction;
+            this.value = value;
+        }
+    }
+
+    private final Function<? super S, double[]> features;
+    private final Function<? super S, ?> key;
+    private final int warmUp;
+    private final double auditRate;
+    private final double exploration;
+    private final double quantile;
+    private final long seed;
+
+    private final int d;
+    private final double[] weights;
+    private final double[][] covariance;
+    private final double[] recentFitness = new double[WINDOW];
+    private double squaredErrors = 0d;
+    private int nOfErrors = 0;
+    private int realEvaluations = 0;
+    private int predictions = 0;
+    private int generation = 0;
+    // the real evaluations of the current generation, not yet in the model
+    private final List<Evaluation> pending = new ArrayList<>();
+    private final Set<S> predicted = Collections.newSetFromMap(new IdentityHashMap<>());
+    // hashes of the keys already in the model, as a key evaluated concurrently by many threads may be computed once
+    // and then found in a cache
+    private final Set<Integer> learned = new HashSet<>();
+
+    // key identifies solutions with the same fitness, e.g., the canonical shape of a body
+    public Surrogate(Function<? super S, double[]> features, int nOfFeatures, Function<? super S, ?> key, int warmUp, double auditRate, double exploration, double quantile, long seed) {
+        this.features = features;
+        this.key = key;
+        this.warmUp = warmUp;
+        this.auditRate = auditRate;
+        this.exploration = exploration;
+        this.quantile = quantile;
+        this.seed = seed;
+        // one more weight for the intercept
+        d = nOfFeatures + 1;
+        weights = new double[d];
+        covariance = new double[d][d];
+        for (int i = 0; i < d; i++) {
+            covariance[i][i] = INITIAL_COVARIANCE;
+        }
+    }
+
+    private double[] x(S solution) {
+        double[] x = Arrays.copyOf(features.apply(solution), d);
+        x[d - 1] = 1d;
+        return x;
+    }
+
+    private double[] times(double[] x) {
+        double[] px = new double[d];
+        for (int i = 0; i < d; i++) {
+            for (int j = 0; j < d; j++) {
+                px[i] = px[i] + covariance[i][j] * x[j];
+            }
+        }
+        return px;
+    }
+
+    private static double dot(double[] a, double[] b) {
+        double dot = 0d;
+        for (int i = 0; i < a.length; i++) {
+            dot = dot + a[i] * b[i];
+        }
+        return dot;
+    }
+
+    private void update(double[] x, double y) {
+        double[] px = times(x);
+        double denominator = 1d + dot(x, px);
+        double error = y - dot(weights, x);
+        for (int i = 0; i < d; i++) {
+            weights[i] = weights[i] + px[i] / denominator * error;
+        }
+        for (int i = 0; i < d; i++) {
+            for (int j = 0; j < d; j++) {
+                covariance[i][j] = covariance[i][j] - px[i] * px[j] / denominator;
+            }
+        }
+        recentFitness[realEvaluations % WINDOW] = y;
+        realEvaluations = realEvaluations + 1;
+    }
+
+    private double threshold() {
+        double[] sorted = Arrays.copyOf(recentFitness, Math.min(realEvaluations, WINDOW));
+        Arrays.sort(sorted);
+        return sorted[(int) Math.floor(quantile * (sorted.length - 1))];
+    }
+
+    private boolean audited(int keyHash, int generation) {
+        long hash = seed * 0x9E3779B97F4A7C15L + keyHash * 0xC2B2AE3D27D4EB4FL + generation;
+        return new SplittableRandom(hash).nextDouble() < auditRate;
+    }
+
+    public Function<S, Double> wrap(Function<S, Double> fitness) {
+        return wrap(fitness, solution -> OptionalDouble.empty());
+    }
+
+    // known gives the real fitness of the solutions for which it is already available, e.g., in the caches of fitness
+    public Function<S, Double> wrap(Function<S, Double> fitness, Function<? super S, OptionalDouble> known) {
+        return solution -> {
+            OptionalDouble knownValue = known.apply(solution);
+            if (knownValue.isPresent()) {
+                return knownValue.getAsDouble();
+            }
+            int keyHash = Objects.hashCode(key.apply(solution));
+            double[] x = x(solution);
+            double prediction;
+            synchronized (this) {
+                prediction = dot(weights, x);
+                if (realEvaluations >= warmUp && !audited(keyHash, generation)) {
+                    double variance = (nOfErrors == 0 ? 0d : squaredErrors / nOfErrors) * (1d + dot(x, times(x)));
+                    if (prediction + exploration * Math.sqrt(variance) < threshold()) {
+                        predictions = predictions + 1;
+                        predicted.add(solution);
+                        return prediction;
+                    }
+                }
+            }
+            double value = fitness.apply(solution);
+            synchronized (this) {
+                pending.add(new Evaluation(keyHash, x, prediction, value));
+            }
+            return value;
+        };
+    }
+
+    // updates the model with the real evaluations of the generation that just ended, and forgets the predicted
+    // solutions that are not alive anymore
+    public synchronized void nextGeneration(Collection<? extends S> alive) {
+        pending.sort(Comparator.<Evaluation>comparingDouble(e -> e.value).thenComparing((e1, e2) -> Arrays.compare(e1.x, e2.x)));
+        for (Evaluation evaluation : pending) {
+            if (!learned.add(evaluation.keyHash)) {
+                continue;
+            }
+            if (realEvaluations > 0) {
+                squaredErrors = squaredErrors + (evaluation.value - evaluation.prediction) * (evaluation.value - evaluation.prediction);
+                nOfErrors = nOfErrors + 1;
+            }
+            update(evaluation.x, evaluation.value);
+        }
+        pending.clear();
+        Set<S> aliveSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        aliveSet.addAll(alive);
+        predicted.retainAll(aliveSet);
+        generation = generation + 1;
+    }
+
+    @Override
+    public synchronized boolean isEstimated(S solution) {
+        return predicted.contains(solution);
+    }
+
+    @Override
+    public synchronized void markEstimated(S solution) {
+        predicted.add(solution);
+    }
+
+    // the model, the errors, the window, the counters and the learned keys; real evaluations not yet in the model are
+    // not saved
+    @Override
+    public synchronized byte[] save() {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(baos)) {
+            output.writeInt(d);
+            for (int i = 0; i < d; i++) {
+                output.writeDouble(weights[i]);
+                for (int j = 0; j < d; j++) {
+                    output.writeDouble(covariance[i][j]);
+                }
+            }
+            for (double fitness : recentFitness) {
+                output.writeDouble(fitness);
+            }
+            output.writeDouble(squaredErrors);
+            output.writeInt(nOfErrors);
+            output.writeInt(realEvaluations);
+            output.writeInt(predictions);
+            output.writeInt(generation);
+            output.writeInt(learned.size());
+            for (int keyHash : learned) {
+                output.writeInt(keyHash);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return baos.toByteArray();
+    }
+
+    @Override
+    public synchronized void restore(byte[] state) {
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(state))) {
+            if (input.readInt() != d) {
+                throw new IllegalArgumentException("The surrogate state has a different number of features");
+            }
+            for (int i = 0; i < d; i++) {
+                weights[i] = input.readDouble();
+                for (int j = 0; j < d; j++) {
+                    covariance[i][j] = input.readDouble();
+                }
+            }
+            for (int i = 0; i < WINDOW; i++) {
+                recentFitness[i] = input.readDouble();
+            }
+            squaredErrors = input.readDouble();
+            nOfErrors = input.readInt();
+            realEvaluations = input.readInt();
+            predictions = input.readInt();
+            generation = input.readInt();
+            learned.clear();
+            int nOfLearned = input.readInt();
+            for (int i = 0; i < nOfLearned; i++) {
+                learned.add(input.readInt());
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot restore the surrogate state", e);
+        }
+        pending.clear();
+    }
+
+    // root mean squared error of the predictions of the real evaluations
+    public synchronized double getRmse() {
+        return nOfErrors == 0 ? Double.NaN : Math.sqrt(squaredErrors / nOfErrors);
+    }
+
+    public synchronized int getRealEvaluations() {
+        return realEvaluations;
+    }
+
+    public synchronized int getPredictions() {
+        return predictions;
+    }
+}
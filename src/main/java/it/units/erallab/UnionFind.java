@@ -0,0 +1,65 @@
+package it.units.erallab;
+
+import java.util.Arrays;
+
+// disjoint sets of the elements 0..n-1, with union by size and path halving
+public class UnionFind {
+
+    private final int[] parent;
+    private final int[] size;
+    private int largest = 0;
+
+    public UnionFind(int n) {
+        parent = new int[n];
+        size = new int[n];
+        Arrays.fill(parent, -1);
+    }
+
+    // adds the element as a singleton set; elements not added belong to no set
+    public void add(int i) {
+        if (parent[i] < 0) {
+            parent[i] = i;
+            size[i] = 1;
+            largest = Math.max(largest, 1);
+        }
+    }
+
+    public boolean contains(int i) {
+        return parent[i] >= 0;
+    }
+
+    public int find(int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    // returns the size of the merged set
+    public int union(int i, int j) {
+        int rootI = find(i);
+        int rootJ = find(j);
+        if (rootI == rootJ) {
+            return size[rootI];
+        }
+        if (size[rootI] < size[rootJ]) {
+            int tmp = rootI;
+            rootI = rootJ;
+            rootJ = tmp;
+        }
+        parent[rootJ] = rootI;
+        size[rootI] += size[rootJ];
+        largest = Math.max(largest, size[rootI]);
+        return size[rootI];
+    }
+
+    public int sizeOf(int i) {
+        return size[find(i)];
+    }
+
+    // size of the largest set
+    public int largest() {
+        return largest;
+    }
+}
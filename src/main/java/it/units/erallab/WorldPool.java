@@ -0,0 +1,103 @@
+package it.units.erallab;
+
+import it.units.erallab.hmsrobots.core.objects.WorldObject;
+import org.dyn4j.dynamics.Body;
+import org.dyn4j.dynamics.Step;
+import org.dyn4j.dynamics.StepAdapter;
+import org.dyn4j.dynamics.World;
+
+import java.util.*;
+import java.util.function.Function;
+
+// per-thread dyn4j worlds with their terrain already in place, to be reused across evaluations
+// a world is taken with acquire() and given back with release(), which removes everything added after the terrain
+// a thread that runs a nested evaluation while holding a world (e.g., a fork/join worker) gets another world
+// the steps simulated by the worlds of a thread are counted, for benchmarks, when the worlds are released
+public class WorldPool {
+
+    private static final int MAX_KEYS_PER_THREAD = 16;
+    private static final int MAX_WORLDS_PER_KEY = 4;
+
+    private static final ThreadLocal<Map<Object, Deque<PooledWorld>>> POOL = ThreadLocal.withInitial(() -> new LinkedHashMap<>(MAX_KEYS_PER_THREAD, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, Deque<PooledWorld>> eldest) {
+            return size() > MAX_KEYS_PER_THREAD;
+        }
+    });
+    private static final ThreadLocal<long[]> STEPS = ThreadLocal.withInitial(() -> new long[1]);
+
+    public static class PooledWorld {
+        private final Object key;
+        private final World world;
+        private final List<WorldObject> terrain;
+        private final List<Body> terrainBodies;
+        private long steps = 0;
+
+        private PooledWorld(Object key, World world, List<WorldObject> terrain) {
+            this.key = key;
+            this.world = world;
+            this.terrain = Collections.unmodifiableList(terrain);
+            this.terrainBodies = new ArrayList<>(world.getBodies());
+            world.addListener(new StepAdapter() {
+                @Override
+                public void end(Step step, World world) {
+                    steps = steps + 1;
+                }
+            });
+        }
+
+        public World getWorld() {
+            return world;
+        }
+
+        public List<WorldObject> getTerrain() {
+            return terrain;
+        }
+
+        // brings the world back to its state right after the terrain was added
+        private void reset() {
+            world.removeAllJoints();
+            Set<Body> kept = Collections.newSetFromMap(new IdentityHashMap<>());
+            kept.addAll(terrainBodies);
+            for (Body body : new ArrayList<>(world.getBodies())) {
+                if (!kept.contains(body)) {
+                    world.removeBody(body);
+                }
+            }
+            // the broadphase is rebuilt in the insertion order of a new world, so that simulations do not depend on the previous ones
+            world.getBroadphaseDetector().clear();
+            for (Body body : terrainBodies) {
+                body.setAsleep(false);
+                world.getBroadphaseDetector().add(body);
+            }
+        }
+    }
+
+    private WorldPool() {
+    }
+
+    // worlds with the same key must be built in the same way by setUp, which adds the terrain and returns it
+    public static PooledWorld acquire(Object key, Function<World, List<WorldObject>> setUp) {
+        Deque<PooledWorld> worlds = POOL.get().get(key);
+        if (worlds != null && !worlds.isEmpty()) {
+            return worlds.pop();
+        }
+        World world = new World();
+        return new PooledWorld(key, world, setUp.apply(world));
+    }
+
+    public static void release(PooledWorld pooledWorld) {
+        STEPS.get()[0] += pooledWorld.steps;
+        pooledWorld.steps = 0;
+        pooledWorld.reset();
+        Deque<PooledWorld> worlds = POOL.get().computeIfAbsent(pooledWorld.key, k -> new ArrayDeque<>());
+        if (worlds.size() < MAX_WORLDS_PER_KEY) {
+            worlds.push(pooledWorld);
+        }
+    }
+
+    // steps simulated so far by the worlds released by the calling thread
+    public static long steps() {
+        return STEPS.get()[0];
+    }
+}